@@ -0,0 +1,66 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * The entry point of the application when it runs without a GUI, e.g. in scripts and server-side jobs.
+ *
+ * Reads commands from standard input, one per line, and prints the result of each to standard output,
+ * until the input ends or an exit command is run. Exits with status 1 if any command failed.
+ * Unlike {@code Main}, this does not load any JavaFX classes, so it also runs from the headless jar
+ * built by the {@code headlessJar} Gradle task.
+ */
+public class HeadlessMain {
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    public static void main(String[] args) throws IOException {
+        logger.info("=============================[ Initializing AddressBook ]===========================");
+        AppParameters appParameters = AppParameters.parse(args);
+        AppInitializer initializer = new AppInitializer(appParameters.getConfigPath());
+
+        boolean hasFailed = runCommands(initializer.getLogic(),
+                new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        initializer.stop();
+        if (hasFailed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Executes each non-blank line of {@code input} as a command, printing its result.
+     *
+     * @return true if any command failed.
+     */
+    private static boolean runCommands(Logic logic, BufferedReader input) throws IOException {
+        boolean hasFailed = false;
+        String commandText;
+        while ((commandText = input.readLine()) != null) {
+            if (commandText.isBlank()) {
+                continue;
+            }
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                System.out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                System.out.println(e.getMessage());
+                hasFailed = true;
+            }
+        }
+        return hasFailed;
+    }
+}
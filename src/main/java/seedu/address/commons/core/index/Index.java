@@ -1,9 +1,15 @@
 package seedu.address.commons.core.index;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents a zero-based or one-based index.
+ * An {@code Index} can instead hold the stable id of a record (see {@link #fromId(long)}), for inputs that address a
+ * record independently of the list currently displayed.
  *
  * {@code Index} should be used right from the start (when parsing in a new user input), so that if the current
  * component wants to communicate with another component, it can send an {@code Index} to avoid having to know what
@@ -11,11 +17,14 @@ import seedu.address.commons.util.ToStringBuilder;
  * convert it back to an int if the index will not be passed to a different component again.
  */
 public class Index {
+    private static final long NO_ID = 0;
+
     private int zeroBasedIndex;
+    private long id;
 
     /**
-     * Index can only be created by calling {@link Index#fromZeroBased(int)} or
-     * {@link Index#fromOneBased(int)}.
+     * Index can only be created by calling {@link Index#fromZeroBased(int)}, {@link Index#fromOneBased(int)} or
+     * {@link Index#fromId(long)}.
      */
     private Index(int zeroBasedIndex) {
         if (zeroBasedIndex < 0) {
@@ -23,16 +32,50 @@ public class Index {
         }
 
         this.zeroBasedIndex = zeroBasedIndex;
+        this.id = NO_ID;
+    }
+
+    private Index(long id) {
+        if (id <= 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        this.id = id;
     }
 
     public int getZeroBased() {
+        assert !isId() : "An id has no position";
         return zeroBasedIndex;
     }
 
     public int getOneBased() {
+        assert !isId() : "An id has no position";
         return zeroBasedIndex + 1;
     }
 
+    /**
+     * Returns true if this index holds a record id rather than a position.
+     */
+    public boolean isId() {
+        return id != NO_ID;
+    }
+
+    public long getId() {
+        assert isId() : "A position has no id";
+        return id;
+    }
+
+    /**
+     * Returns the item this index addresses: the item at this position in {@code shownList}, or, if this index holds
+     * an id, the item that {@code findById} finds for it. Returns an empty {@code Optional} if there is no such item.
+     */
+    public <T> Optional<T> resolve(List<T> shownList, LongFunction<Optional<T>> findById) {
+        if (isId()) {
+            return findById.apply(id);
+        }
+        return zeroBasedIndex < shownList.size() ? Optional.of(shownList.get(zeroBasedIndex)) : Optional.empty();
+    }
+
     /**
      * Creates a new {@code Index} using a zero-based index.
      */
@@ -47,6 +90,13 @@ public class Index {
         return new Index(oneBasedIndex - 1);
     }
 
+    /**
+     * Creates a new {@code Index} holding the positive record {@code id}.
+     */
+    public static Index fromId(long id) {
+        return new Index(id);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -59,11 +109,14 @@ public class Index {
         }
 
         Index otherIndex = (Index) other;
-        return zeroBasedIndex == otherIndex.zeroBasedIndex;
+        return zeroBasedIndex == otherIndex.zeroBasedIndex && id == otherIndex.id;
     }
 
     @Override
     public String toString() {
+        if (isId()) {
+            return new ToStringBuilder(this).add("id", id).toString();
+        }
         return new ToStringBuilder(this).add("zeroBasedIndex", zeroBasedIndex).toString();
     }
 }
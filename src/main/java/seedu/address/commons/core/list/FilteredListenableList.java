@@ -0,0 +1,211 @@
+package seedu.address.commons.core.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable view of the elements of a source {@link ListenableList} that match a predicate, in source order.
+ * The view follows the changes made to the source, testing only the elements that were added, and notifies its own
+ * observers of the resulting changes to the view.
+ * A predicate must be pure, as described in {@link ListenableList}, so that the view stays up to date between changes
+ * to the source, and setting a predicate equal to the one in use leaves the view as it is. With assertions enabled,
+ * setting an equal predicate checks that the view still holds its matches.
+ */
+public class FilteredListenableList<T> extends AbstractList<T> implements ListenableList<T> {
+
+    private final ListenableList<T> source;
+    private final List<ListObserver<? super T>> observers = new CopyOnWriteArrayList<>();
+    private Predicate<? super T> predicate;
+
+    // Source positions of the matching elements, in ascending order
+    private int[] matches = new int[0];
+    private int size;
+
+    /**
+     * Creates a view of all the elements of {@code source}.
+     */
+    public FilteredListenableList(ListenableList<T> source) {
+        this.source = requireNonNull(source);
+        source.addListener(this::onSourceChanged);
+        refilter();
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return source.get(matches[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the predicate in use, or null if every element is shown.
+     */
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows only the elements of the source that match {@code predicate}, or all of them if it is null.
+     * Does nothing if {@code predicate} equals the predicate in use, as the view already holds its matches.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        if (Objects.equals(predicate, this.predicate)) {
+            assert holdsMatches() : "The predicate in use is not pure: " + predicate;
+            return;
+        }
+        this.predicate = predicate;
+        List<T> removed = new ArrayList<>(this);
+        refilter();
+        fireChanged(0, removed, new ArrayList<>(this));
+    }
+
+    /**
+     * Shows the elements of the source at {@code matchPositions}, in ascending order, as the matches of
+     * {@code predicate}, without testing any element. The positions must be exactly those of the source elements
+     * matching {@code predicate}, e.g. as returned by {@link #getMatchPositions()} for an equal predicate while the
+     * source has not changed since.
+     * Does nothing if {@code predicate} equals the predicate in use.
+     */
+    public void setPredicate(Predicate<? super T> predicate, int[] matchPositions) {
+        requireNonNull(matchPositions);
+        if (Objects.equals(predicate, this.predicate)) {
+            assert holdsMatches() : "The predicate in use is not pure: " + predicate;
+            return;
+        }
+        this.predicate = predicate;
+        List<T> removed = new ArrayList<>(this);
+        matches = matchPositions.clone();
+        size = matches.length;
+        fireChanged(0, removed, new ArrayList<>(this));
+    }
+
+    /**
+     * Returns the positions in the source of the elements shown, in ascending order.
+     */
+    public int[] getMatchPositions() {
+        return Arrays.copyOf(matches, size);
+    }
+
+    private void refilter() {
+        matches = new int[source.size()];
+        size = 0;
+        int i = 0;
+        for (T element : source) {
+            if (isMatch(element)) {
+                matches[size++] = i;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Returns true if the view holds exactly the source elements matching the predicate in use. Tests every element.
+     */
+    private boolean holdsMatches() {
+        int matchCount = 0;
+        int i = 0;
+        for (T element : source) {
+            boolean isShown = matchCount < size && matches[matchCount] == i;
+            if (isShown != isMatch(element)) {
+                return false;
+            }
+            if (isShown) {
+                matchCount++;
+            }
+            i++;
+        }
+        return matchCount == size;
+    }
+
+    private boolean isMatch(T element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    /**
+     * Applies a change to the source to this view: drops the matches among the {@code removed} elements, shifts the
+     * matches after them, and tests only the {@code added} elements.
+     */
+    private void onSourceChanged(int from, List<? extends T> removed, List<? extends T> added) {
+        int removedEnd = from + removed.size();
+        int lo = firstMatchAtOrAfter(from);
+        int hi = firstMatchAtOrAfter(removedEnd);
+
+        List<T> removedMatches = new ArrayList<>(hi - lo);
+        for (int i = lo; i < hi; i++) {
+            removedMatches.add(removed.get(matches[i] - from));
+        }
+
+        List<T> addedMatches = new ArrayList<>();
+        int[] addedPositions = new int[added.size()];
+        for (int i = 0; i < added.size(); i++) {
+            T element = added.get(i);
+            if (isMatch(element)) {
+                addedPositions[addedMatches.size()] = from + i;
+                addedMatches.add(element);
+            }
+        }
+
+        int shift = added.size() - removed.size();
+        int tail = size - hi;
+        int newSize = lo + addedMatches.size() + tail;
+        int[] updated = newSize <= matches.length
+                ? matches
+                : Arrays.copyOf(matches, Math.max(newSize, matches.length * 2));
+        System.arraycopy(matches, hi, updated, lo + addedMatches.size(), tail);
+        System.arraycopy(addedPositions, 0, updated, lo, addedMatches.size());
+        for (int i = lo + addedMatches.size(); i < newSize; i++) {
+            updated[i] += shift;
+        }
+        matches = updated;
+        size = newSize;
+
+        fireChanged(lo, removedMatches, addedMatches);
+    }
+
+    /**
+     * Returns the position in this view of the first match whose source position is at least {@code sourceIndex}.
+     */
+    private int firstMatchAtOrAfter(int sourceIndex) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (matches[mid] < sourceIndex) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    @Override
+    public void addListener(ListObserver<? super T> observer) {
+        observers.add(requireNonNull(observer));
+    }
+
+    @Override
+    public void removeListener(ListObserver<? super T> observer) {
+        observers.remove(observer);
+    }
+
+    private void fireChanged(int from, List<T> removed, List<T> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        for (ListObserver<? super T> observer : observers) {
+            observer.onChanged(from, removed, added);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.address.commons.core.list;
+
+import java.util.List;
+
+/**
+ * Receives the changes made to a {@link ListenableList}.
+ */
+@FunctionalInterface
+public interface ListObserver<T> {
+
+    /**
+     * Called after the elements {@code removed}, which started at position {@code from}, were replaced by the
+     * elements {@code added}. Either list may be empty, but not both. The lists are only valid during the call.
+     */
+    void onChanged(int from, List<? extends T> removed, List<? extends T> added);
+}
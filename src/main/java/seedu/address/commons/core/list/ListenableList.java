@@ -0,0 +1,25 @@
+package seedu.address.commons.core.list;
+
+import java.util.List;
+
+/**
+ * A list that notifies its observers of the changes made to it.
+ * Unlike a JavaFX {@code ObservableList}, it does not depend on JavaFX, so the model can be used without a UI.
+ *
+ * Views derived from a listenable list, such as {@link FilteredListenableList}, only re-examine the elements that a
+ * change replaces. A predicate filtering such a view must therefore be pure: its result may only depend on the
+ * element it tests, never on state captured elsewhere such as a set of matches found earlier, and predicates that are
+ * equal must give equal results.
+ */
+public interface ListenableList<T> extends List<T> {
+
+    /**
+     * Registers {@code observer} to be notified after each change to this list.
+     */
+    void addListener(ListObserver<? super T> observer);
+
+    /**
+     * Stops notifying {@code observer}. Does nothing if it is not registered.
+     */
+    void removeListener(ListObserver<? super T> observer);
+}
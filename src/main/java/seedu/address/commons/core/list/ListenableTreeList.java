@@ -0,0 +1,358 @@
+package seedu.address.commons.core.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A {@link ListenableList} backed by a {@link PersistentList}.
+ * Each modification notifies the observers once, including {@link #setAll(Collection)} and {@link #clear()}.
+ * Reading, replacing, inserting and removing an element by position take O(log n) time, and so does finding the
+ * position of an element with {@link #indexOfSame(Object)}. Replacing the whole contents takes O(n) time, since the
+ * position of every new element is recorded for the latter.
+ * Since the backing list is never modified, {@link #snapshot()} and {@link #contents()} take constant time and do not
+ * make later modifications any slower.
+ *
+ * Modifications may also be grouped into a batch, between {@link #beginBatch()} and {@link #commitBatch()}. While a
+ * batch is open, modifications are applied to {@link #latest()} only, this list keeps showing the contents from before
+ * the batch, and only the range of positions the batch changed is published to the observers when it is committed.
+ *
+ * The list itself is not thread-safe and must be confined to one thread, but its snapshots may be read from any.
+ */
+public class ListenableTreeList<T> extends AbstractList<T> implements ListenableList<T> {
+
+    private PersistentList<T> elements;
+    private final List<ListObserver<? super T>> observers = new CopyOnWriteArrayList<>();
+    // Order keys of the up-to-date elements in their backing list, by element instance
+    private final Map<T, Long> keysByElement = new IdentityHashMap<>();
+
+    // Contents including the changes made in the open batch, or null if the batch has not changed anything yet
+    private PersistentList<T> pending;
+    private int batchDepth;
+    // The changes made in the open batch all lie between the first changedFrom and the last unchangedAtEnd elements
+    private int changedFrom;
+    private int unchangedAtEnd;
+
+    public ListenableTreeList() {
+        elements = PersistentList.empty();
+    }
+
+    /**
+     * Creates a list holding {@code elements}. Takes O(n) time, since the position of every element is recorded for
+     * {@link #indexOfSame(Object)}.
+     */
+    public ListenableTreeList(Collection<? extends T> elements) {
+        this.elements = PersistentList.copyOf(elements);
+        recordKeys(this.elements);
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Returns the current contents of this list, which later modifications do not affect. Takes constant time.
+     * Excludes the changes made in a batch that is still open.
+     */
+    public PersistentList<T> contents() {
+        return elements;
+    }
+
+    /**
+     * Returns the up-to-date contents of this list, including the changes made in a batch that is still open.
+     * Later modifications do not affect them. Takes constant time.
+     */
+    public PersistentList<T> latest() {
+        return pending == null ? elements : pending;
+    }
+
+    /**
+     * Returns the position of the instance {@code element} in the up-to-date contents of this list, including the
+     * changes made in a batch that is still open, or -1 if it is not in the list. Elements are compared by identity
+     * rather than with {@code equals}, and each instance must be in the list at most once to be found reliably.
+     * Takes O(log n) time.
+     */
+    public int indexOfSame(Object element) {
+        Long key = keysByElement.get(element);
+        return key == null ? -1 : latest().indexOfKey(key);
+    }
+
+    /**
+     * Returns the position of the instance {@code element} in the contents this list shows, which exclude the changes
+     * made in a batch that is still open, or -1 if it is not among them. Elements are compared by identity, as in
+     * {@link #indexOfSame(Object)}. Takes O(log n) time, or O(n) while an open batch has changed the list.
+     */
+    public int indexOfShown(Object element) {
+        if (pending == null) {
+            return indexOfSame(element);
+        }
+        int index = 0;
+        for (T shown : elements) {
+            if (shown == element) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this list, which later modifications do not affect.
+     * Takes constant time. Observers may be added to the snapshot, but are never notified since it never changes.
+     * The snapshot may be read from any thread.
+     */
+    public ListenableList<T> snapshot() {
+        return new Snapshot<>(elements);
+    }
+
+    /**
+     * Starts a batch. Until the matching {@link #commitBatch()}, modifications are applied to {@link #latest()}
+     * without being published. Batches may be nested; only the outermost commit publishes.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}. When the outermost batch ends, the range of
+     * positions changed during the batch is published to the observers as a single change, in time proportional to
+     * the size of that range rather than of the list.
+     *
+     * @return true if the list changed.
+     */
+    public boolean commitBatch() {
+        assert batchDepth > 0 : "commitBatch() called without a matching beginBatch()";
+        batchDepth--;
+        if (batchDepth > 0 || pending == null) {
+            return false;
+        }
+        PersistentList<T> updated = pending;
+        pending = null;
+        return publish(updated, changedFrom, unchangedAtEnd);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T old = latest().get(index);
+        long key = latest().keyAt(index);
+        keysByElement.remove(old, key);
+        keysByElement.put(element, key);
+        update(latest().withSet(index, element), index, latest().size() - 1 - index);
+        return old;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        PersistentList<T> current = latest();
+        if (!current.hasKeyRoomAt(index)) {
+            current = current.withFreshKeys();
+            recordKeys(current);
+        }
+        PersistentList<T> updated = current.withAdded(index, element);
+        keysByElement.put(element, updated.keyAt(index));
+        update(updated, index, current.size() - index);
+    }
+
+    @Override
+    public T remove(int index) {
+        T old = latest().get(index);
+        keysByElement.remove(old, latest().keyAt(index));
+        update(latest().withRemoved(index), index, latest().size() - 1 - index);
+        return old;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}.
+     * Observers are only notified of the range that differs, leaving out the leading and trailing elements that are
+     * the same objects in both.
+     * Takes O(n) time, since the position of every element in {@code replacement} is recorded for
+     * {@link #indexOfSame(Object)}, even if {@code replacement} is a {@code PersistentList}.
+     */
+    public void setAll(Collection<? extends T> replacement) {
+        requireNonNull(replacement);
+        PersistentList<T> updated = PersistentList.copyOf(replacement);
+        recordKeys(updated);
+        update(updated, 0, 0);
+    }
+
+    @Override
+    public void clear() {
+        setAll(PersistentList.empty());
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        PersistentList<T> old = latest();
+        PersistentList<T> updated = old;
+        for (int i = fromIndex; i < toIndex; i++) {
+            keysByElement.remove(updated.get(fromIndex), updated.keyAt(fromIndex));
+            updated = updated.withRemoved(fromIndex);
+        }
+        update(updated, fromIndex, old.size() - toIndex);
+    }
+
+    @Override
+    public void addListener(ListObserver<? super T> observer) {
+        observers.add(requireNonNull(observer));
+    }
+
+    @Override
+    public void removeListener(ListObserver<? super T> observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Records the keys of the elements of {@code contents}, which are about to become the up-to-date contents.
+     */
+    private void recordKeys(PersistentList<T> contents) {
+        keysByElement.clear();
+        contents.forEachWithKey(keysByElement::put);
+    }
+
+    /**
+     * Replaces the up-to-date contents with {@code updated}, which differs from them only after the first {@code from}
+     * and before the last {@code unchangedAtEnd} elements. Publishes the change unless a batch is open.
+     */
+    private void update(PersistentList<T> updated, int from, int unchangedAtEnd) {
+        if (batchDepth == 0) {
+            publish(updated, from, unchangedAtEnd);
+            return;
+        }
+        if (pending == null) {
+            changedFrom = from;
+            this.unchangedAtEnd = unchangedAtEnd;
+        } else {
+            changedFrom = Math.min(changedFrom, from);
+            this.unchangedAtEnd = Math.min(this.unchangedAtEnd, unchangedAtEnd);
+        }
+        pending = updated;
+    }
+
+    /**
+     * Makes {@code updated} the contents of this list and notifies the observers of the range that differs, which lies
+     * after the first {@code from} and before the last {@code unchangedAtEnd} elements. Elements at the ends of that
+     * range that are the same objects before and after are left out.
+     *
+     * @return true if the contents changed.
+     */
+    private boolean publish(PersistentList<T> updated, int from, int unchangedAtEnd) {
+        PersistentList<T> old = elements;
+        elements = updated;
+        modCount++;
+
+        int oldEnd = old.size() - unchangedAtEnd;
+        int newEnd = updated.size() - unchangedAtEnd;
+        while (from < oldEnd && from < newEnd && old.get(from) == updated.get(from)) {
+            from++;
+        }
+        while (oldEnd > from && newEnd > from && old.get(oldEnd - 1) == updated.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        if (from == oldEnd && from == newEnd) {
+            return false;
+        }
+        List<T> removed = old.subList(from, oldEnd);
+        List<T> added = updated.subList(from, newEnd);
+        for (ListObserver<? super T> observer : observers) {
+            observer.onChanged(from, removed, added);
+        }
+        return true;
+    }
+
+    /**
+     * Iterates over the contents of the list at the time the iteration started, which takes O(1) per element instead
+     * of the O(log n) of reading by position, while still supporting {@link Iterator#remove()}.
+     */
+    private final class Itr implements Iterator<T> {
+        private final Iterator<T> contents = elements.iterator();
+        private int nextIndex;
+        private int lastIndex = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return contents.hasNext();
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            T element = contents.next();
+            lastIndex = nextIndex++;
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0 || batchDepth > 0) {
+                // while a batch is open, positions in this list may not be positions in the up-to-date contents
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            ListenableTreeList.this.remove(lastIndex);
+            nextIndex = lastIndex;
+            lastIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * An immutable list holding the contents of a {@code ListenableTreeList} at the time it was taken.
+     */
+    private static final class Snapshot<T> extends AbstractList<T> implements ListenableList<T> {
+        private final PersistentList<T> elements;
+
+        Snapshot(PersistentList<T> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public T get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return Collections.unmodifiableCollection(elements).iterator();
+        }
+
+        @Override
+        public void addListener(ListObserver<? super T> observer) {
+            requireNonNull(observer);
+        }
+
+        @Override
+        public void removeListener(ListObserver<? super T> observer) {}
+    }
+}
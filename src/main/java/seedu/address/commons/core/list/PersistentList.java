@@ -0,0 +1,344 @@
+package seedu.address.commons.core.list;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * An immutable list that is modified by making modified copies of it.
+ * The elements are held in a balanced binary tree, and each modified copy shares all but the O(log n) nodes on the
+ * path to the modified position with the list it was made from, so that it takes O(log n) time and space to make.
+ * Reading an element by position also takes O(log n) time, while iterating over the list takes O(1) per element.
+ *
+ * Each element also holds an order key, which grows along the list and stays with the element in every modified copy,
+ * so that the position of an element can be found from its key in O(log n) time. Inserting an element takes a key
+ * between those of its neighbours; on the rare occasions that there is none, the whole list gets fresh keys.
+ *
+ * Every field of the list and of its nodes is final, so a list may be handed to another thread without any further
+ * synchronization.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    // Gap between the keys of neighbouring elements in a list with fresh keys, leaving room to insert between them
+    private static final long KEY_GAP = 1L << 30;
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding the elements of {@code elements}, in iteration order. Takes O(n) time, or constant time
+     * if {@code elements} already is a {@code PersistentList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> copyOf(Collection<? extends T> elements) {
+        if (elements instanceof PersistentList) {
+            return (PersistentList<T>) elements;
+        }
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> withSet(int index, T element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} inserted at {@code index}, shifting the elements from
+     * {@code index} onwards.
+     */
+    public PersistentList<T> withAdded(int index, T element) {
+        Objects.checkIndex(index, size() + 1);
+        PersistentList<T> list = hasKeyRoomAt(index) ? this : withFreshKeys();
+        return new PersistentList<>(insert(list.root, index, list.newKeyAt(index), element));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<T> withRemoved(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    /**
+     * Returns the order key of the element at {@code index}.
+     */
+    long keyAt(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.key;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the element with order key {@code key}, or -1 if there is none.
+     */
+    int indexOfKey(long key) {
+        int index = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (key < node.key) {
+                node = node.left;
+            } else if (key > node.key) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if an element can be inserted at {@code index} without giving the list fresh keys.
+     */
+    boolean hasKeyRoomAt(int index) {
+        int size = size();
+        if (size == 0) {
+            return true;
+        } else if (index == 0) {
+            return keyAt(0) >= Long.MIN_VALUE + 2 * KEY_GAP;
+        } else if (index == size) {
+            return keyAt(size - 1) <= Long.MAX_VALUE - 2 * KEY_GAP;
+        }
+        // a difference too large for a long overflows to a negative one, which merely causes fresh keys to be given
+        return keyAt(index) - keyAt(index - 1) >= 2;
+    }
+
+    /**
+     * Returns a list with the same elements as this one, and fresh keys evenly spread out. Takes O(n) time.
+     */
+    PersistentList<T> withFreshKeys() {
+        Object[] array = toArray();
+        return new PersistentList<>(build(array, 0, array.length));
+    }
+
+    /**
+     * Passes each element with its order key to {@code action}, in order.
+     */
+    void forEachWithKey(ObjLongConsumer<? super T> action) {
+        forEachWithKey(root, action);
+    }
+
+    private static <T> void forEachWithKey(Node<T> node, ObjLongConsumer<? super T> action) {
+        if (node != null) {
+            forEachWithKey(node.left, action);
+            action.accept(node.value, node.key);
+            forEachWithKey(node.right, action);
+        }
+    }
+
+    /**
+     * Returns the key for an element inserted at {@code index}, which must have room for it.
+     */
+    private long newKeyAt(int index) {
+        int size = size();
+        if (size == 0) {
+            return KEY_GAP;
+        } else if (index == 0) {
+            return keyAt(0) - KEY_GAP;
+        } else if (index == size) {
+            return keyAt(size - 1) + KEY_GAP;
+        }
+        long before = keyAt(index - 1);
+        return before + (keyAt(index) - before) / 2;
+    }
+
+    private static <T> Node<T> build(Object[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        @SuppressWarnings("unchecked")
+        T value = (T) elements[mid];
+        return new Node<>(value, (mid + 1) * KEY_GAP, build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, node.key, set(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.key, node.left, set(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.key, node.left, node.right);
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, long key, T element) {
+        if (node == null) {
+            return new Node<>(element, key, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node, insert(node.left, index, key, element), node.right);
+        }
+        return balance(node, node.left, insert(node.right, index - leftSize - 1, key, element));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node holding the element and key of {@code top} between {@code left} and {@code right}, rotating it so
+     * that the heights of its subtrees differ by at most one. The heights of {@code left} and {@code right} may differ
+     * by at most two.
+     */
+    private static <T> Node<T> balance(Node<T> top, Node<T> left, Node<T> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return copy(left, left.left, copy(top, left.right, right));
+            }
+            Node<T> pivot = left.right;
+            return copy(pivot, copy(left, left.left, pivot.left), copy(top, pivot.right, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return copy(right, copy(top, left, right.left), right.right);
+            }
+            Node<T> pivot = right.left;
+            return copy(pivot, copy(top, left, pivot.left), copy(right, pivot.right, right.right));
+        }
+        return copy(top, left, right);
+    }
+
+    /**
+     * Returns a node holding the element and key of {@code node} between {@code left} and {@code right}.
+     */
+    private static <T> Node<T> copy(Node<T> node, Node<T> left, Node<T> right) {
+        return new Node<>(node.value, node.key, left, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, holding an element between the elements of its left and right subtrees.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final long key;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(T value, long key, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.key = key;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, keeping the path to the next element on a stack.
+     */
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<T> root) {
+            pushLeftmostPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.value;
+        }
+
+        private void pushLeftmostPath(Node<T> node) {
+            for (; node != null; node = node.left) {
+                path.push(node);
+            }
+        }
+    }
+}
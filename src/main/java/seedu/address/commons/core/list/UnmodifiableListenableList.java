@@ -0,0 +1,46 @@
+package seedu.address.commons.core.list;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * An unmodifiable view of a {@link ListenableList}. Observers registered on the view are notified of the changes
+ * made to the underlying list.
+ */
+public class UnmodifiableListenableList<T> extends AbstractList<T> implements ListenableList<T> {
+
+    private final ListenableList<T> list;
+
+    public UnmodifiableListenableList(ListenableList<T> list) {
+        this.list = requireNonNull(list);
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        // iterates with the underlying list's own iterator, which may be faster than reading by position
+        return Collections.unmodifiableCollection(list).iterator();
+    }
+
+    @Override
+    public void addListener(ListObserver<? super T> observer) {
+        list.addListener(observer);
+    }
+
+    @Override
+    public void removeListener(ListObserver<? super T> observer) {
+        list.removeListener(observer);
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.address.commons.core.map;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * A hash map from primitive {@code long} keys to non-null values, so that looking up a record by its id neither boxes
+ * the id nor allocates an entry per mapping.
+ * The entries are held in two parallel arrays with open addressing and linear probing, which are doubled in size
+ * whenever they become more than half full. Removing an entry shifts the entries probed after it back into place
+ * rather than leaving a marker, so that lookups never slow down after many removals.
+ *
+ * The map is not thread-safe.
+ */
+public class LongHashMap<V> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private long[] keys;
+    // The value of the entry in each slot, or null for a slot that is free
+    private Object[] values;
+    private int size;
+
+    public LongHashMap() {
+        keys = new long[MIN_CAPACITY];
+        values = new Object[MIN_CAPACITY];
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = slotOf(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    public boolean containsKey(long key) {
+        return slotOf(key) >= 0;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, which must not be null.
+     *
+     * @return the value previously mapped to {@code key}, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        requireNonNull(value);
+        int slot = probe(key);
+        V previous = (V) values[slot];
+        if (previous == null) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+        if (size * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        return previous;
+    }
+
+    /**
+     * Copies every mapping of {@code other} into this map, replacing the values of keys already in it.
+     */
+    @SuppressWarnings("unchecked")
+    public void putAll(LongHashMap<? extends V> other) {
+        for (int i = 0; i < other.values.length; i++) {
+            if (other.values[i] != null) {
+                put(other.keys[i], (V) other.values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, first mapping it to the value {@code mappingFunction} gives for it if
+     * there is none.
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        V value = get(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the mapping for {@code key}, if there is one.
+     *
+     * @return the value that was mapped to {@code key}, or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        V removed = (V) values[slot];
+        values[slot] = null;
+        size--;
+        shiftBackAfter(slot);
+        return removed;
+    }
+
+    /**
+     * Grows the map so that it holds {@code expectedSize} entries without resizing, so that a map filled in bulk is
+     * only resized once.
+     */
+    public void ensureCapacity(int expectedSize) {
+        int capacity = values.length;
+        while (capacity < 2 * (long) expectedSize) {
+            capacity *= 2;
+        }
+        if (capacity > values.length) {
+            resize(capacity);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every mapping.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or -1 if it is not in the map.
+     */
+    private int slotOf(long key) {
+        int slot = probe(key);
+        return values[slot] == null ? -1 : slot;
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or the free slot where it would be inserted if it is not in the map.
+     */
+    private int probe(long key) {
+        int mask = values.length - 1;
+        int slot = home(key, mask);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Moves the entries after the freed {@code slot} that would not be found past it back into it, repeatedly, until
+     * every entry can again be reached from its home slot without crossing a free slot.
+     */
+    private void shiftBackAfter(int freed) {
+        int mask = values.length - 1;
+        int slot = (freed + 1) & mask;
+        while (values[slot] != null) {
+            int home = home(keys[slot], mask);
+            // the entry stays put if its home lies cyclically after the freed slot and up to its own slot
+            boolean reachable = freed <= slot
+                    ? freed < home && home <= slot
+                    : freed < home || home <= slot;
+            if (!reachable) {
+                keys[freed] = keys[slot];
+                values[freed] = values[slot];
+                values[slot] = null;
+                freed = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = probe(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the slot where probing for {@code key} starts, spreading out keys that differ only in their high bits.
+     */
+    private static int home(long key, int mask) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+}
@@ -57,6 +57,69 @@ public class StringUtil {
         return preppedPrefix.regionMatches(true, 0, string, 0, preppedPrefix.length());
     }
 
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, i.e. the least number of characters
+     * to insert, delete or substitute to turn one into the other. Case-sensitive.
+     * <br>examples:<pre>
+     *       editDistance("alice", "alcie") == 2
+     *       editDistance("alice", "alic") == 1
+     *       </pre>
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        int[] previousRow = new int[second.length() + 1];
+        int[] row = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            row[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                row[j] = Math.min(previousRow[j - 1] + substitutionCost, Math.min(previousRow[j], row[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = row;
+            row = swap;
+        }
+        return previousRow[second.length()];
+    }
+
+    /**
+     * Returns true if the {@link #editDistance(String, String) edit distance} between {@code first} and
+     * {@code second} is at most {@code maxDistance}. Stops as soon as the distance is sure to be greater.
+     */
+    public static boolean isWithinEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return false;
+        }
+        int[] previousRow = new int[second.length() + 1];
+        int[] row = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            row[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                row[j] = Math.min(previousRow[j - 1] + substitutionCost, Math.min(previousRow[j], row[j - 1]) + 1);
+                rowMin = Math.min(rowMin, row[j]);
+            }
+            // the distance never drops below the smallest value of any row
+            if (rowMin > maxDistance) {
+                return false;
+            }
+            int[] swap = previousRow;
+            previousRow = row;
+            row = swap;
+        }
+        return previousRow[second.length()] <= maxDistance;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,9 +1,11 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -33,13 +35,25 @@ public interface Logic {
     ReadOnlyAddressBook getAddressBook();
 
     /** Returns an unmodifiable view of the filtered list of persons */
-    ObservableList<Person> getFilteredPersonList();
+    ListenableList<Person> getFilteredPersonList();
 
     /** Returns an unmodifiable view of the filtered list of events */
-    ObservableList<Event> getFilteredEventList();
+    ListenableList<Event> getFilteredEventList();
 
     /** Returns an unmodifiable view of the filtered list of todos */
-    ObservableList<Todo> getFilteredTodoList();
+    ListenableList<Todo> getFilteredTodoList();
+
+    /** Returns the event {@code person} is linked to, if it is linked to one. */
+    Optional<Event> findLinkedEvent(Person person);
+
+    /** Returns the contact {@code todo} is linked to, if it is linked to one. */
+    Optional<Person> findContact(Todo todo);
+
+    /**
+     * Returns the aliases of up to {@code limit} events whose alias starts with {@code prefix}, ignoring case,
+     * in order of alias, as suggestions for an alias being typed.
+     */
+    List<String> suggestEventAliases(String prefix, int limit);
 
     /**
      * Returns the user prefs' address book file path.
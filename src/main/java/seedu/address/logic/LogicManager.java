@@ -3,11 +3,13 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -50,10 +52,14 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.commitAddressBook();
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBook(model.getAddressBookSnapshot());
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -69,20 +75,38 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Person> getFilteredPersonList() {
+    public ListenableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
     @Override
-    public ObservableList<Event> getFilteredEventList() {
+    public ListenableList<Event> getFilteredEventList() {
         return model.getFilteredEventList();
     }
 
     @Override
-    public ObservableList<Todo> getFilteredTodoList() {
+    public ListenableList<Todo> getFilteredTodoList() {
         return model.getFilteredTodoList();
     }
 
+    @Override
+    public Optional<Event> findLinkedEvent(Person person) {
+        return model.findLinkedEvent(person);
+    }
+
+    @Override
+    public Optional<Person> findContact(Todo todo) {
+        return model.findContact(todo);
+    }
+
+    @Override
+    public List<String> suggestEventAliases(String prefix, int limit) {
+        return model.getEventsWithAliasStartingWith(prefix).stream()
+                .limit(limit)
+                .map(Event::getAlias)
+                .toList();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
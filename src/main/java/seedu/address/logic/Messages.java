@@ -1,11 +1,16 @@
 package seedu.address.logic;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.TimeSlot;
 import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 
@@ -22,8 +27,13 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_EVENTS_LISTED_OVERVIEW = "%1$d events listed!";
+    public static final String MESSAGE_EVENT_CLASHES = "Warning: this event overlaps with %1$s";
+    public static final String MESSAGE_INVALID_TIME_WINDOW = "The start date time must be before the end date time.";
     public static final String MESSAGE_INVALID_TODO_DISPLAYED_INDEX = "The todo index provided must be "
             + "within the displayed range!";
+    public static final String MESSAGE_PERSON_ID_NOT_FOUND = "No person has the id #%1$d!";
+    public static final String MESSAGE_TODO_ID_NOT_FOUND = "No todo has the id #%1$d!";
+    public static final String MESSAGE_NO_CONTACT_LINKED = "No contact linked";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -37,6 +47,26 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns an error message indicating that {@code index} addresses no person, either because it is outside the
+     * displayed range or because no person has the id it holds.
+     */
+    public static String getErrorMessageForInvalidPersonIndex(Index index) {
+        return index.isId()
+                ? String.format(MESSAGE_PERSON_ID_NOT_FOUND, index.getId())
+                : MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+    }
+
+    /**
+     * Returns an error message indicating that {@code index} addresses no todo, either because it is outside the
+     * displayed range or because no todo has the id it holds.
+     */
+    public static String getErrorMessageForInvalidTodoIndex(Index index) {
+        return index.isId()
+                ? String.format(MESSAGE_TODO_ID_NOT_FOUND, index.getId())
+                : MESSAGE_INVALID_TODO_DISPLAYED_INDEX;
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
@@ -70,16 +100,35 @@ public class Messages {
     }
 
     /**
-     * Formats the {@code todo} for display to the user.
-     * @return
+     * Returns a warning, on a line of its own, that an event overlaps with the events {@code clashes}, or an empty
+     * string if there are none.
+     */
+    public static String formatClashes(List<Event> clashes) {
+        if (clashes.isEmpty()) {
+            return "";
+        }
+        String aliases = clashes.stream().map(Event::getAlias).collect(Collectors.joining(", "));
+        return "\n" + String.format(MESSAGE_EVENT_CLASHES, aliases);
+    }
+
+    /**
+     * Formats the {@code slot} for display to the user, in the format used to enter date times.
+     */
+    public static String format(TimeSlot slot) {
+        return slot.getStart().format(ParserUtil.DATE_TIME_FORMATTER) + " to "
+                + slot.getEnd().format(ParserUtil.DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Formats the {@code todo}, linked to {@code contact} if there is one, for display to the user.
      */
-    public static String format(Todo todo) {
+    public static String format(Todo todo, Optional<Person> contact) {
         final StringBuilder builder = new StringBuilder();
         builder.append(todo.getTodoName())
                 .append("; Description: ")
                 .append(todo.getTodoDescription())
                 .append("; Contact Name: ")
-                .append(todo.getContactNameDisplay());
+                .append(contact.map(person -> person.getName().toString()).orElse(MESSAGE_NO_CONTACT_LINKED));
         return builder.toString();
     }
 
@@ -7,13 +7,15 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
 
+import java.util.List;
+
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 
 /**
- * Adds an event to the address book.
+ * Adds an event to the address book, warning about any existing events that overlap it.
  */
 public class AddEventCommand extends Command {
     public static final String COMMAND_WORD = "add-event";
@@ -53,9 +55,11 @@ public class AddEventCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_EVENT);
         }
 
+        List<Event> clashes = model.getEventsOverlapping(toAdd.getStart(), toAdd.getEnd());
         model.addEvent(toAdd);
         assert model.hasEvent(toAdd) : "Event should have been added successfully";
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd))
+                + Messages.formatClashes(clashes));
     }
 
     @Override
@@ -5,6 +5,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TODO_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TODO_NAME;
 
+import java.util.Objects;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -33,13 +35,16 @@ public class AddTodoCommand extends Command {
             "A todo with the same name and description already exists in the address book";
 
     private final Todo toAdd;
+    private final Name contactName;
 
     /**
-     * Creates an AddTodoCommand to add the specified {@code Todo}
+     * Creates an AddTodoCommand to add the specified {@code Todo}, linked to the contact with {@code contactName} if
+     * it is not null
      */
-    public AddTodoCommand(Todo toAdd) {
+    public AddTodoCommand(Todo toAdd, Name contactName) {
         requireNonNull(toAdd);
         this.toAdd = toAdd;
+        this.contactName = contactName;
     }
 
     @Override
@@ -50,37 +55,15 @@ public class AddTodoCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_TODO);
         }
 
-        final Name contactName = toAdd.getContactName();
+        Todo todo = toAdd;
         if (contactName != null) {
-            Name actualContactName = findContactName(model, contactName);
-            if (actualContactName == null) {
-                throw new CommandException("Contact not found: " + contactName.fullName);
-            }
-            // Create a new Todo with the actual contact name from the database
-            Todo todoWithActualName = new Todo(
-                    toAdd.getTodoName(),
-                    toAdd.getTodoDescription(),
-                    actualContactName,
-                    toAdd.getIsCompleted()
-            );
-            model.addTodo(todoWithActualName);
-            return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(todoWithActualName)));
+            Person contact = model.findPersonByName(contactName)
+                    .orElseThrow(() -> new CommandException("Contact not found: " + contactName.fullName));
+            todo = toAdd.withContact(contact.getId());
         }
 
-        model.addTodo(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
-    }
-
-    /**
-     * Finds the actual contact name from the database that matches the input name (case-insensitive).
-     * Returns null if no matching contact is found.
-     */
-    private Name findContactName(Model model, Name inputName) {
-        return model.getPersonList().stream()
-                .map(Person::getName)
-                .filter(name -> name.equals(inputName))
-                .findFirst()
-                .orElse(null);
+        model.addTodo(todo);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(todo, model.findContact(todo))));
     }
 
     @Override
@@ -92,13 +75,14 @@ public class AddTodoCommand extends Command {
             return false;
         }
         AddTodoCommand e = (AddTodoCommand) other;
-        return toAdd.equals(e.toAdd);
+        return toAdd.equals(e.toAdd) && Objects.equals(contactName, e.contactName);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("toAdd", toAdd)
+                .add("contactName", contactName)
                 .toString();
     }
 }
@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.IndexedMatchPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonQuery;
+
+/**
+ * Finds and lists all persons in address book who meet every one of several criteria on their fields.
+ */
+public class CompositeFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons who meet every one of the given "
+            + "criteria and displays them as a list with index numbers. At least one criterion must be given.\n"
+            + "Parameters: "
+            + "[" + PREFIX_NAME + "KEYWORD [MORE_KEYWORDS]...] "
+            + "[" + PREFIX_TAG + "TAG_EXPRESSION] "
+            + "[" + PREFIX_EVENT_ALIAS + "EVENT_ALIAS] "
+            + "[" + PREFIX_PHONE + "PHONE_DIGITS] "
+            + "[" + PREFIX_EMAIL + "EMAIL_TEXT]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "vip " + PREFIX_EVENT_ALIAS + "TSC2025 "
+            + PREFIX_NAME + "tan";
+
+    private final PersonQuery query;
+
+    public CompositeFindCommand(PersonQuery query) {
+        this.query = requireNonNull(query);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // persons link to events by id, so the query needs the event with its alias to find the persons linked to it
+        PersonQuery resolvedQuery = query.getEventAlias()
+                .flatMap(model::findEventByAlias)
+                .map(query::withLinkedEvent)
+                .orElse(query);
+        // the planner finds candidates through the indexes, so filtering does not run the query on every person
+        model.updateFilteredPersonList(
+                new IndexedMatchPredicate<>(resolvedQuery, model.getPersonCandidates(resolvedQuery)));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
+                DisplayList.PERSON);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompositeFindCommand)) {
+            return false;
+        }
+
+        CompositeFindCommand otherCompositeFindCommand = (CompositeFindCommand) other;
+        return query.equals(otherCompositeFindCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -21,7 +21,7 @@ public class DeleteCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the person identified by the index number used in the displayed person list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Parameters: INDEX (must be a positive integer) or #ID\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
@@ -36,23 +36,18 @@ public class DeleteCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Person> lastShownList = model.getFilteredPersonList();
-        List<Todo> todoList = model.getFilteredTodoList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        for (int i = 0; i < todoList.size(); i++) {
-            if (todoList.get(i).getContactName() != null
-                    && todoList.get(i).getContactName().equals(personToDelete.getName())) {
-                Todo oldTodo = todoList.get(i);
-                Todo newTodo = new Todo(oldTodo.getTodoName(), oldTodo.getTodoDescription(),
-                        null, oldTodo.getIsCompleted());
-                model.setTodo(oldTodo, newTodo);
+        Person personToDelete = targetIndex.resolve(lastShownList, model::findPersonById)
+                .orElseThrow(() -> new CommandException(Messages.getErrorMessageForInvalidPersonIndex(targetIndex)));
+        model.beginBatch();
+        try {
+            for (Todo todo : model.getTodosLinkedToPerson(personToDelete.getId())) {
+                model.setTodo(todo, todo.withoutContact());
             }
+            model.deletePerson(personToDelete);
+        } finally {
+            model.commitBatch();
         }
-        model.deletePerson(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
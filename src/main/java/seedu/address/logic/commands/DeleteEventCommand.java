@@ -3,8 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
 
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -36,32 +34,19 @@ public class DeleteEventCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Event> eventList = model.getEventList();
-        List<Person> personList = model.getPersonList();
-
-        Event eventToDelete = eventList.stream()
-                .filter(e -> e.getAlias().equalsIgnoreCase(eventAlias.toString()))
-                .findFirst()
+        Event eventToDelete = model.findEventByAlias(eventAlias)
                 .orElseThrow(() -> new CommandException(String.format(MESSAGE_EVENT_NOT_FOUND, eventAlias)));
 
-        for (int i = 0; i < personList.size(); i++) {
-            if (personList.get(i).getEventAlias() != null
-                    && personList.get(i).getEventAlias().equals(eventToDelete.getEventAlias())) {
-                Person personToEdit = personList.get(i);
-                Person unlinkedPerson = new Person(
-                        personToEdit.getName(),
-                        personToEdit.getPhone(),
-                        personToEdit.getEmail(),
-                        personToEdit.getAddress(),
-                        personToEdit.getTags()
-                );
-                model.setPerson(personToEdit, unlinkedPerson);
+        model.beginBatch();
+        try {
+            for (Person personToEdit : model.getPersonsLinkedToEvent(eventToDelete.getId())) {
+                model.setPerson(personToEdit, personToEdit.withoutLinkedEvent());
             }
+            model.deleteEvent(eventToDelete);
+        } finally {
+            model.commitBatch();
         }
 
-
-        model.deleteEvent(eventToDelete);
-
         return new CommandResult(String.format(MESSAGE_DELETE_EVENT_SUCCESS, Messages.format(eventToDelete)));
     }
 
@@ -20,7 +20,7 @@ public class DeleteTodoCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the todo identified by the index number used in the displayed list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Parameters: INDEX (must be a positive integer) or #ID\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DELETE_TODO_SUCCESS = "Deleted todo: %1$s";
@@ -35,13 +35,11 @@ public class DeleteTodoCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<Todo> lastShownList = model.getFilteredTodoList();
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TODO_DISPLAYED_INDEX);
-        }
-
-        Todo todoToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Todo todoToDelete = targetIndex.resolve(lastShownList, model::findTodoById)
+                .orElseThrow(() -> new CommandException(Messages.getErrorMessageForInvalidTodoIndex(targetIndex)));
         model.deleteTodo(todoToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_TODO_SUCCESS, Messages.format(todoToDelete)));
+        return new CommandResult(String.format(MESSAGE_DELETE_TODO_SUCCESS,
+                Messages.format(todoToDelete, model.findContact(todoToDelete))));
     }
 
     @Override
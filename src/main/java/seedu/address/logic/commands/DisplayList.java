@@ -1,4 +1,4 @@
-package seedu.address.ui;
+package seedu.address.logic.commands;
 
 /**
  * Possible lists to be shown to the user
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -23,7 +24,7 @@ import seedu.address.model.event.EventAlias;
 import seedu.address.model.event.EventName;
 
 /**
- * Edits the details of an existing event in the address book.
+ * Edits the details of an existing event in the address book, warning about any other events that overlap it.
  */
 public class EditEventCommand extends Command {
 
@@ -67,20 +68,20 @@ public class EditEventCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Event> eventList = model.getEventList();
-
-        Event eventToEdit = eventList.stream()
-                .filter(e -> e.getAlias().equalsIgnoreCase(eventAlias.toString()))
-                .findFirst()
+        Event eventToEdit = model.findEventByAlias(eventAlias)
                 .orElseThrow(() -> new CommandException(MESSAGE_EVENT_NOT_FOUND));
 
         Event editedEvent = createEditedEvent(eventToEdit, editEventDescriptor);
 
         assert eventToEdit.isSameEvent(editedEvent);
 
+        List<Event> clashes = model.getEventsOverlapping(editedEvent.getStart(), editedEvent.getEnd()).stream()
+                .filter(event -> !event.isSameEvent(eventToEdit))
+                .collect(Collectors.toList());
         model.setEvent(eventToEdit, editedEvent);
         model.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
-        return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, Messages.format(editedEvent)));
+        return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, Messages.format(editedEvent))
+                + Messages.formatClashes(clashes));
     }
 
     /**
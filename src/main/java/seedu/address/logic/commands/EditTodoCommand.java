@@ -31,7 +31,7 @@ public class EditTodoCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the todo identified "
             + "by its index number used in the displayed todo list. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or #ID "
             + "[" + PREFIX_TODO_NAME + "TODO_NAME] "
             + "[" + PREFIX_TODO_DESCRIPTION + "TODO_DESCRIPTION] "
             + "[" + PREFIX_NAME + "NAME]\n"
@@ -63,11 +63,8 @@ public class EditTodoCommand extends Command {
         requireNonNull(model);
         List<Todo> lastShownList = model.getFilteredTodoList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TODO_DISPLAYED_INDEX);
-        }
-
-        Todo todoToEdit = lastShownList.get(targetIndex.getZeroBased());
+        Todo todoToEdit = targetIndex.resolve(lastShownList, model::findTodoById)
+                .orElseThrow(() -> new CommandException(Messages.getErrorMessageForInvalidTodoIndex(targetIndex)));
 
         if (!editTodoDescriptor.isAnyFieldEdited()) {
             throw new CommandException(MESSAGE_NOT_EDITED);
@@ -79,57 +76,35 @@ public class EditTodoCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_TODO);
         }
 
-        Name updatedContact = editedTodo.getContactName();
-        if (updatedContact != null) {
-            Name actualContactName = findContactName(model, updatedContact);
-            if (actualContactName == null) {
-                throw new CommandException("Contact not found: " + updatedContact.fullName);
-            }
-            // Create a new Todo with the actual contact name from the database
-            editedTodo = new Todo(
-                    editedTodo.getTodoName(),
-                    editedTodo.getTodoDescription(),
-                    actualContactName,
-                    editedTodo.getIsCompleted()
-            );
+        Optional<Name> updatedContactName = editTodoDescriptor.getContactName();
+        if (updatedContactName.isPresent()) {
+            Person contact = model.findPersonByName(updatedContactName.get()).orElseThrow(() ->
+                    new CommandException("Contact not found: " + updatedContactName.get().fullName));
+            editedTodo = editedTodo.withContact(contact.getId());
         }
 
         model.setTodo(todoToEdit, editedTodo);
         model.updateFilteredTodoList(PREDICATE_SHOW_ALL_TODOS);
 
-        return new CommandResult(String.format(MESSAGE_EDIT_TODO_SUCCESS, Messages.format(editedTodo)));
-    }
-
-    /**
-     * Finds the actual contact name from the database that matches the input name (case-insensitive).
-     * Returns null if no matching contact is found.
-     */
-    private Name findContactName(Model model, Name inputName) {
-        return model.getPersonList().stream()
-                .map(Person::getName)
-                .filter(name -> name.equals(inputName))
-                .findFirst()
-                .orElse(null);
+        return new CommandResult(String.format(MESSAGE_EDIT_TODO_SUCCESS,
+                Messages.format(editedTodo, model.findContact(editedTodo))));
     }
 
     /**
      * Creates and returns {@code Todo} with the details of {@code todoToEdit}
-     * edited with {@code editTodoDescriptor}
+     * edited with {@code editTodoDescriptor}, except for a new contact, which is linked by the caller
      */
     private static Todo createEditedTodo(Todo todoToEdit, EditTodoDescriptor editTodoDescriptor) {
         assert todoToEdit != null;
 
         TodoName updatedName = editTodoDescriptor.getTodoName().orElse(todoToEdit.getTodoName());
         String updatedDescription = editTodoDescriptor.getDescription().orElse(todoToEdit.getTodoDescription());
-        Name updatedContactName;
-        if (editTodoDescriptor.isContactUnlinked) {
-            updatedContactName = null;
-        } else {
-            updatedContactName = editTodoDescriptor.getContactName().orElse(todoToEdit.getContactName());
-        }
         boolean updatedIsCompleted = editTodoDescriptor.getIsCompleted().orElse(todoToEdit.getIsCompleted());
 
-        return new Todo(updatedName, updatedDescription, updatedContactName, updatedIsCompleted);
+        Todo editedTodo = new Todo(updatedName, updatedDescription, updatedIsCompleted);
+        return todoToEdit.hasContact() && !editTodoDescriptor.isContactUnlinked
+                ? editedTodo.withContact(todoToEdit.getContactId())
+                : editedTodo;
     }
 
     @Override
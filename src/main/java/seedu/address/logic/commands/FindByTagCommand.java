@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.IndexedMatchPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.TagExpression;
+
+/**
+ * Finds and lists all persons in address book whose tags match a combination of tags.
+ * Tag matching is case insensitive.
+ */
+public class FindByTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-by-tag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose tags match the given "
+            + "combination of tags (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Tags are combined with AND, OR and NOT, in upper case, and grouped with parentheses. "
+            + "Tags separated only by spaces must all match.\n"
+            + "Parameters: " + PREFIX_TAG + "TAG_EXPRESSION\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "vip AND (friends OR colleagues) AND NOT blocked";
+
+    private final TagExpression expression;
+
+    public FindByTagCommand(TagExpression expression) {
+        this.expression = requireNonNull(expression);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // the tag index finds the matching persons, which are then only checked against their current tags
+        PersonQuery query = new PersonQuery(List.of(), expression, null, null, null);
+        model.updateFilteredPersonList(new IndexedMatchPredicate<>(query, model.getPersonsWithTags(expression)));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
+                DisplayList.PERSON);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindByTagCommand)) {
+            return false;
+        }
+
+        FindByTagCommand otherFindByTagCommand = (FindByTagCommand) other;
+        return expression.equals(otherFindByTagCommand.expression);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("expression", expression)
+                .toString();
+    }
+}
@@ -2,16 +2,21 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPOS;
+
+import java.util.HashSet;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.model.IndexedMatchPredicate;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
-import seedu.address.ui.DisplayList;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and may allow a few typos per word.
  */
 public class FindCommand extends Command {
 
@@ -19,8 +24,9 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: " + PREFIX_NAME + "KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice bob charlie";
+            + "Up to TYPOS typos per word are tolerated, if given.\n"
+            + "Parameters: " + PREFIX_NAME + "KEYWORD [MORE_KEYWORDS]... [" + PREFIX_TYPOS + "TYPOS]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice bob charlie " + PREFIX_TYPOS + "1";
 
     private final NameContainsKeywordsPredicate predicate;
 
@@ -31,7 +37,18 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (predicate.getMaxTypos() == 0) {
+            model.updateFilteredPersonList(predicate);
+        } else {
+            // the BK-tree of name words finds the candidates near each keyword without comparing every name
+            Set<Person> candidates = new HashSet<>();
+            for (String keyword : predicate.getKeywords()) {
+                if (!keyword.isBlank()) {
+                    candidates.addAll(model.getPersonsWithNameWordWithin(keyword.trim(), predicate.getMaxTypos()));
+                }
+            }
+            model.updateFilteredPersonList(new IndexedMatchPredicate<>(predicate, candidates));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
                 DisplayList.PERSON);
@@ -1,18 +1,17 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.IndexedMatchPredicate;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventAlias;
-import seedu.address.model.person.EventAliasMatchesPredicate;
-import seedu.address.ui.DisplayList;
+import seedu.address.model.person.LinkedToEventPredicate;
 
 /**
- * Finds and lists all persons in address book whose linkedEventAlias matches the given EventAlias.
+ * Finds and lists all persons in address book linked to the event with the given EventAlias.
  */
 public class FindContactByEventCommand extends Command {
     public static final String COMMAND_WORD = "find-by-event";
@@ -23,28 +22,25 @@ public class FindContactByEventCommand extends Command {
             + "Example: " + COMMAND_WORD + " ea/TaylorSwift";
     public static final String MESSAGE_EVENT_NOT_FOUND = "Event not found.";
 
-    private final EventAliasMatchesPredicate predicate;
     private final EventAlias eventAlias;
 
     /**
-     * Creates a FindContactByEventCommand to find all the relevant persons
+     * Creates a FindContactByEventCommand to find all the persons linked to the event with {@code eventAlias}
      */
-    public FindContactByEventCommand(EventAliasMatchesPredicate predicate, EventAlias eventAlias) {
-        requireAllNonNull(predicate, eventAlias);
-        this.predicate = predicate;
+    public FindContactByEventCommand(EventAlias eventAlias) {
+        requireNonNull(eventAlias);
         this.eventAlias = eventAlias;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        assert predicate != null : "Predicate must have been validated";
         // Find the event by alias (this is case insensitive)
-        Event event = model.getEventList().stream()
-                .filter(e -> e.getAlias().equalsIgnoreCase(eventAlias.toString()))
-                .findFirst()
+        Event event = model.findEventByAlias(eventAlias)
                 .orElseThrow(() -> new CommandException(MESSAGE_EVENT_NOT_FOUND));
-        model.updateFilteredPersonList(predicate);
+        // persons link to the event by its id, which indexes them, so only the persons linked to it are tested
+        model.updateFilteredPersonList(new IndexedMatchPredicate<>(new LinkedToEventPredicate(event.getId()),
+                model.getPersonsLinkedToEvent(event.getId())));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()),
                 DisplayList.PERSON);
@@ -59,6 +55,6 @@ public class FindContactByEventCommand extends Command {
             return false;
         }
         FindContactByEventCommand otherCommand = (FindContactByEventCommand) other;
-        return predicate.equals(otherCommand.predicate);
+        return eventAlias.equals(otherCommand.eventAlias);
     }
 }
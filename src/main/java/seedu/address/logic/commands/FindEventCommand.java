@@ -2,15 +2,21 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPOS;
+
+import java.util.HashSet;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.model.IndexedMatchPredicate;
 import seedu.address.model.Model;
 import seedu.address.model.event.AliasContainsKeywordsPredicate;
-import seedu.address.ui.DisplayList;
+import seedu.address.model.event.Event;
 
 /**
- * Finds and lists all events in address book whose alias starts with any of the argument keywords.
+ * Finds and lists all events in address book whose alias starts with any of the argument keywords, or is within a
+ * few typos of one of them.
  * Keyword matching is case-insensitive.
  */
 public class FindEventCommand extends Command {
@@ -19,8 +25,9 @@ public class FindEventCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all events whose aliases have any of "
             + "the specified keywords (case-insensitive) as a prefix and displays them as a list with index numbers.\n"
-            + "Parameters: " + PREFIX_EVENT_ALIAS + "KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_EVENT_ALIAS + "tsc";
+            + "Aliases within TYPOS typos of a keyword are also found, if given.\n"
+            + "Parameters: " + PREFIX_EVENT_ALIAS + "KEYWORD [MORE_KEYWORDS]... [" + PREFIX_TYPOS + "TYPOS]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_EVENT_ALIAS + "tsc " + PREFIX_TYPOS + "1";
 
     private final AliasContainsKeywordsPredicate predicate;
 
@@ -31,7 +38,18 @@ public class FindEventCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredEventList(predicate);
+        // the alias index and BK-tree find the candidates for each keyword without comparing every alias
+        Set<Event> candidates = new HashSet<>();
+        for (String keyword : predicate.getKeywords()) {
+            if (keyword.isBlank()) {
+                continue;
+            }
+            candidates.addAll(model.getEventsWithAliasStartingWith(keyword.trim()));
+            if (predicate.getMaxTypos() > 0) {
+                candidates.addAll(model.getEventsWithAliasWithin(keyword.trim(), predicate.getMaxTypos()));
+            }
+        }
+        model.updateFilteredEventList(new IndexedMatchPredicate<>(predicate, candidates));
         return new CommandResult(
                 String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()),
                 DisplayList.EVENT);
@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.event.TimeSlot;
+
+/**
+ * Finds the gaps between events within a window of time that are long enough to hold a new event.
+ * The gaps are listed in the result message, leaving the displayed lists unchanged.
+ */
+public class FindFreeSlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-free-slots";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the free slots of at least HOURS hours "
+            + "between events, from START_DATETIME to END_DATETIME.\n"
+            + "Parameters: "
+            + PREFIX_START + "START_DATETIME "
+            + PREFIX_END + "END_DATETIME "
+            + PREFIX_HOURS + "HOURS\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_START + "2025-09-15 09:00 "
+            + PREFIX_END + "2025-09-19 18:00 "
+            + PREFIX_HOURS + "1.5";
+
+    public static final String MESSAGE_SUCCESS = "%1$d free slots found";
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Duration minDuration;
+
+    /**
+     * Creates a FindFreeSlotsCommand to find the free slots from {@code from} to {@code to} that last at least
+     * {@code minDuration}.
+     */
+    public FindFreeSlotsCommand(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        requireAllNonNull(from, to, minDuration);
+        this.from = from;
+        this.to = to;
+        this.minDuration = minDuration;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<TimeSlot> slots = model.getFreeSlots(from, to, minDuration);
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, slots.size()));
+        for (TimeSlot slot : slots) {
+            feedback.append('\n').append(Messages.format(slot));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindFreeSlotsCommand)) {
+            return false;
+        }
+
+        FindFreeSlotsCommand otherCommand = (FindFreeSlotsCommand) other;
+        return from.equals(otherCommand.from) && to.equals(otherCommand.to)
+                && minDuration.equals(otherCommand.minDuration);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .add("minDuration", minDuration)
+                .toString();
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.IndexedMatchPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.event.EventContainsTextPredicate;
+import seedu.address.model.person.PersonContainsTextPredicate;
+import seedu.address.model.todo.TodoContainsTextPredicate;
+
+/**
+ * Finds and lists all persons whose name or address, events whose description and todos whose description contain
+ * the argument text. Matching is case-insensitive and need not be on whole words.
+ */
+public class FindTextCommand extends Command {
+
+    public static final String COMMAND_WORD = "find-text";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all contacts whose name or address, and all "
+            + "events and todos whose description, contain the specified text (case-insensitive) "
+            + "and displays them as lists with index numbers.\n"
+            + "Parameters: TEXT\n"
+            + "Example: " + COMMAND_WORD + " jurong";
+
+    public static final String MESSAGE_SUCCESS = "%1$d contacts, %2$d events and %3$d todos listed!";
+
+    private final String text;
+
+    /**
+     * Creates a FindTextCommand to find the records containing {@code text}.
+     */
+    public FindTextCommand(String text) {
+        this.text = requireNonNull(text);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // the trigram indexes find the candidates, which are then checked against their current fields
+        model.updateFilteredPersonList(new IndexedMatchPredicate<>(new PersonContainsTextPredicate(text),
+                model.getPersonsContaining(text)));
+        model.updateFilteredEventList(new IndexedMatchPredicate<>(new EventContainsTextPredicate(text),
+                model.getEventsContaining(text)));
+        model.updateFilteredTodoList(new IndexedMatchPredicate<>(new TodoContainsTextPredicate(text),
+                model.getTodosContaining(text)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(),
+                model.getFilteredEventList().size(), model.getFilteredTodoList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindTextCommand)) {
+            return false;
+        }
+
+        FindTextCommand otherCommand = (FindTextCommand) other;
+        return text.equals(otherCommand.text);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("text", text)
+                .toString();
+    }
+}
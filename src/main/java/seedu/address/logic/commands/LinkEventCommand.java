@@ -3,8 +3,9 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
 
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
@@ -21,7 +22,8 @@ public class LinkEventCommand extends Command {
     public static final String COMMAND_WORD = "link-event";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Links one or more persons to an event by its alias.\n"
-            + "Parameters: INDEX [MORE_INDEXES] (must be a positive integer) " + PREFIX_EVENT_ALIAS + "EVENT_ALIAS\n"
+            + "Parameters: INDEX [MORE_INDEXES] (each a positive integer or #ID) "
+            + PREFIX_EVENT_ALIAS + "EVENT_ALIAS\n"
             + "Example: " + COMMAND_WORD + " 1 2 "
             + PREFIX_EVENT_ALIAS + "TSC2025";
 
@@ -49,44 +51,27 @@ public class LinkEventCommand extends Command {
         requireNonNull(model);
 
         List<Person> lastShownList = model.getFilteredPersonList();
-        List<Index> duplicateIndexes = new ArrayList<>();
-
+        Set<Person> personsToLink = new LinkedHashSet<>();
         for (Index index : indexes) {
             assert index != null : "Index cannot be null!";
-            if (index.getZeroBased() >= lastShownList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-            }
-
-            if (duplicateIndexes.contains(index)) {
+            Person personToLink = index.resolve(lastShownList, model::findPersonById)
+                    .orElseThrow(() -> new CommandException(Messages.getErrorMessageForInvalidPersonIndex(index)));
+            if (!personsToLink.add(personToLink)) {
                 throw new CommandException(MESSAGE_DUPLICATE_INDEX);
-            } else {
-                duplicateIndexes.add(index);
             }
         }
 
         // Find the event by alias (this is case insensitive)
-        Event event = model.getEventList().stream()
-                .filter(e -> e.getAlias().equalsIgnoreCase(eventAlias.toString()))
-                .findFirst()
+        Event event = model.findEventByAlias(eventAlias)
                 .orElseThrow(() -> new CommandException(MESSAGE_EVENT_NOT_FOUND));
 
-        List<Person> personsToLink = new ArrayList<>();
-        for (Index index : indexes) {
-            Person personToLink = lastShownList.get(index.getZeroBased());
-            assert personToLink != null : "Person to link cannot be null!";
-            personsToLink.add(personToLink);
-        }
-
-        for (Person personToEdit : personsToLink) {
-            Person linkedPerson = new Person(
-                    personToEdit.getName(),
-                    personToEdit.getPhone(),
-                    personToEdit.getEmail(),
-                    personToEdit.getAddress(),
-                    personToEdit.getTags(),
-                    event.getEventAlias()
-            );
-            model.setPerson(personToEdit, linkedPerson);
+        model.beginBatch();
+        try {
+            for (Person personToEdit : personsToLink) {
+                model.setPerson(personToEdit, personToEdit.withLinkedEvent(event.getId()));
+            }
+        } finally {
+            model.commitBatch();
         }
 
 
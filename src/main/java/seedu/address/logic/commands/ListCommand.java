@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.model.Model;
-import seedu.address.ui.DisplayList;
 
 /**
  * Lists all persons in the address book to the user.
@@ -20,7 +19,6 @@ public class ListCommand extends Command {
             + "Parameters: " + " none\n"
             + "Example: " + COMMAND_WORD;
 
-
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
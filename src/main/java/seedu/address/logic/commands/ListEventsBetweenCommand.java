@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.LocalDateTime;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.IndexedMatchPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.event.StartsBetweenPredicate;
+
+/**
+ * Lists the events in the address book that start within a window of time.
+ */
+public class ListEventsBetweenCommand extends Command {
+
+    public static final String COMMAND_WORD = "list-events-between";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the events starting at or after "
+            + "START_DATETIME and before END_DATETIME.\n"
+            + "Parameters: "
+            + PREFIX_START + "START_DATETIME "
+            + PREFIX_END + "END_DATETIME\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_START + "2025-09-15 00:00 "
+            + PREFIX_END + "2025-09-22 00:00";
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a ListEventsBetweenCommand to list the events starting from {@code from} and before {@code to}.
+     */
+    public ListEventsBetweenCommand(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // the time index finds the events without scanning them all, and the predicate keeps the list up to date
+        model.updateFilteredEventList(new IndexedMatchPredicate<>(new StartsBetweenPredicate(from, to),
+                model.getEventsStartingBetween(from, to)));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()),
+                DisplayList.EVENT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListEventsBetweenCommand)) {
+            return false;
+        }
+
+        ListEventsBetweenCommand otherCommand = (ListEventsBetweenCommand) other;
+        return from.equals(otherCommand.from) && to.equals(otherCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.LocalDateTime;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.IndexedMatchPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.event.OverlapsWindowPredicate;
+
+/**
+ * Lists the events in the address book that overlap a window of time, e.g. to check what is on during it.
+ */
+public class ListOverlappingEventsCommand extends Command {
+
+    public static final String COMMAND_WORD = "list-overlapping-events";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the events that are on at any time after "
+            + "START_DATETIME and before END_DATETIME.\n"
+            + "Parameters: "
+            + PREFIX_START + "START_DATETIME "
+            + PREFIX_END + "END_DATETIME\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_START + "2025-09-19 18:00 "
+            + PREFIX_END + "2025-09-19 22:00";
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a ListOverlappingEventsCommand to list the events overlapping the window from {@code from}
+     * to {@code to}.
+     */
+    public ListOverlappingEventsCommand(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // the time index finds the events without scanning them all, and the predicate keeps the list up to date
+        model.updateFilteredEventList(new IndexedMatchPredicate<>(new OverlapsWindowPredicate(from, to),
+                model.getEventsOverlapping(from, to)));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()),
+                DisplayList.EVENT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListOverlappingEventsCommand)) {
+            return false;
+        }
+
+        ListOverlappingEventsCommand otherCommand = (ListOverlappingEventsCommand) other;
+        return from.equals(otherCommand.from) && to.equals(otherCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TODOS;
 
 import seedu.address.model.Model;
-import seedu.address.ui.DisplayList;
 
 /**
  * Lists all todos in the address book to the user.
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.IndexedMatchPredicate;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.StartsFromPredicate;
+
+/**
+ * Lists the next few events in the address book, starting from a given time or from now.
+ */
+public class ListUpcomingEventsCommand extends Command {
+
+    public static final String COMMAND_WORD = "list-upcoming-events";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the next COUNT events starting at or after "
+            + "START_DATETIME, or after the current time if it is not given.\n"
+            + "Parameters: COUNT (must be a positive integer) "
+            + "[" + PREFIX_START + "START_DATETIME]\n"
+            + "Example: " + COMMAND_WORD + " 5 "
+            + PREFIX_START + "2025-09-19 00:00";
+
+    private final int count;
+    private final LocalDateTime from;
+
+    /**
+     * Creates a ListUpcomingEventsCommand to list the first {@code count} events starting from {@code from},
+     * or from the time the command is executed if {@code from} is empty.
+     */
+    public ListUpcomingEventsCommand(int count, Optional<LocalDateTime> from) {
+        requireNonNull(from);
+        assert count > 0;
+        this.count = count;
+        this.from = from.orElse(null);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDateTime start = from == null ? LocalDateTime.now() : from;
+        List<Event> events = model.getEventsStartingFrom(start, count);
+        // the events up to the last one found, or every later event if there are fewer than count
+        Event last = events.size() < count ? null : events.get(events.size() - 1);
+        model.updateFilteredEventList(new IndexedMatchPredicate<>(new StartsFromPredicate(start, last), events));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()),
+                DisplayList.EVENT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListUpcomingEventsCommand)) {
+            return false;
+        }
+
+        ListUpcomingEventsCommand otherCommand = (ListUpcomingEventsCommand) other;
+        return count == otherCommand.count && Objects.equals(from, otherCommand.from);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("count", count)
+                .add("from", from)
+                .toString();
+    }
+}
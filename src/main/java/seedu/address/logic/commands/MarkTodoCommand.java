@@ -10,7 +10,6 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.todo.Todo;
-import seedu.address.ui.DisplayList;
 
 /**
  * Marks a todo as completed identified using its displayed index from the address book.
@@ -22,7 +21,7 @@ public class MarkTodoCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Marks the todo identified by the index number used in the displayed todo "
             + "list as completed.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Parameters: INDEX (must be a positive integer) or #ID\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_MARK_TODO_SUCCESS = "Marked todo as completed: %1$s";
@@ -38,15 +37,12 @@ public class MarkTodoCommand extends Command {
         requireNonNull(model);
         List<Todo> lastShownList = model.getFilteredTodoList();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_TODO_DISPLAYED_INDEX);
-        }
-
-        Todo todoToMark = lastShownList.get(targetIndex.getZeroBased());
+        Todo todoToMark = targetIndex.resolve(lastShownList, model::findTodoById)
+                .orElseThrow(() -> new CommandException(Messages.getErrorMessageForInvalidTodoIndex(targetIndex)));
         Todo markedTodo = todoToMark.withCompletionStatus(true);
         model.setTodo(todoToMark, markedTodo);
         return new CommandResult(
-                String.format(MESSAGE_MARK_TODO_SUCCESS, Messages.format(markedTodo)),
+                String.format(MESSAGE_MARK_TODO_SUCCESS, Messages.format(markedTodo, model.findContact(markedTodo))),
                 DisplayList.TODO);
     }
 
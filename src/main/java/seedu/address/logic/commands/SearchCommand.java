@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.SearchResult;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+
+/**
+ * Searches the text of every contact, event and todo for any of the given keywords.
+ * The most relevant records are listed in the result message, most relevant first, leaving the displayed lists
+ * unchanged.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final int MAX_RESULTS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches every contact, event and todo for any of "
+            + "the specified keywords (case-insensitive) and lists the " + MAX_RESULTS + " most relevant, "
+            + "most relevant first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice meeting";
+
+    public static final String MESSAGE_SUCCESS = "%1$d results found";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a SearchCommand to search for any of {@code keywords}.
+     */
+    public SearchCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<SearchResult> results = model.search(keywords, MAX_RESULTS);
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, results.size()));
+        for (SearchResult result : results) {
+            feedback.append('\n').append(format(result.getRecord(), model));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Formats {@code record} of {@code model} for display, labelled with its type and id.
+     */
+    static String format(Object record, Model model) {
+        if (record instanceof Person) {
+            Person person = (Person) record;
+            return "[Contact #" + person.getId() + "] " + Messages.format(person);
+        } else if (record instanceof Event) {
+            Event event = (Event) record;
+            return "[Event #" + event.getId() + "] " + Messages.format(event);
+        } else {
+            Todo todo = (Todo) record;
+            return "[Todo #" + todo.getId() + "] " + Messages.format(todo, model.findContact(todo));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherCommand = (SearchCommand) other;
+        return keywords.equals(otherCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
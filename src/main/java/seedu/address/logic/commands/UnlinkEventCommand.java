@@ -2,8 +2,9 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
@@ -19,7 +20,7 @@ public class UnlinkEventCommand extends Command {
 
     public static final String MESSAGE_USAGE =
             COMMAND_WORD + ": Unlinks one or more persons from their linked event.\n"
-                    + "Parameters: INDEX [MORE_INDEXES] (must be a positive integer)\n"
+                    + "Parameters: INDEX [MORE_INDEXES] (each a positive integer or #ID)\n"
             + "Example: " + COMMAND_WORD + " 1 2 3";
 
     public static final String MESSAGE_SUCCESS = "Unlinked %1$d persons(s) from their events";
@@ -41,38 +42,23 @@ public class UnlinkEventCommand extends Command {
         requireNonNull(model);
 
         List<Person> lastShownList = model.getFilteredPersonList();
-        List<Index> duplicateIndexes = new ArrayList<>();
-
+        Set<Person> personsToUnlink = new LinkedHashSet<>();
         for (Index index : indexes) {
             assert index != null : "Index cannot be null";
-            if (index.getZeroBased() >= lastShownList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-            }
-
-            if (duplicateIndexes.contains(index)) {
+            Person personToUnlink = index.resolve(lastShownList, model::findPersonById)
+                    .orElseThrow(() -> new CommandException(Messages.getErrorMessageForInvalidPersonIndex(index)));
+            if (!personsToUnlink.add(personToUnlink)) {
                 throw new CommandException(MESSAGE_DUPLICATE_INDEX);
-            } else {
-                duplicateIndexes.add(index);
             }
         }
 
-        List<Person> personsToUnlink = new ArrayList<>();
-        for (Index index : indexes) {
-            Person personToUnlink = lastShownList.get(index.getZeroBased());
-            assert personToUnlink != null : "Person to unlink cannot be null";
-            personsToUnlink.add(personToUnlink);
-        }
-
-        for (Person personToUnlink : personsToUnlink) {
-            Person unlinkedPerson = new Person(
-                    personToUnlink.getName(),
-                    personToUnlink.getPhone(),
-                    personToUnlink.getEmail(),
-                    personToUnlink.getAddress(),
-                    personToUnlink.getTags(),
-                    null
-            );
-            model.setPerson(personToUnlink, unlinkedPerson);
+        model.beginBatch();
+        try {
+            for (Person personToUnlink : personsToUnlink) {
+                model.setPerson(personToUnlink, personToUnlink.withoutLinkedEvent());
+            }
+        } finally {
+            model.commitBatch();
         }
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, indexes.size()));
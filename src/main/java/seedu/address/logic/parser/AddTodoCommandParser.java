@@ -41,9 +41,9 @@ public class AddTodoCommandParser implements Parser<AddTodoCommand> {
                 ? ParserUtil.parseName(argMultiMap.getValue(PREFIX_NAME).get())
                 : null;
 
-        Todo todo = new Todo(todoName, todoDescription, contactName);
+        Todo todo = new Todo(todoName, todoDescription);
 
-        return new AddTodoCommand(todo);
+        return new AddTodoCommand(todo, contactName);
 
     }
 
@@ -13,6 +13,7 @@ import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.AddTodoCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CompositeFindCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteEventCommand;
 import seedu.address.logic.commands.DeleteTodoCommand;
@@ -20,15 +21,24 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditEventCommand;
 import seedu.address.logic.commands.EditTodoCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindByTagCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindContactByEventCommand;
 import seedu.address.logic.commands.FindEventCommand;
+import seedu.address.logic.commands.FindFreeSlotsCommand;
+import seedu.address.logic.commands.FindTextCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.LinkEventCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListEventsBetweenCommand;
 import seedu.address.logic.commands.ListEventsCommand;
+import seedu.address.logic.commands.ListOverlappingEventsCommand;
 import seedu.address.logic.commands.ListTodosCommand;
+import seedu.address.logic.commands.ListUpcomingEventsCommand;
 import seedu.address.logic.commands.MarkTodoCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnlinkEventCommand;
 import seedu.address.logic.commands.UnmarkTodoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -82,6 +92,9 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case CompositeFindCommand.COMMAND_WORD:
+            return new CompositeFindCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             if (!arguments.trim().isEmpty()) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
@@ -116,6 +129,18 @@ public class AddressBookParser {
             }
             return new ListEventsCommand();
 
+        case ListEventsBetweenCommand.COMMAND_WORD:
+            return new ListEventsBetweenCommandParser().parse(arguments);
+
+        case ListUpcomingEventsCommand.COMMAND_WORD:
+            return new ListUpcomingEventsCommandParser().parse(arguments);
+
+        case ListOverlappingEventsCommand.COMMAND_WORD:
+            return new ListOverlappingEventsCommandParser().parse(arguments);
+
+        case FindFreeSlotsCommand.COMMAND_WORD:
+            return new FindFreeSlotsCommandParser().parse(arguments);
+
         case ListTodosCommand.COMMAND_WORD:
             if (!arguments.trim().isEmpty()) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListTodosCommand.MESSAGE_USAGE));
@@ -140,9 +165,30 @@ public class AddressBookParser {
         case FindContactByEventCommand.COMMAND_WORD:
             return new FindContactByEventParser().parse(arguments);
 
+        case FindByTagCommand.COMMAND_WORD:
+            return new FindByTagCommandParser().parse(arguments);
+
+        case FindTextCommand.COMMAND_WORD:
+            return new FindTextCommandParser().parse(arguments);
+
+        case SearchCommand.COMMAND_WORD:
+            return new SearchCommandParser().parse(arguments);
+
         case DeleteTodoCommand.COMMAND_WORD:
             return new DeleteTodoCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            if (!arguments.trim().isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE));
+            }
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            if (!arguments.trim().isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE));
+            }
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -18,7 +18,10 @@ public class CliSyntax {
     public static final Prefix PREFIX_START = new Prefix("st/");
     public static final Prefix PREFIX_END = new Prefix("et/");
     public static final Prefix PREFIX_DESC = new Prefix("d/");
+    public static final Prefix PREFIX_HOURS = new Prefix("h/");
     // for todos
     public static final Prefix PREFIX_TODO_NAME = new Prefix("tn/");
     public static final Prefix PREFIX_TODO_DESCRIPTION = new Prefix("td/");
+    // for finds
+    public static final Prefix PREFIX_TYPOS = new Prefix("ty/");
 }
@@ -0,0 +1,88 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.CompositeFindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.TagExpression;
+
+/**
+ * Parses input arguments and creates a new CompositeFindCommand object
+ */
+public class CompositeFindCommandParser implements Parser<CompositeFindCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CompositeFindCommand
+     * and returns a CompositeFindCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CompositeFindCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG, PREFIX_EVENT_ALIAS,
+                PREFIX_PHONE, PREFIX_EMAIL);
+
+        if (!anyPrefixPresent(argMultimap, PREFIX_NAME, PREFIX_TAG, PREFIX_EVENT_ALIAS, PREFIX_PHONE, PREFIX_EMAIL)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw invalidFormat();
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_TAG, PREFIX_EVENT_ALIAS, PREFIX_PHONE,
+                PREFIX_EMAIL);
+
+        List<String> nameKeywords = List.of();
+        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
+            nameKeywords = Arrays.asList(parseCriterion(argMultimap.getValue(PREFIX_NAME).get()).split("\\s+"));
+        }
+        TagExpression tagExpression = null;
+        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            tagExpression = FindByTagCommandParser.parseTagExpression(
+                    parseCriterion(argMultimap.getValue(PREFIX_TAG).get()), CompositeFindCommand.MESSAGE_USAGE);
+        }
+        EventAlias eventAlias = null;
+        if (argMultimap.getValue(PREFIX_EVENT_ALIAS).isPresent()) {
+            eventAlias = ParserUtil.parseEventAlias(argMultimap.getValue(PREFIX_EVENT_ALIAS).get());
+        }
+        String phoneFragment = argMultimap.getValue(PREFIX_PHONE).isPresent()
+                ? parseCriterion(argMultimap.getValue(PREFIX_PHONE).get())
+                : null;
+        String emailFragment = argMultimap.getValue(PREFIX_EMAIL).isPresent()
+                ? parseCriterion(argMultimap.getValue(PREFIX_EMAIL).get())
+                : null;
+
+        return new CompositeFindCommand(
+                new PersonQuery(nameKeywords, tagExpression, eventAlias, phoneFragment, emailFragment));
+    }
+
+    /**
+     * Returns the trimmed value of a criterion.
+     * @throws ParseException if the value is blank
+     */
+    private static String parseCriterion(String value) throws ParseException {
+        String trimmedValue = value.trim();
+        if (trimmedValue.isEmpty()) {
+            throw invalidFormat();
+        }
+        return trimmedValue;
+    }
+
+    /**
+     * Returns true if any of the prefixes contains a value in the given {@code ArgumentMultimap}.
+     */
+    private static boolean anyPrefixPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).anyMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CompositeFindCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.FindByTagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.TagExpression;
+
+/**
+ * Parses input arguments and creates a new FindByTagCommand object.
+ * The tag expression is parsed by recursive descent, with NOT binding tighter than AND, and AND tighter than OR:
+ * <pre>
+ * or  := and ("OR" and)*
+ * and := not (["AND"] not)*
+ * not := "NOT" not | TAG | "(" or ")"
+ * </pre>
+ */
+public class FindByTagCommandParser implements Parser<FindByTagCommand> {
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[()]|[^\\s()]+");
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private final String usage;
+    private List<String> tokens;
+    private int position;
+
+    public FindByTagCommandParser() {
+        this(FindByTagCommand.MESSAGE_USAGE);
+    }
+
+    private FindByTagCommandParser(String usage) {
+        this.usage = usage;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindByTagCommand
+     * and returns a FindByTagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindByTagCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+
+        Optional<String> expression = argMultimap.getValue(PREFIX_TAG);
+        if (expression.isEmpty() || expression.get().isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw invalidFormat();
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TAG);
+
+        return new FindByTagCommand(parseExpression(expression.get()));
+    }
+
+    /**
+     * Parses {@code expression} into a {@code TagExpression}, for other commands that take one, whose invalid
+     * command format message shows {@code usage}.
+     * @throws ParseException if {@code expression} is not a valid tag expression
+     */
+    static TagExpression parseTagExpression(String expression, String usage) throws ParseException {
+        return new FindByTagCommandParser(usage).parseExpression(expression);
+    }
+
+    private TagExpression parseExpression(String expression) throws ParseException {
+        tokens = tokenize(expression);
+        position = 0;
+        TagExpression tagExpression = parseOr();
+        if (position != tokens.size()) {
+            throw invalidFormat();
+        }
+        return tagExpression;
+    }
+
+    private static List<String> tokenize(String expression) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(expression);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    private TagExpression parseOr() throws ParseException {
+        TagExpression expression = parseAnd();
+        while (accept(OR)) {
+            expression = TagExpression.or(expression, parseAnd());
+        }
+        return expression;
+    }
+
+    private TagExpression parseAnd() throws ParseException {
+        TagExpression expression = parseNot();
+        while (accept(AND) || startsOperand()) {
+            expression = TagExpression.and(expression, parseNot());
+        }
+        return expression;
+    }
+
+    private TagExpression parseNot() throws ParseException {
+        if (accept(NOT)) {
+            return TagExpression.not(parseNot());
+        }
+        if (accept(OPEN)) {
+            TagExpression expression = parseOr();
+            if (!accept(CLOSE)) {
+                throw invalidFormat();
+            }
+            return expression;
+        }
+        if (!startsOperand()) {
+            throw invalidFormat();
+        }
+        return TagExpression.of(ParserUtil.parseTag(tokens.get(position++)));
+    }
+
+    /**
+     * Returns true if the next token starts an operand, i.e. it is a tag, NOT or an opening parenthesis.
+     */
+    private boolean startsOperand() {
+        if (position == tokens.size()) {
+            return false;
+        }
+        String token = tokens.get(position);
+        return !token.equals(AND) && !token.equals(OR) && !token.equals(CLOSE);
+    }
+
+    /**
+     * Consumes the next token if it is {@code expected}.
+     */
+    private boolean accept(String expected) {
+        if (position < tokens.size() && tokens.get(position).equals(expected)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPOS;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -21,7 +22,7 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TYPOS);
 
         Optional<String> keywords = argMultimap.getValue(PREFIX_NAME);
 
@@ -29,11 +30,14 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_TYPOS);
 
         String[] keywordsArray = keywords.get().split("\\s+");
+        int maxTypos = argMultimap.getValue(PREFIX_TYPOS).isPresent()
+                ? ParserUtil.parseTypos(argMultimap.getValue(PREFIX_TYPOS).get())
+                : 0;
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywordsArray)));
+        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywordsArray), maxTypos));
     }
 
 }
@@ -6,7 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
 import seedu.address.logic.commands.FindContactByEventCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.EventAlias;
-import seedu.address.model.person.EventAliasMatchesPredicate;
 
 /**
  * Parses input arguments and creates a new FindContactByEvent object
@@ -28,7 +27,7 @@ public class FindContactByEventParser implements Parser<FindContactByEventComman
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EVENT_ALIAS);
 
         EventAlias alias = ParserUtil.parseEventAlias(argMultimap.getValue(PREFIX_EVENT_ALIAS).get());
-        return new FindContactByEventCommand(new EventAliasMatchesPredicate(alias), alias);
+        return new FindContactByEventCommand(alias);
 
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPOS;
 
 import java.util.Arrays;
 
@@ -22,7 +23,7 @@ public class FindEventCommandParser implements Parser<FindEventCommand> {
      */
     public FindEventCommand parse(String args) throws ParseException {
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT_ALIAS);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_EVENT_ALIAS, PREFIX_TYPOS);
 
         if (!argMultimap.getPreamble().isEmpty()
                 || !argMultimap.getValue(PREFIX_EVENT_ALIAS).isPresent()
@@ -30,10 +31,13 @@ public class FindEventCommandParser implements Parser<FindEventCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EVENT_ALIAS);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_EVENT_ALIAS, PREFIX_TYPOS);
 
         String[] aliasKeywords = argMultimap.getValue(PREFIX_EVENT_ALIAS).get().trim().split("\\s+");
+        int maxTypos = argMultimap.getValue(PREFIX_TYPOS).isPresent()
+                ? ParserUtil.parseTypos(argMultimap.getValue(PREFIX_TYPOS).get())
+                : 0;
 
-        return new FindEventCommand(new AliasContainsKeywordsPredicate(Arrays.asList(aliasKeywords)));
+        return new FindEventCommand(new AliasContainsKeywordsPredicate(Arrays.asList(aliasKeywords), maxTypos));
     }
 }
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_TIME_WINDOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import seedu.address.logic.commands.FindFreeSlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindFreeSlotsCommand object
+ */
+public class FindFreeSlotsCommandParser implements Parser<FindFreeSlotsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindFreeSlotsCommand
+     * and returns a FindFreeSlotsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindFreeSlotsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START, PREFIX_END, PREFIX_HOURS);
+
+        if (argMultimap.getValue(PREFIX_START).isEmpty() || argMultimap.getValue(PREFIX_END).isEmpty()
+                || argMultimap.getValue(PREFIX_HOURS).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFreeSlotsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START, PREFIX_END, PREFIX_HOURS);
+        LocalDateTime from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_START).get());
+        LocalDateTime to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_END).get());
+        if (!from.isBefore(to)) {
+            throw new ParseException(MESSAGE_INVALID_TIME_WINDOW);
+        }
+        Duration minDuration = ParserUtil.parseHours(argMultimap.getValue(PREFIX_HOURS).get());
+
+        return new FindFreeSlotsCommand(from, to, minDuration);
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FindTextCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindTextCommand object
+ */
+public class FindTextCommandParser implements Parser<FindTextCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindTextCommand
+     * and returns a FindTextCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindTextCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTextCommand.MESSAGE_USAGE));
+        }
+
+        return new FindTextCommand(trimmedArgs);
+    }
+
+}
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_TIME_WINDOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.LocalDateTime;
+
+import seedu.address.logic.commands.ListOverlappingEventsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListOverlappingEventsCommand object
+ */
+public class ListOverlappingEventsCommandParser implements Parser<ListOverlappingEventsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListOverlappingEventsCommand
+     * and returns a ListOverlappingEventsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListOverlappingEventsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START, PREFIX_END);
+
+        if (argMultimap.getValue(PREFIX_START).isEmpty() || argMultimap.getValue(PREFIX_END).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListOverlappingEventsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START, PREFIX_END);
+        LocalDateTime from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_START).get());
+        LocalDateTime to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_END).get());
+        if (!from.isBefore(to)) {
+            throw new ParseException(MESSAGE_INVALID_TIME_WINDOW);
+        }
+
+        return new ListOverlappingEventsCommand(from, to);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ListUpcomingEventsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListUpcomingEventsCommand object
+ */
+public class ListUpcomingEventsCommandParser implements Parser<ListUpcomingEventsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListUpcomingEventsCommand
+     * and returns a ListUpcomingEventsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListUpcomingEventsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START);
+
+        String count = argMultimap.getPreamble();
+        if (!StringUtil.isNonZeroUnsignedInteger(count)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListUpcomingEventsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START);
+        Optional<LocalDateTime> from = Optional.empty();
+        if (argMultimap.getValue(PREFIX_START).isPresent()) {
+            from = Optional.of(ParserUtil.parseDate(argMultimap.getValue(PREFIX_START).get()));
+        }
+
+        return new ListUpcomingEventsCommand(Integer.parseInt(count), from);
+    }
+}
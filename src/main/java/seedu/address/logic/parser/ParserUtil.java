@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -28,17 +29,25 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INTEGER_OVERFLOW = "This index is too large!";
+    public static final String MESSAGE_INVALID_ID = "Id is not '#' followed by a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_DATETIME =
             "Invalid date or time and/or incorrect format.\nExpected format: yyyy-MM-dd HH:mm";
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    public static final String MESSAGE_INVALID_HOURS =
+            "Hours must be a positive number of up to 5 digits, with at most 2 decimal places, e.g. 1.5";
+    public static final int MAX_TYPOS = 3;
+    public static final String MESSAGE_INVALID_TYPOS = "Typos must be a whole number from 0 to " + MAX_TYPOS + ".";
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
-     * trimmed.
+     * trimmed. An input of the form {@code #ID} is parsed into an {@code Index} holding that record id instead.
      * @throws ParseException if the specified index is invalid (not non-zero unsigned integer).
      */
     public static Index parseIndex(String oneBasedIndex) throws ParseException {
         String trimmedIndex = oneBasedIndex.trim();
+        if (trimmedIndex.startsWith("#")) {
+            return parseId(trimmedIndex.substring(1));
+        }
         if (!StringUtil.isNonZeroUnsignedInteger(trimmedIndex)) {
             throw new ParseException(MESSAGE_INVALID_INDEX);
         }
@@ -53,6 +62,27 @@ public class ParserUtil {
         return Index.fromOneBased(indexValue);
     }
 
+    /**
+     * Parses the digits of an {@code #ID} input into an {@code Index} holding that id.
+     */
+    private static Index parseId(String id) throws ParseException {
+        if (id.isEmpty() || !id.chars().allMatch(Character::isDigit)) {
+            throw new ParseException(MESSAGE_INVALID_ID);
+        }
+
+        long idValue;
+        try {
+            idValue = Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INTEGER_OVERFLOW);
+        }
+        if (idValue == 0) {
+            throw new ParseException(MESSAGE_INVALID_ID);
+        }
+
+        return Index.fromId(idValue);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -177,7 +207,7 @@ public class ParserUtil {
         requireNonNull(datetime);
         String trimmed = datetime.trim();
         try {
-            return LocalDateTime.parse(trimmed, FORMATTER);
+            return LocalDateTime.parse(trimmed, DATE_TIME_FORMATTER);
         } catch (DateTimeParseException e) {
             throw new ParseException(MESSAGE_INVALID_DATETIME);
         }
@@ -198,6 +228,38 @@ public class ParserUtil {
         return new TodoName(trimmedName);
     }
 
+    /**
+     * Parses a {@code String hours}, such as {@code 1.5}, into a {@code Duration}, rounded to the minute.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code hours} is not a positive number in the expected format.
+     */
+    public static Duration parseHours(String hours) throws ParseException {
+        requireNonNull(hours);
+        String trimmedHours = hours.trim();
+        if (!trimmedHours.matches("\\d{1,5}(\\.\\d{1,2})?")) {
+            throw new ParseException(MESSAGE_INVALID_HOURS);
+        }
+        long minutes = Math.round(Double.parseDouble(trimmedHours) * 60);
+        if (minutes == 0) {
+            throw new ParseException(MESSAGE_INVALID_HOURS);
+        }
+        return Duration.ofMinutes(minutes);
+    }
+
+    /**
+     * Parses a {@code String typos} into the number of typos allowed per word by a find.
+     * Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code typos} is not a whole number from 0 to {@link #MAX_TYPOS}.
+     */
+    public static int parseTypos(String typos) throws ParseException {
+        requireNonNull(typos);
+        String trimmedTypos = typos.trim();
+        if (!trimmedTypos.matches("\\d") || Integer.parseInt(trimmedTypos) > MAX_TYPOS) {
+            throw new ParseException(MESSAGE_INVALID_TYPOS);
+        }
+        return Integer.parseInt(trimmedTypos);
+    }
+
     /**
      * Parses a {@code String description} and make sures it is valid.
      * Leading and trailing whitespaces will be trimmed.
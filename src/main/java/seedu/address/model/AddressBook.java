@@ -2,16 +2,35 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBookChange.CompositeChange;
+import seedu.address.model.AddressBookChange.ListChange;
+import seedu.address.model.AddressBookChange.ListReplacer;
+import seedu.address.model.AddressBookChange.RecordChange;
+import seedu.address.model.AddressBookChange.RecordReplacer;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.event.TimeSlot;
 import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.model.todo.Todo;
 import seedu.address.model.todo.UniqueTodoList;
+import seedu.address.model.todo.exceptions.TodoNotFoundException;
 
 /**
  * Wraps all data at the address-book level
@@ -19,12 +38,32 @@ import seedu.address.model.todo.UniqueTodoList;
  * - Persons: as defined by {@code UniquePersonList}
  * - Events: as defined by {@code UniqueEventList}
  * - Todos: as defined by {@code UniqueTodoList}
+ * Every record is given a stable id when it is first added, which is kept across edits and saved with the data.
+ * Records link to each other by id, so that editing a record, even renaming it, leaves the records linking to it
+ * untouched. The links are also indexed in reverse, so that cascades do not need to scan a whole list:
+ * - Persons by the id of the event they are linked to
+ * - Todos by the id of the contact they are linked to
+ * The text of every record is also indexed by term, so that full-text searches do not need to scan every list. That
+ * index is only built on the first search, and dropped whenever a whole list is replaced, so that loading does not pay
+ * for it.
+ * Each list has a version that grows with every change to it, so that results computed from a list can be reused
+ * for as long as its version stays the same.
+ * Once {@link #startRecordingChanges()} is called, every change is also recorded as an {@code AddressBookChange}
+ * holding only the records it touched, so that it can be undone. Replacing a record with itself changes nothing, so
+ * it is not recorded.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueEventList events;
     private final UniqueTodoList todos;
+    private final ReverseIndex<Person> personsByEventId;
+    private final ReverseIndex<Todo> todosByContactId;
+    private final SearchIndex searchIndex;
+    private List<AddressBookChange> recordedChanges;
+    private long personsVersion;
+    private long eventsVersion;
+    private long todosVersion;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +76,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         events = new UniqueEventList();
         todos = new UniqueTodoList();
+        personsByEventId = new ReverseIndex<>();
+        todosByContactId = new ReverseIndex<>();
+        searchIndex = new SearchIndex(persons, events, todos);
     }
 
     public AddressBook() {}
@@ -56,7 +98,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        recordListChange(AddressBook::replacePersons, this.persons, persons);
+    }
+
+    private void replacePersons(List<Person> persons) {
+        personsVersion++;
         this.persons.setPersons(persons);
+        personsByEventId.clear();
+        this.persons.forEach(this::addLink);
+        searchIndex.clear();
     }
 
     /**
@@ -64,7 +114,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code events} must not contain duplicate events.
      */
     public void setEvents(List<Event> events) {
+        recordListChange(AddressBook::replaceEvents, this.events, events);
+    }
+
+    private void replaceEvents(List<Event> events) {
+        eventsVersion++;
         this.events.setEvents(events);
+        searchIndex.clear();
     }
 
     /**
@@ -72,7 +128,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code todos} must not contain duplicate todos.
      */
     public void setTodos(List<Todo> todos) {
+        recordListChange(AddressBook::replaceTodos, this.todos, todos);
+    }
+
+    private void replaceTodos(List<Todo> todos) {
+        todosVersion++;
         this.todos.setTodos(todos);
+        todosByContactId.clear();
+        this.todos.forEach(this::addLink);
+        searchIndex.clear();
     }
 
     /**
@@ -85,6 +149,55 @@ public class AddressBook implements ReadOnlyAddressBook {
         setTodos(newData.getTodoList());
     }
 
+    /**
+     * Starts a batch of changes. Until the matching {@link #commitBatch()}, changes are not published to the
+     * listeners of the person, event and todo lists; each list then publishes all of them as a single change.
+     * Identity checks and lookups stay up to date throughout. Batches may be nested.
+     */
+    public void beginBatch() {
+        persons.beginBatch();
+        events.beginBatch();
+        todos.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     */
+    public void commitBatch() {
+        // the lists may only now publish the changes made during the batch, so results computed from the contents
+        // shown during the batch must not be reused; lists the batch left untouched keep their versions
+        if (persons.commitBatch()) {
+            personsVersion++;
+        }
+        if (events.commitBatch()) {
+            eventsVersion++;
+        }
+        if (todos.commitBatch()) {
+            todosVersion++;
+        }
+    }
+
+    /**
+     * Returns the version of the person list, which grows whenever the list changes.
+     */
+    public long getPersonsVersion() {
+        return personsVersion;
+    }
+
+    /**
+     * Returns the version of the event list, which grows whenever the list changes.
+     */
+    public long getEventsVersion() {
+        return eventsVersion;
+    }
+
+    /**
+     * Returns the version of the todo list, which grows whenever the list changes.
+     */
+    public long getTodosVersion() {
+        return todosVersion;
+    }
+
     //// person-level operations
 
     /**
@@ -100,19 +213,32 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        Person stored = persons.add(p);
+        personsVersion++;
+        addLink(stored);
+        searchIndex.add(stored);
+        recordChange(AddressBook::replacePerson, persons.indexOf(stored), null, stored);
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * Todos linked to {@code target} stay linked to {@code editedPerson}, which keeps its id.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
-        todos.setPerson(target, editedPerson);
+        int index = persons.indexOf(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        Person before = persons.get(index);
+        if (editedPerson == before) {
+            return;
+        }
+        Person stored = replacePerson(index, before, editedPerson);
+        recordChange(AddressBook::replacePerson, index, before, stored);
     }
 
     /**
@@ -120,7 +246,123 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        int index = persons.indexOf(key);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        Person removed = persons.get(index);
+        replacePerson(index, removed, null);
+        recordChange(AddressBook::replacePerson, index, removed, null);
+    }
+
+    /**
+     * Replaces {@code before} at {@code index} in the person list with {@code after}, without unlinking todos.
+     * A null {@code before} inserts {@code after}, and a null {@code after} removes {@code before}.
+     *
+     * @return {@code after} as stored in the person list, or null if {@code before} was removed.
+     */
+    private Person replacePerson(int index, Person before, Person after) {
+        personsVersion++;
+        Person stored = null;
+        if (before == null) {
+            stored = persons.add(index, after);
+        } else if (after == null) {
+            persons.remove(before);
+        } else {
+            stored = persons.setPerson(before, after);
+        }
+        if (before != null) {
+            removeLink(before);
+            searchIndex.remove(before);
+        }
+        if (stored != null) {
+            addLink(stored);
+            searchIndex.add(stored);
+        }
+        return stored;
+    }
+
+    /**
+     * Returns the {@code limit} persons, events and todos most relevant to {@code keywords}, most relevant first.
+     */
+    public List<SearchResult> search(List<String> keywords, int limit) {
+        return searchIndex.search(keywords, limit);
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if it exists in the address book.
+     */
+    public Optional<Person> findPersonById(long id) {
+        return persons.findById(id);
+    }
+
+    /**
+     * Returns the person with the given {@code name}, if it exists in the address book.
+     */
+    public Optional<Person> findPersonByName(Name name) {
+        return persons.findByName(name);
+    }
+
+    /**
+     * Returns the persons whose tags match {@code expression}.
+     */
+    public List<Person> getPersonsWithTags(TagExpression expression) {
+        return persons.getPersonsWithTags(expression);
+    }
+
+    /**
+     * Returns the persons whose name or address contains {@code text}, ignoring case.
+     */
+    public Set<Person> getPersonsContaining(String text) {
+        return persons.getPersonsContaining(text);
+    }
+
+    /**
+     * Returns the persons with a word in their name within {@code maxTypos} edits of {@code word}, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameWordWithin(String word, int maxTypos) {
+        return persons.getPersonsWithNameWordWithin(word, maxTypos);
+    }
+
+    /**
+     * Returns persons including every person meeting {@code query}, found through the most selective index among
+     * those of its criteria, or every person if none of its criteria has an index.
+     */
+    public Collection<Person> getPersonCandidates(PersonQuery query) {
+        requireNonNull(query);
+        return new PersonQueryPlanner(this).getPersonCandidates(query);
+    }
+
+    /**
+     * Returns the persons linked to the event with the given {@code eventId}, in the order they were linked.
+     * The returned list is a copy and may be iterated while the address book is being modified.
+     */
+    public List<Person> getPersonsLinkedToEvent(long eventId) {
+        return personsByEventId.get(eventId);
+    }
+
+    /**
+     * Returns the todos linked to the contact with the given {@code personId}, in the order they were linked.
+     * The returned list is a copy and may be iterated while the address book is being modified.
+     */
+    public List<Todo> getTodosLinkedToPerson(long personId) {
+        return todosByContactId.get(personId);
+    }
+
+    /**
+     * Returns the event {@code person} is linked to, if it is linked to one that exists in the address book.
+     */
+    public Optional<Event> findLinkedEvent(Person person) {
+        requireNonNull(person);
+        return person.hasLinkedEvent() ? events.findById(person.getLinkedEventId()) : Optional.empty();
+    }
+
+    /**
+     * Returns the contact {@code todo} is linked to, if it is linked to one that exists in the address book.
+     */
+    public Optional<Person> findContact(Todo todo) {
+        requireNonNull(todo);
+        return todo.hasContact() ? persons.findById(todo.getContactId()) : Optional.empty();
     }
 
     /**
@@ -131,12 +373,80 @@ public class AddressBook implements ReadOnlyAddressBook {
         return events.contains(event);
     }
 
+    /**
+     * Returns the event whose alias matches {@code alias} (case-insensitive), if it exists in the address book.
+     */
+    public Optional<Event> findEventByAlias(EventAlias alias) {
+        requireNonNull(alias);
+        return events.findByAlias(alias);
+    }
+
+    /**
+     * Returns the event with the given {@code id}, if it exists in the address book.
+     */
+    public Optional<Event> findEventById(long id) {
+        return events.findById(id);
+    }
+
+    /**
+     * Returns the events whose alias starts with {@code prefix}, ignoring case, ordered by alias.
+     */
+    public List<Event> getEventsWithAliasStartingWith(String prefix) {
+        return events.getEventsWithAliasStartingWith(prefix);
+    }
+
+    /**
+     * Returns the events whose alias is within {@code maxTypos} edits of {@code alias}, ignoring case.
+     */
+    public Set<Event> getEventsWithAliasWithin(String alias, int maxTypos) {
+        return events.getEventsWithAliasWithin(alias, maxTypos);
+    }
+
+    /**
+     * Returns the events whose description contains {@code text}, ignoring case.
+     */
+    public Set<Event> getEventsContaining(String text) {
+        return events.getEventsContaining(text);
+    }
+
+    /**
+     * Returns the events starting at or after {@code from} and before {@code to}, by start time.
+     */
+    public List<Event> getEventsStartingBetween(LocalDateTime from, LocalDateTime to) {
+        return events.getEventsStartingBetween(from, to);
+    }
+
+    /**
+     * Returns the first {@code count} events starting at or after {@code from}, by start time.
+     */
+    public List<Event> getEventsStartingFrom(LocalDateTime from, int count) {
+        return events.getEventsStartingFrom(from, count);
+    }
+
+    /**
+     * Returns the events that overlap the window from {@code from} to {@code to}, by start time.
+     */
+    public List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return events.getEventsOverlapping(from, to);
+    }
+
+    /**
+     * Returns the gaps between events within the window from {@code from} to {@code to} that last at least
+     * {@code minDuration}, by start time.
+     */
+    public List<TimeSlot> getFreeSlots(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        return events.getFreeSlots(from, to, minDuration);
+    }
+
     /**
      * Adds an event to the address book.
      * The event must not already exist in the address book.
      */
     public void addEvent(Event e) {
-        events.add(e);
+        Event stored = events.add(e);
+        eventsVersion++;
+        searchIndex.add(stored);
+        recordChange(AddressBook::replaceEvent, events.indexOf(stored), null, stored);
     }
 
     /**
@@ -147,12 +457,52 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setEvent(Event target, Event editedEvent) {
         requireNonNull(editedEvent);
 
-        events.setEvent(target, editedEvent);
+        int index = events.indexOf(target);
+        if (index == -1) {
+            throw new EventNotFoundException();
+        }
+        Event before = events.get(index);
+        if (editedEvent == before) {
+            return;
+        }
+        Event stored = replaceEvent(index, before, editedEvent);
+        recordChange(AddressBook::replaceEvent, index, before, stored);
     }
 
     /** Removes event from the address book. */
     public void removeEvent(Event e) {
-        events.remove(e);
+        int index = events.indexOf(e);
+        if (index == -1) {
+            throw new EventNotFoundException();
+        }
+        Event removed = events.get(index);
+        replaceEvent(index, removed, null);
+        recordChange(AddressBook::replaceEvent, index, removed, null);
+    }
+
+    /**
+     * Replaces {@code before} at {@code index} in the event list with {@code after}, without unlinking persons.
+     * A null {@code before} inserts {@code after}, and a null {@code after} removes {@code before}.
+     *
+     * @return {@code after} as stored in the event list, or null if {@code before} was removed.
+     */
+    private Event replaceEvent(int index, Event before, Event after) {
+        eventsVersion++;
+        Event stored = null;
+        if (before == null) {
+            stored = events.add(index, after);
+        } else if (after == null) {
+            events.remove(before);
+        } else {
+            stored = events.setEvent(before, after);
+        }
+        if (before != null) {
+            searchIndex.remove(before);
+        }
+        if (stored != null) {
+            searchIndex.add(stored);
+        }
+        return stored;
     }
 
     /**
@@ -168,7 +518,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The todo must not already exist in the address book.
      */
     public void addTodo(Todo todo) {
-        todos.add(todo);
+        Todo stored = todos.add(todo);
+        todosVersion++;
+        addLink(stored);
+        searchIndex.add(stored);
+        recordChange(AddressBook::replaceTodo, todos.indexOf(stored), null, stored);
     }
 
     /**
@@ -179,12 +533,152 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setTodo(Todo target, Todo editedTodo) {
         requireNonNull(editedTodo);
 
-        todos.setTodo(target, editedTodo);
+        int index = todos.indexOf(target);
+        if (index == -1) {
+            throw new TodoNotFoundException();
+        }
+        Todo before = todos.get(index);
+        if (editedTodo == before) {
+            return;
+        }
+        Todo stored = replaceTodo(index, before, editedTodo);
+        recordChange(AddressBook::replaceTodo, index, before, stored);
+    }
+
+    /**
+     * Returns the todo with the given {@code id}, if it exists in the address book.
+     */
+    public Optional<Todo> findTodoById(long id) {
+        return todos.findById(id);
+    }
+
+    /**
+     * Returns the todos whose description contains {@code text}, ignoring case.
+     */
+    public Set<Todo> getTodosContaining(String text) {
+        return todos.getTodosContaining(text);
     }
 
     /** Removes todo from the address book. */
     public void removeTodo(Todo todo) {
-        todos.remove(todo);
+        int index = todos.indexOf(todo);
+        if (index == -1) {
+            throw new TodoNotFoundException();
+        }
+        Todo removed = todos.get(index);
+        replaceTodo(index, removed, null);
+        recordChange(AddressBook::replaceTodo, index, removed, null);
+    }
+
+    /**
+     * Replaces {@code before} at {@code index} in the todo list with {@code after}.
+     * A null {@code before} inserts {@code after}, and a null {@code after} removes {@code before}.
+     *
+     * @return {@code after} as stored in the todo list, or null if {@code before} was removed.
+     */
+    private Todo replaceTodo(int index, Todo before, Todo after) {
+        todosVersion++;
+        Todo stored = null;
+        if (before == null) {
+            stored = todos.add(index, after);
+        } else if (after == null) {
+            todos.remove(before);
+        } else {
+            stored = todos.setTodo(before, after);
+        }
+        if (before != null) {
+            removeLink(before);
+            searchIndex.remove(before);
+        }
+        if (stored != null) {
+            addLink(stored);
+            searchIndex.add(stored);
+        }
+        return stored;
+    }
+
+    //// link indexing
+
+    private void addLink(Person person) {
+        if (person.hasLinkedEvent()) {
+            personsByEventId.add(person.getLinkedEventId(), person);
+        }
+    }
+
+    private void removeLink(Person person) {
+        if (person.hasLinkedEvent()) {
+            personsByEventId.remove(person.getLinkedEventId(), person);
+        }
+    }
+
+    private void addLink(Todo todo) {
+        if (todo.hasContact()) {
+            todosByContactId.add(todo.getContactId(), todo);
+        }
+    }
+
+    private void removeLink(Todo todo) {
+        if (todo.hasContact()) {
+            todosByContactId.remove(todo.getContactId(), todo);
+        }
+    }
+
+    //// change recording
+
+    /**
+     * Starts recording the changes made to this address book, to be collected by {@link #takeRecordedChanges()}.
+     */
+    void startRecordingChanges() {
+        if (recordedChanges == null) {
+            recordedChanges = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Returns the changes recorded since the last call as a single change, which undoes and redoes them together,
+     * or an empty {@code Optional} if nothing changed.
+     */
+    Optional<AddressBookChange> takeRecordedChanges() {
+        if (recordedChanges == null || recordedChanges.isEmpty()) {
+            return Optional.empty();
+        }
+        AddressBookChange change = recordedChanges.size() == 1
+                ? recordedChanges.get(0)
+                : new CompositeChange(recordedChanges);
+        recordedChanges.clear();
+        return Optional.of(change);
+    }
+
+    private <T> void recordChange(RecordReplacer<T> replacer, int index, T before, T after) {
+        if (recordedChanges != null) {
+            recordedChanges.add(new RecordChange<>(replacer, index, before, after));
+        }
+    }
+
+    /**
+     * Replaces the contents of {@code list} with {@code contents} using {@code replacer}, recording the change.
+     */
+    private <T> void recordListChange(ListReplacer<T> replacer, Iterable<T> list, List<T> contents) {
+        if (recordedChanges == null) {
+            replacer.replace(this, contents);
+            return;
+        }
+        List<T> before = new ArrayList<>();
+        list.forEach(before::add);
+        replacer.replace(this, contents);
+        List<T> after = new ArrayList<>();
+        list.forEach(after::add);
+        recordedChanges.add(new ListChange<>(replacer, before, after));
+    }
+
+    /**
+     * Returns an immutable copy of this address book, excluding changes made in a batch that is still open.
+     * Takes constant time and does not make later changes any slower, as the lists share their persistent contents
+     * with the snapshot instead of copying them, so it may be taken after every change, e.g. to save the data.
+     * The address book must only be used from the thread that runs commands, but the snapshot may be read from any.
+     */
+    public ReadOnlyAddressBook snapshot() {
+        return new Snapshot(persons.snapshot(), events.snapshot(), todos.snapshot());
     }
 
     //// util methods
@@ -197,17 +691,38 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     @Override
-    public ObservableList<Person> getPersonList() {
-        return persons.asUnmodifiableObservableList();
+    public ListenableList<Person> getPersonList() {
+        return persons.asUnmodifiableList();
     }
 
-    public ObservableList<Event> getEventList() {
-        return events.asUnmodifiableObservableList();
+    public ListenableList<Event> getEventList() {
+        return events.asUnmodifiableList();
     }
 
     @Override
-    public ObservableList<Todo> getTodoList() {
-        return todos.asUnmodifiableObservableList();
+    public ListenableList<Todo> getTodoList() {
+        return todos.asUnmodifiableList();
+    }
+
+    /**
+     * Returns the position of the instance {@code person} in {@link #getPersonList()}, or -1 if it is not there.
+     */
+    public int indexOfShownPerson(Person person) {
+        return persons.indexOfShown(person);
+    }
+
+    /**
+     * Returns the position of the instance {@code event} in {@link #getEventList()}, or -1 if it is not there.
+     */
+    public int indexOfShownEvent(Event event) {
+        return events.indexOfShown(event);
+    }
+
+    /**
+     * Returns the position of the instance {@code todo} in {@link #getTodoList()}, or -1 if it is not there.
+     */
+    public int indexOfShownTodo(Todo todo) {
+        return todos.indexOfShown(todo);
     }
 
     @Override
@@ -231,4 +746,84 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return java.util.Objects.hash(persons, events, todos);
     }
+
+    /**
+     * An immutable copy of an address book, taken by {@link #snapshot()}.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ListenableList<Person> persons;
+        private final ListenableList<Event> events;
+        private final ListenableList<Todo> todos;
+
+        Snapshot(ListenableList<Person> persons, ListenableList<Event> events, ListenableList<Todo> todos) {
+            this.persons = persons;
+            this.events = events;
+            this.todos = todos;
+        }
+
+        @Override
+        public ListenableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ListenableList<Event> getEventList() {
+            return events;
+        }
+
+        @Override
+        public ListenableList<Todo> getTodoList() {
+            return todos;
+        }
+    }
+
+    /**
+     * Collects the records of an address book so that it can be populated in bulk, e.g. when loading from storage.
+     * Unlike calling {@code addPerson} once per record, {@link #build()} checks the identity of each list in a single
+     * pass and fills each backing list with one change, so listeners are notified once per list.
+     */
+    public static class Builder {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Event> events = new ArrayList<>();
+        private final List<Todo> todos = new ArrayList<>();
+
+        /**
+         * Adds {@code person} to the address book being built.
+         */
+        public Builder addPerson(Person person) {
+            persons.add(requireNonNull(person));
+            return this;
+        }
+
+        /**
+         * Adds {@code event} to the address book being built.
+         */
+        public Builder addEvent(Event event) {
+            events.add(requireNonNull(event));
+            return this;
+        }
+
+        /**
+         * Adds {@code todo} to the address book being built.
+         */
+        public Builder addTodo(Todo todo) {
+            todos.add(requireNonNull(todo));
+            return this;
+        }
+
+        /**
+         * Returns an {@code AddressBook} holding all the added records.
+         *
+         * @throws seedu.address.model.person.exceptions.DuplicatePersonException if two persons share an identity.
+         * @throws seedu.address.model.event.exceptions.DuplicateEventException if two events share an identity.
+         * @throws seedu.address.model.todo.exceptions.DuplicateTodoException if two todos share an identity.
+         */
+        public AddressBook build() {
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            addressBook.setEvents(events);
+            addressBook.setTodos(todos);
+            return addressBook;
+        }
+    }
 }
@@ -0,0 +1,151 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A change made to an {@code AddressBook}, recorded by the address book so that it can be undone and redone.
+ * A change holds only the records it touched, so undoing or redoing it takes time proportional to its size rather
+ * than to the size of the address book.
+ * A change may only be undone on the address book it was recorded on, in the state right after it was made,
+ * and redone in the state right after it was undone.
+ */
+interface AddressBookChange {
+
+    /**
+     * Reverts this change on {@code addressBook}.
+     */
+    void undo(AddressBook addressBook);
+
+    /**
+     * Makes this change again on {@code addressBook}, after it has been undone.
+     */
+    void redo(AddressBook addressBook);
+
+    /**
+     * Returns the number of records held by this change, as a measure of its memory use.
+     */
+    int size();
+
+    /**
+     * Replaces the record at some position of one of the lists of an address book, without cascading the change to
+     * linked records.
+     */
+    @FunctionalInterface
+    interface RecordReplacer<T> {
+        /**
+         * Replaces {@code before} at {@code index} with {@code after}.
+         * A null {@code before} inserts {@code after}, and a null {@code after} removes {@code before}.
+         */
+        void replace(AddressBook addressBook, int index, T before, T after);
+    }
+
+    /**
+     * Replaces the contents of one of the lists of an address book, without cascading the change to linked records.
+     */
+    @FunctionalInterface
+    interface ListReplacer<T> {
+        void replace(AddressBook addressBook, List<T> contents);
+    }
+
+    /**
+     * A single record added, replaced or removed.
+     */
+    final class RecordChange<T> implements AddressBookChange {
+        private final RecordReplacer<T> replacer;
+        private final int index;
+        private final T before;
+        private final T after;
+
+        /**
+         * Creates the change of {@code before} at {@code index} to {@code after}, where a null {@code before} means
+         * that {@code after} was added and a null {@code after} means that {@code before} was removed.
+         */
+        RecordChange(RecordReplacer<T> replacer, int index, T before, T after) {
+            assert before != null || after != null;
+            this.replacer = requireNonNull(replacer);
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            replacer.replace(addressBook, index, after, before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            replacer.replace(addressBook, index, before, after);
+        }
+
+        @Override
+        public int size() {
+            return before != null && after != null ? 2 : 1;
+        }
+    }
+
+    /**
+     * The whole contents of a list replaced.
+     */
+    final class ListChange<T> implements AddressBookChange {
+        private final ListReplacer<T> replacer;
+        private final List<T> before;
+        private final List<T> after;
+
+        ListChange(ListReplacer<T> replacer, List<T> before, List<T> after) {
+            this.replacer = requireNonNull(replacer);
+            this.before = requireNonNull(before);
+            this.after = requireNonNull(after);
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            replacer.replace(addressBook, before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            replacer.replace(addressBook, after);
+        }
+
+        @Override
+        public int size() {
+            return before.size() + after.size();
+        }
+    }
+
+    /**
+     * A sequence of changes, e.g. all the changes made by one command, undone and redone together.
+     */
+    final class CompositeChange implements AddressBookChange {
+        private final List<AddressBookChange> changes;
+        private final int size;
+
+        CompositeChange(List<AddressBookChange> changes) {
+            this.changes = new ArrayList<>(changes);
+            this.size = changes.stream().mapToInt(AddressBookChange::size).sum();
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo(addressBook);
+            }
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            for (AddressBookChange change : changes) {
+                change.redo(addressBook);
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
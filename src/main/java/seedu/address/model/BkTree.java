@@ -0,0 +1,209 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of records by some of their words, in a BK-tree over the edit distance between words, so that the records
+ * with a word within a few typos of some word are found without comparing it with every word.
+ * Each child of a word in the tree hangs under its edit distance from that word. By the triangle inequality, a word
+ * within {@code k} edits of the query can only be under a child whose distance is within {@code k} of the distance
+ * between the query and its parent, so the other children are skipped.
+ * Removing a record leaves its words in the tree, as they route lookups to other words, until more words are
+ * unused than used and the tree is rebuilt.
+ * An index given the records it covers is only built from them on its first query, and kept up to date from then on,
+ * so that records loaded in bulk are not indexed unless they are searched. Until then, adding and removing records
+ * does nothing.
+ * Used by the {@code Unique*List}s, which keep it up to date.
+ *
+ * @param <T> the type of the records
+ */
+public class BkTree<T> {
+
+    private final Function<T, Collection<String>> wordsOf;
+    private final Map<T, Collection<String>> wordsByRecord = new HashMap<>();
+    private final Map<String, Node<T>> nodesByWord = new HashMap<>();
+    // The records to build the index from on its first query, or null for an index built as records are added
+    private final Iterable<T> records;
+    private Node<T> root;
+    private int unusedWordCount;
+    private boolean isBuilt;
+
+    /**
+     * Creates an index over the words of records given by {@code wordsOf}, which are compared as they are, so must
+     * already be folded to the form in which they should match. The index holds the records added to it.
+     */
+    public BkTree(Function<T, Collection<String>> wordsOf) {
+        this.wordsOf = requireNonNull(wordsOf);
+        this.records = null;
+        isBuilt = true;
+    }
+
+    /**
+     * Creates an index over the words of {@code records} given by {@code wordsOf}, as for
+     * {@link #BkTree(Function)}, which is built from {@code records} on its first query. {@code records} must then
+     * hold exactly the records added to the index and not removed from it since it was created or cleared.
+     */
+    public BkTree(Function<T, Collection<String>> wordsOf, Iterable<T> records) {
+        this.wordsOf = requireNonNull(wordsOf);
+        this.records = requireNonNull(records);
+    }
+
+    /**
+     * Adds {@code record} to the index.
+     */
+    public void add(T record) {
+        requireNonNull(record);
+        if (!isBuilt) {
+            return;
+        }
+        Collection<String> words = List.copyOf(new HashSet<>(wordsOf.apply(record)));
+        wordsByRecord.put(record, words);
+        for (String word : words) {
+            Node<T> node = nodesByWord.get(word);
+            if (node == null) {
+                node = insert(word);
+            } else if (node.records.isEmpty()) {
+                unusedWordCount--;
+            }
+            node.records.add(record);
+        }
+    }
+
+    /**
+     * Removes {@code record} from the index, if it is there.
+     */
+    public void remove(T record) {
+        requireNonNull(record);
+        if (!isBuilt) {
+            return;
+        }
+        Collection<String> words = wordsByRecord.remove(record);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Node<T> node = nodesByWord.get(word);
+            node.records.remove(record);
+            if (node.records.isEmpty()) {
+                unusedWordCount++;
+            }
+        }
+        if (unusedWordCount > nodesByWord.size() - unusedWordCount) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Removes every record from the index. An index given the records it covers is built from them again on its next
+     * query.
+     */
+    public void clear() {
+        removeAll();
+        isBuilt = records == null;
+    }
+
+    /**
+     * Returns the records with a word within {@code maxDistance} edits of {@code word}.
+     */
+    public Set<T> getRecordsWithWordWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        assert maxDistance >= 0;
+        build();
+        if (maxDistance == 0) {
+            Node<T> node = nodesByWord.get(word);
+            return node == null ? new HashSet<>() : new HashSet<>(node.records);
+        }
+        Set<T> result = new HashSet<>();
+        if (root == null) {
+            return result;
+        }
+        Deque<Node<T>> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node<T> node = pending.pop();
+            int distance = StringUtil.editDistance(word, node.word);
+            if (distance <= maxDistance) {
+                result.addAll(node.records);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance);
+                    childDistance <= distance + maxDistance; childDistance++) {
+                Node<T> child = node.children.get(childDistance);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Inserts a node for {@code word}, which must not be in the tree yet.
+     */
+    private Node<T> insert(String word) {
+        Node<T> node = new Node<>(word);
+        nodesByWord.put(word, node);
+        if (root == null) {
+            root = node;
+            return node;
+        }
+        Node<T> parent = root;
+        while (true) {
+            int distance = StringUtil.editDistance(word, parent.word);
+            Node<T> child = parent.children.putIfAbsent(distance, node);
+            if (child == null) {
+                return node;
+            }
+            parent = child;
+        }
+    }
+
+    /**
+     * Builds the index from the records it covers, unless it is already built.
+     */
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        records.forEach(this::add);
+    }
+
+    /**
+     * Rebuilds the tree from the words still used by some record.
+     */
+    private void rebuild() {
+        List<T> indexedRecords = new ArrayList<>(wordsByRecord.keySet());
+        removeAll();
+        indexedRecords.forEach(this::add);
+    }
+
+    private void removeAll() {
+        wordsByRecord.clear();
+        nodesByWord.clear();
+        root = null;
+        unusedWordCount = 0;
+    }
+
+    private static class Node<T> {
+        private final String word;
+        private final Set<T> records = new HashSet<>();
+        private final Map<Integer, Node<T>> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
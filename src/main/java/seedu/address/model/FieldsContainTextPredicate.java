@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that one of some text fields of a record contains a given text, ignoring case, as the {@code TrigramIndex}
+ * over the same fields finds it. Each subclass gives the fields of one type of record.
+ *
+ * @param <T> the type of the records
+ */
+public abstract class FieldsContainTextPredicate<T> implements Predicate<T> {
+    private final String text;
+
+    // the text folded once, so that testing a record only folds its fields
+    private final String foldedText;
+
+    protected FieldsContainTextPredicate(String text) {
+        this.text = requireNonNull(text);
+        this.foldedText = TrigramIndex.fold(text);
+    }
+
+    /**
+     * Returns the text fields of {@code record} that are searched.
+     */
+    protected abstract List<String> fieldsOf(T record);
+
+    @Override
+    public boolean test(T record) {
+        for (String field : fieldsOf(record)) {
+            if (TrigramIndex.fold(field).contains(foldedText)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // handles nulls, and keeps predicates over different types of records apart
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        FieldsContainTextPredicate<?> otherPredicate = (FieldsContainTextPredicate<?>) other;
+        return text.equals(otherPredicate.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return text.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("text", text).toString();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The positions of the records matching the most recently used predicates over one of the lists of an address book,
+ * so that filtering the list again by an equal predicate does not test every record.
+ * Each result is kept with the version of the list it was computed from, and is only returned while the list is at
+ * that version. Only predicates with value equality are cached, as others are never equal to a later predicate.
+ * The least recently used result is forgotten once more than {@code capacity} results are held.
+ * Used by {@code ModelManager}, which keeps one for each filtered list.
+ */
+class FilterCache<T> {
+
+    private static final ClassValue<Boolean> HAS_VALUE_EQUALITY = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError("Every class has an equals method", e);
+            }
+        }
+    };
+
+    private final Map<Predicate<? super T>, Result> resultsByPredicate;
+
+    FilterCache(int capacity) {
+        assert capacity > 0;
+        // iterates from the least recently accessed result, which is the first to be forgotten
+        resultsByPredicate = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<? super T>, Result> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the positions of the records matching {@code predicate} in the list at {@code version}, or null if they
+     * are not cached.
+     */
+    int[] get(Predicate<? super T> predicate, long version) {
+        requireNonNull(predicate);
+        Result result = resultsByPredicate.get(predicate);
+        if (result == null) {
+            return null;
+        }
+        if (result.version != version) {
+            resultsByPredicate.remove(predicate);
+            return null;
+        }
+        return result.matchPositions;
+    }
+
+    /**
+     * Caches the positions given by {@code matchPositions} as those of the records matching {@code predicate} in the
+     * list at {@code version}, unless {@code predicate} lacks value equality, in which case they are not computed.
+     */
+    void put(Predicate<? super T> predicate, long version, Supplier<int[]> matchPositions) {
+        requireNonNull(predicate);
+        requireNonNull(matchPositions);
+        if (HAS_VALUE_EQUALITY.get(predicate.getClass())) {
+            resultsByPredicate.put(predicate, new Result(version, matchPositions.get()));
+        }
+    }
+
+    private static class Result {
+        private final long version;
+        private final int[] matchPositions;
+
+        private Result(long version, int[] matchPositions) {
+            this.version = version;
+            this.matchPositions = matchPositions;
+        }
+    }
+}
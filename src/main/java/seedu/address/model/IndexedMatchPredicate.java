@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a record matches a query, and also holds the candidates for its matches found beforehand by an index, so
+ * that filtering a list by the query only needs to test the candidates rather than every record.
+ * Testing a record runs the query itself, so the predicate keeps giving the right answer after the list changes.
+ * Two such predicates are equal if their queries are, so that filtering by the same query again can reuse the
+ * matches cached by the model.
+ */
+public class IndexedMatchPredicate<T> implements Predicate<T> {
+    private final Predicate<? super T> query;
+    private final Collection<? extends T> candidates;
+
+    /**
+     * Creates a predicate testing {@code query}, where {@code candidates} must include every record matching
+     * {@code query}, and may include records that do not.
+     */
+    public IndexedMatchPredicate(Predicate<? super T> query, Collection<? extends T> candidates) {
+        this.query = requireNonNull(query);
+        this.candidates = requireNonNull(candidates);
+    }
+
+    @Override
+    public boolean test(T record) {
+        return query.test(record);
+    }
+
+    /**
+     * Returns the positions of the candidates matching the query in a list, in ascending order, given the position of
+     * each record in that list, which is -1 for a record not in it. Only the candidates are tested.
+     */
+    public int[] getMatchPositions(ToIntFunction<? super T> positionOf) {
+        requireNonNull(positionOf);
+        int[] positions = new int[candidates.size()];
+        int count = 0;
+        for (T candidate : candidates) {
+            int position = positionOf.applyAsInt(candidate);
+            if (position >= 0 && query.test(candidate)) {
+                positions[count++] = position;
+            }
+        }
+        Arrays.sort(positions, 0, count);
+        return Arrays.stream(positions, 0, count).distinct().toArray();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexedMatchPredicate)) {
+            return false;
+        }
+
+        IndexedMatchPredicate<?> otherIndexedMatchPredicate = (IndexedMatchPredicate<?>) other;
+        return query.equals(otherIndexedMatchPredicate.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+}
@@ -1,12 +1,23 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.model.todo.Todo;
 
 /**
@@ -59,6 +70,59 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the AddressBook as of the last committed batch, in constant time.
+     * Unlike {@link #getAddressBook()}, it is not affected by later changes, and may be read from another thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns the {@code limit} persons, events and todos most relevant to {@code keywords}, most relevant first.
+     * A record is relevant if its text contains any of the words in {@code keywords}, ignoring case; records are
+     * ranked by BM25, so rarer words and shorter records rank higher.
+     */
+    List<SearchResult> search(List<String> keywords, int limit);
+
+    /**
+     * Saves the changes made to the address book since the last commit as one step of the undo history.
+     * Does nothing if the address book has not changed.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a committed step of the undo history that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone step of the undo history that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Commits any pending changes, then reverts the address book to its state before the most recent step.
+     * There must be a step that can be undone.
+     */
+    void undoAddressBook();
+
+    /**
+     * Commits any pending changes, then makes the most recently undone step again.
+     * There must be a step that can be redone.
+     */
+    void redoAddressBook();
+
+    /**
+     * Starts a batch of changes, so that commands changing many records publish one change per list instead of one
+     * per record. Every call must be followed by a matching {@link #commitBatch()}, typically in a finally block.
+     * The filtered lists keep their contents from before the batch until the outermost batch is committed.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}, publishing its changes if it is the outermost.
+     */
+    void commitBatch();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -83,11 +147,64 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons linked to the event with the given {@code eventId}.
+     * The returned list is a copy and may be iterated while the model is being modified.
+     */
+    List<Person> getPersonsLinkedToEvent(long eventId);
+
+    /**
+     * Returns the event {@code person} is linked to, or an empty {@code Optional} if it is not linked to an event in
+     * the address book.
+     */
+    Optional<Event> findLinkedEvent(Person person);
+
+    /**
+     * Returns the person with the given {@code id}, or an empty {@code Optional} if there is no such person in the
+     * address book.
+     */
+    Optional<Person> findPersonById(long id);
+
+    /**
+     * Returns the person with the given {@code name}, or an empty {@code Optional} if there is no such person in the
+     * address book.
+     */
+    Optional<Person> findPersonByName(Name name);
+
+    /**
+     * Returns the persons whose tags match {@code expression}.
+     * Uses the address book's tag index, so it does not test every person.
+     */
+    List<Person> getPersonsWithTags(TagExpression expression);
+
+    /**
+     * Returns the persons whose name or address contains {@code text}, ignoring case.
+     * Uses the address book's trigram index, so it only checks the persons holding every trigram of {@code text}.
+     */
+    Set<Person> getPersonsContaining(String text);
+
+    /**
+     * Returns the persons with a word in their name within {@code maxTypos} edits of {@code word}, ignoring case.
+     * Uses the address book's BK-tree of name words, so it does not compare {@code word} with every name.
+     */
+    Set<Person> getPersonsWithNameWordWithin(String word, int maxTypos);
+
+    /**
+     * Returns persons including every person meeting every criterion of {@code query}, which may also include
+     * persons that do not, for filtering by {@code query} with an {@code IndexedMatchPredicate}.
+     * They are the persons found by the most selective index among those of the name, tag and event alias criteria,
+     * or every person if the query has none of these.
+     */
+    Collection<Person> getPersonCandidates(PersonQuery query);
+
     /** Returns an unmodifiable view of the filtered person list */
-    ObservableList<Person> getFilteredPersonList();
+    ListenableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The list follows later changes to the persons, so a predicate equal to the one in use leaves it as it is.
+     * The predicate must therefore be pure, as described in {@code ListenableList}: it may only depend on the person
+     * it tests. To filter by the results of an index, wrap the query in an {@code IndexedMatchPredicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
@@ -97,6 +214,52 @@ public interface Model {
      */
     boolean hasEvent(Event event);
 
+    /**
+     * Returns the event whose alias matches {@code alias} (case-insensitive), or an empty {@code Optional} if
+     * there is no such event in the address book.
+     */
+    Optional<Event> findEventByAlias(EventAlias alias);
+
+    /**
+     * Returns the events whose alias starts with {@code prefix}, ignoring case, ordered by alias.
+     * Uses the address book's alias index, so it does not test every event.
+     */
+    List<Event> getEventsWithAliasStartingWith(String prefix);
+
+    /**
+     * Returns the events whose alias is within {@code maxTypos} edits of {@code alias}, ignoring case.
+     * Uses the address book's BK-tree of aliases, so it does not compare {@code alias} with every alias.
+     */
+    Set<Event> getEventsWithAliasWithin(String alias, int maxTypos);
+
+    /**
+     * Returns the events whose description contains {@code text}, ignoring case.
+     * Uses the address book's trigram index, so it only checks the events holding every trigram of {@code text}.
+     */
+    Set<Event> getEventsContaining(String text);
+
+    /**
+     * Returns the events starting at or after {@code from} and before {@code to}, ordered by start time.
+     */
+    List<Event> getEventsStartingBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the first {@code count} events starting at or after {@code from}, ordered by start time.
+     */
+    List<Event> getEventsStartingFrom(LocalDateTime from, int count);
+
+    /**
+     * Returns the events that overlap the window from {@code from} to {@code to}, ordered by start time.
+     * An event that ends when the window starts, or starts when it ends, does not overlap it.
+     */
+    List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the windows of time from {@code from} to {@code to} not taken by any event that last at least
+     * {@code minDuration}, ordered by start time.
+     */
+    List<TimeSlot> getFreeSlots(LocalDateTime from, LocalDateTime to, Duration minDuration);
+
     /**
      * Adds the given event.
      * {@code event} must not already exist in the address book.
@@ -119,21 +282,24 @@ public interface Model {
     /**
      * Returns an unmodifiable view of the event list
      */
-    ObservableList<Event> getEventList();
+    ListenableList<Event> getEventList();
 
     /**
      * Returns an unmodifiable view of the person list
      */
-    ObservableList<Person> getPersonList();
+    ListenableList<Person> getPersonList();
 
     /** Returns an unmodifiable view of the filtered event list */
-    ObservableList<Event> getFilteredEventList();
+    ListenableList<Event> getFilteredEventList();
 
     /**
      * Updates the filter of the filtered event list to filter by the given {@code predicate}.
      * This method allows for dynamic filtering of events based on various criteria.
      * The predicate is applied to each event in the list, and only events that match
      * the predicate will be visible in the filtered list.
+     * The list follows later changes to the events, so a predicate equal to the one in use leaves it as it is.
+     * The predicate must therefore be pure, as described in {@code ListenableList}: it may only depend on the event
+     * it tests. To filter by the results of an index, wrap the query in an {@code IndexedMatchPredicate}.
      * @param predicate The predicate to filter events by. Must not be null.
      * @throws NullPointerException if {@code predicate} is null.
      */
@@ -163,11 +329,38 @@ public interface Model {
      */
     void setTodo(Todo target, Todo editedTodo);
 
+    /**
+     * Returns the todos linked to the contact with the given {@code personId}.
+     * The returned list is a copy and may be iterated while the model is being modified.
+     */
+    List<Todo> getTodosLinkedToPerson(long personId);
+
+    /**
+     * Returns the contact {@code todo} is linked to, or an empty {@code Optional} if it is not linked to a person in
+     * the address book.
+     */
+    Optional<Person> findContact(Todo todo);
+
+    /**
+     * Returns the todo with the given {@code id}, or an empty {@code Optional} if there is no such todo in the
+     * address book.
+     */
+    Optional<Todo> findTodoById(long id);
+
+    /**
+     * Returns the todos whose description contains {@code text}, ignoring case.
+     * Uses the address book's trigram index, so it only checks the todos holding every trigram of {@code text}.
+     */
+    Set<Todo> getTodosContaining(String text);
+
     /** Returns an unmodifiable view of the filtered todo list */
-    ObservableList<Todo> getFilteredTodoList();
+    ListenableList<Todo> getFilteredTodoList();
 
     /**
      * Updates the filter of the filtered todo list to filter by the given {@code predicate}.
+     * The list follows later changes to the todos, so a predicate equal to the one in use leaves it as it is.
+     * The predicate must therefore be pure, as described in {@code ListenableList}: it may only depend on the todo
+     * it tests. To filter by the results of an index, wrap the query in an {@code IndexedMatchPredicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredTodoList(Predicate<Todo> predicate);
@@ -4,15 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.list.FilteredListenableList;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.model.todo.Todo;
 
 /**
@@ -20,30 +32,54 @@ import seedu.address.model.todo.Todo;
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int FILTER_CACHE_CAPACITY = 32;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Event> filteredEvents;
-    private final FilteredList<Todo> filteredTodos;
+    private final UndoHistory undoHistory;
+    private final FilteredListenableList<Person> filteredPersons;
+    private final FilteredListenableList<Event> filteredEvents;
+    private final FilteredListenableList<Todo> filteredTodos;
+    private final FilterCache<Person> personFilterCache = new FilterCache<>(FILTER_CACHE_CAPACITY);
+    private final FilterCache<Event> eventFilterCache = new FilterCache<>(FILTER_CACHE_CAPACITY);
+    private final FilterCache<Todo> todoFilterCache = new FilterCache<>(FILTER_CACHE_CAPACITY);
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with a copy of the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(new AddressBook(requireNonNull(addressBook)), userPrefs);
+    }
+
+    public ModelManager() {
+        this(new AddressBook(), new UserPrefs());
+    }
+
+    /**
+     * Initializes a ModelManager holding the given addressBook itself, and a copy of the given userPrefs.
+     */
+    private ModelManager(AddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        // formatting the whole address book takes time proportional to its size, so only done if it is logged
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = addressBook;
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredEvents = new FilteredList<>(this.addressBook.getEventList());
-        filteredTodos = new FilteredList<>(this.addressBook.getTodoList());
+        filteredPersons = new FilteredListenableList<>(this.addressBook.getPersonList());
+        filteredEvents = new FilteredListenableList<>(this.addressBook.getEventList());
+        filteredTodos = new FilteredListenableList<>(this.addressBook.getTodoList());
+        undoHistory = new UndoHistory(this.userPrefs.getUndoHistoryLimit());
+        this.addressBook.startRecordingChanges();
     }
 
-    public ModelManager() {
-        this(new AddressBook(), new UserPrefs());
+    /**
+     * Returns a ModelManager that holds {@code addressBook} itself rather than a copy of it, so that a book just
+     * loaded is not copied, with all its indexes, again. {@code addressBook} must not be used by anything else
+     * afterwards.
+     */
+    public static ModelManager takingOwnershipOf(AddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(addressBook, userPrefs);
     }
 
     //=========== UserPrefs ==================================================================================
@@ -52,6 +88,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        undoHistory.setRecordLimit(this.userPrefs.getUndoHistoryLimit());
     }
 
     @Override
@@ -93,6 +130,66 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.takeRecordedChanges().ifPresent(undoHistory::push);
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return undoHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return undoHistory.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        commitAddressBook();
+        AddressBookChange change = undoHistory.undo();
+        addressBook.beginBatch();
+        try {
+            change.undo(addressBook);
+        } finally {
+            addressBook.commitBatch();
+        }
+    }
+
+    @Override
+    public void redoAddressBook() {
+        commitAddressBook();
+        AddressBookChange change = undoHistory.redo();
+        addressBook.beginBatch();
+        try {
+            change.redo(addressBook);
+        } finally {
+            addressBook.commitBatch();
+        }
+    }
+
+    @Override
+    public void beginBatch() {
+        addressBook.beginBatch();
+    }
+
+    @Override
+    public void commitBatch() {
+        addressBook.commitBatch();
+    }
+
+    @Override
+    public List<SearchResult> search(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return addressBook.search(keywords, limit);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -116,12 +213,106 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public List<Person> getPersonsLinkedToEvent(long eventId) {
+        return addressBook.getPersonsLinkedToEvent(eventId);
+    }
+
+    @Override
+    public Optional<Event> findLinkedEvent(Person person) {
+        requireNonNull(person);
+        return addressBook.findLinkedEvent(person);
+    }
+
+    @Override
+    public Optional<Person> findPersonById(long id) {
+        return addressBook.findPersonById(id);
+    }
+
+    @Override
+    public Optional<Person> findPersonByName(Name name) {
+        requireNonNull(name);
+        return addressBook.findPersonByName(name);
+    }
+
+    @Override
+    public List<Person> getPersonsWithTags(TagExpression expression) {
+        requireNonNull(expression);
+        return addressBook.getPersonsWithTags(expression);
+    }
+
+    @Override
+    public Set<Person> getPersonsContaining(String text) {
+        requireNonNull(text);
+        return addressBook.getPersonsContaining(text);
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameWordWithin(String word, int maxTypos) {
+        requireNonNull(word);
+        return addressBook.getPersonsWithNameWordWithin(word, maxTypos);
+    }
+
+    @Override
+    public Collection<Person> getPersonCandidates(PersonQuery query) {
+        requireNonNull(query);
+        return addressBook.getPersonCandidates(query);
+    }
+
     @Override
     public boolean hasEvent(Event event) {
         requireNonNull(event);
         return addressBook.hasEvent(event);
     }
 
+    @Override
+    public Optional<Event> findEventByAlias(EventAlias alias) {
+        requireNonNull(alias);
+        return addressBook.findEventByAlias(alias);
+    }
+
+    @Override
+    public List<Event> getEventsWithAliasStartingWith(String prefix) {
+        requireNonNull(prefix);
+        return addressBook.getEventsWithAliasStartingWith(prefix);
+    }
+
+    @Override
+    public Set<Event> getEventsWithAliasWithin(String alias, int maxTypos) {
+        requireNonNull(alias);
+        return addressBook.getEventsWithAliasWithin(alias, maxTypos);
+    }
+
+    @Override
+    public Set<Event> getEventsContaining(String text) {
+        requireNonNull(text);
+        return addressBook.getEventsContaining(text);
+    }
+
+    @Override
+    public List<Event> getEventsStartingBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getEventsStartingBetween(from, to);
+    }
+
+    @Override
+    public List<Event> getEventsStartingFrom(LocalDateTime from, int count) {
+        requireNonNull(from);
+        return addressBook.getEventsStartingFrom(from, count);
+    }
+
+    @Override
+    public List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getEventsOverlapping(from, to);
+    }
+
+    @Override
+    public List<TimeSlot> getFreeSlots(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        requireAllNonNull(from, to, minDuration);
+        return addressBook.getFreeSlots(from, to, minDuration);
+    }
+
     @Override
     public void addEvent(Event event) {
         addressBook.addEvent(event);
@@ -165,9 +356,31 @@ public class ModelManager implements Model {
         addressBook.setTodo(target, editedTodo);
     }
 
+    @Override
+    public List<Todo> getTodosLinkedToPerson(long personId) {
+        return addressBook.getTodosLinkedToPerson(personId);
+    }
+
+    @Override
+    public Optional<Person> findContact(Todo todo) {
+        requireNonNull(todo);
+        return addressBook.findContact(todo);
+    }
+
+    @Override
+    public Optional<Todo> findTodoById(long id) {
+        return addressBook.findTodoById(id);
+    }
+
+    @Override
+    public Set<Todo> getTodosContaining(String text) {
+        requireNonNull(text);
+        return addressBook.getTodosContaining(text);
+    }
+
     //=========== Person List Accessors =============================================================
 
-    public ObservableList<Person> getPersonList() {
+    public ListenableList<Person> getPersonList() {
         return addressBook.getPersonList();
     }
     /**
@@ -175,25 +388,26 @@ public class ModelManager implements Model {
      * {@code versionedAddressBook}
      */
     @Override
-    public ObservableList<Person> getFilteredPersonList() {
+    public ListenableList<Person> getFilteredPersonList() {
         return filteredPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        updateFilteredList(filteredPersons, personFilterCache, predicate, addressBook.getPersonsVersion(),
+                addressBook::indexOfShownPerson);
     }
 
     //=========== Event List Accessors =======================================================================
 
     @Override
-    public ObservableList<Event> getEventList() {
+    public ListenableList<Event> getEventList() {
         return addressBook.getEventList();
     }
 
     @Override
-    public ObservableList<Event> getFilteredEventList() {
+    public ListenableList<Event> getFilteredEventList() {
         return filteredEvents;
     }
 
@@ -209,20 +423,43 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
-        filteredEvents.setPredicate(predicate);
+        updateFilteredList(filteredEvents, eventFilterCache, predicate, addressBook.getEventsVersion(),
+                addressBook::indexOfShownEvent);
     }
 
     //=========== Filtered Todo List Accessors =============================================================
 
     @Override
-    public ObservableList<Todo> getFilteredTodoList() {
+    public ListenableList<Todo> getFilteredTodoList() {
         return filteredTodos;
     }
 
     @Override
     public void updateFilteredTodoList(Predicate<Todo> predicate) {
         requireNonNull(predicate);
-        filteredTodos.setPredicate(predicate);
+        updateFilteredList(filteredTodos, todoFilterCache, predicate, addressBook.getTodosVersion(),
+                addressBook::indexOfShownTodo);
+    }
+
+    /**
+     * Filters {@code filteredList} by {@code predicate}, reusing the matches cached for an equal predicate if its
+     * source list is still at {@code version}, or else finding the matches and caching them. The matches of an
+     * {@code IndexedMatchPredicate} are found by testing only its candidates, located in the source list with
+     * {@code positionOf}; any other predicate is tested on every record.
+     */
+    private static <T> void updateFilteredList(FilteredListenableList<T> filteredList, FilterCache<T> cache,
+            Predicate<T> predicate, long version, ToIntFunction<T> positionOf) {
+        int[] cachedMatchPositions = cache.get(predicate, version);
+        if (cachedMatchPositions != null) {
+            filteredList.setPredicate(predicate, cachedMatchPositions);
+            return;
+        }
+        if (predicate instanceof IndexedMatchPredicate) {
+            filteredList.setPredicate(predicate, ((IndexedMatchPredicate<T>) predicate).getMatchPositions(positionOf));
+        } else {
+            filteredList.setPredicate(predicate);
+        }
+        cache.put(predicate, version, filteredList::getMatchPositions);
     }
 
     @Override
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+
+/**
+ * Finds the candidates for the persons of an address book meeting a {@code PersonQuery} through the indexes of the
+ * address book. The name, tag and event alias criteria each have an index, which gives the persons meeting the
+ * criterion, and the planner picks the smallest of these. The candidates are then tested with the query itself, which
+ * checks the other criteria on the current fields of each person. Without any indexed criterion, every person is a
+ * candidate.
+ * Used by {@code AddressBook}.
+ */
+class PersonQueryPlanner {
+    private static final Logger logger = LogsCenter.getLogger(PersonQueryPlanner.class);
+
+    private final AddressBook addressBook;
+
+    PersonQueryPlanner(AddressBook addressBook) {
+        this.addressBook = requireNonNull(addressBook);
+    }
+
+    /**
+     * Returns persons including every person meeting {@code query}, found through the most selective index among
+     * those of its criteria.
+     */
+    Collection<Person> getPersonCandidates(PersonQuery query) {
+        requireNonNull(query);
+        List<IndexAccess> accesses = indexAccessesFor(query);
+        accesses.sort(Comparator.comparingInt(IndexAccess::size));
+        logger.fine(() -> "Finding persons for " + query + " by "
+                + (accesses.isEmpty() ? "scanning every person" : accesses.get(0).name + " index"));
+        return accesses.isEmpty() ? addressBook.getPersonList() : accesses.get(0).persons();
+    }
+
+    private List<IndexAccess> indexAccessesFor(PersonQuery query) {
+        List<IndexAccess> accesses = new ArrayList<>();
+        if (!query.getNameKeywords().isEmpty()) {
+            Set<Person> persons = new HashSet<>();
+            for (String keyword : query.getNameKeywords()) {
+                if (!keyword.isBlank()) {
+                    persons.addAll(addressBook.getPersonsWithNameWordWithin(keyword.trim(), 0));
+                }
+            }
+            accesses.add(new IndexAccess("name", persons));
+        }
+        query.getEventAlias().ifPresent(alias -> accesses.add(
+                new IndexAccess("event alias", addressBook.getPersonsLinkedToEvent(query.getLinkedEventId()))));
+        query.getTagExpression().ifPresent(expression ->
+                accesses.add(new IndexAccess("tag", addressBook.getPersonsWithTags(expression))));
+        return accesses;
+    }
+
+    /**
+     * The persons meeting one criterion of a query, as found by an index.
+     */
+    private static class IndexAccess {
+        private final String name;
+        private final Collection<Person> persons;
+
+        IndexAccess(String name, Collection<Person> persons) {
+            this.name = name;
+            this.persons = persons;
+        }
+
+        int size() {
+            return persons.size();
+        }
+
+        Collection<Person> persons() {
+            return persons;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package seedu.address.model;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
@@ -14,17 +14,17 @@ public interface ReadOnlyAddressBook {
      * Returns an unmodifiable view of the persons list.
      * This list will not contain any duplicate persons.
      */
-    ObservableList<Person> getPersonList();
+    ListenableList<Person> getPersonList();
 
     /**
      * Returns an unmodifiable view of the events list.
      * This list will not contain any duplicate events.
      */
-    ObservableList<Event> getEventList();
+    ListenableList<Event> getEventList();
 
     /**
      * Returns an unmodifiable view of the todos list.
      * This list will not contain any duplicate todos.
      */
-    ObservableList<Todo> getTodoList();
+    ListenableList<Todo> getTodoList();
 }
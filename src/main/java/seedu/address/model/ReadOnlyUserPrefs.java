@@ -13,4 +13,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the maximum number of records that the undo history may hold.
+     */
+    int getUndoHistoryLimit();
+
 }
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.map.LongHashMap;
+
+/**
+ * A multimap from the id of a linked record (e.g. the event a person is linked to) to the records linking to it.
+ * Used by {@code AddressBook} to answer "who links to this?" without scanning a whole list.
+ * Values are kept in insertion order.
+ */
+class ReverseIndex<V> {
+
+    private final LongHashMap<Set<V>> valuesById = new LongHashMap<>();
+
+    /**
+     * Records that {@code value} is linked to the record with the given {@code id}.
+     */
+    void add(long id, V value) {
+        requireNonNull(value);
+        valuesById.computeIfAbsent(id, unused -> new LinkedHashSet<>()).add(value);
+    }
+
+    /**
+     * Removes the link between the record with the given {@code id} and {@code value}.
+     */
+    void remove(long id, V value) {
+        requireNonNull(value);
+        Set<V> values = valuesById.get(id);
+        if (values == null) {
+            return;
+        }
+        values.remove(value);
+        if (values.isEmpty()) {
+            valuesById.remove(id);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the values linked to the record with the given {@code id}, which callers may freely
+     * iterate while mutating the underlying data.
+     */
+    List<V> get(long id) {
+        Set<V> values = valuesById.get(id);
+        return values == null ? new ArrayList<>() : new ArrayList<>(values);
+    }
+
+    /**
+     * Removes all links.
+     */
+    void clear() {
+        valuesById.clear();
+    }
+}
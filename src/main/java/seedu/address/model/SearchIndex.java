@@ -0,0 +1,289 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.todo.Todo;
+
+/**
+ * An inverted index over the text of every person, event and todo, which ranks the records matching a query
+ * by BM25, the standard relevance function of full-text search engines.
+ * Used by {@code AddressBook}, which keeps it up to date as records are added, replaced and removed, so a search
+ * only visits the records containing at least one of its terms.
+ * Text is split into terms at every character that is not a letter or digit, and terms are compared in lower case.
+ * An index given the records it covers is only built from them on its first search, and kept up to date from then on,
+ * so that records loaded in bulk are not indexed unless they are searched. Until then, adding and removing records
+ * does nothing.
+ */
+class SearchIndex {
+    // the usual BM25 parameters: how quickly repeated terms saturate, and how much long records are penalised
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // the results of equal score are ordered persons first, then events, then todos, and then by id
+    private static final Comparator<SearchResult> BY_RELEVANCE = Comparator
+            .comparingDouble(SearchResult::getScore).reversed()
+            .thenComparingInt(result -> typeRankOf(result.getRecord()))
+            .thenComparingLong(result -> idOf(result.getRecord()));
+
+    private final Map<String, Map<Object, Integer>> termCountsByTerm = new HashMap<>();
+    private final Map<Object, Integer> lengthsByRecord = new HashMap<>();
+    // The records to build the index from on its first search, or null for an index built as records are added
+    private final Iterable<Person> persons;
+    private final Iterable<Event> events;
+    private final Iterable<Todo> todos;
+    private long totalLength;
+    private boolean isBuilt;
+
+    /**
+     * Creates an index which holds the records added to it.
+     */
+    SearchIndex() {
+        persons = null;
+        events = null;
+        todos = null;
+        isBuilt = true;
+    }
+
+    /**
+     * Creates an index over {@code persons}, {@code events} and {@code todos}, which is built from them on its first
+     * search. They must then hold exactly the records added to the index and not removed from it since it was created
+     * or cleared.
+     */
+    SearchIndex(Iterable<Person> persons, Iterable<Event> events, Iterable<Todo> todos) {
+        this.persons = requireNonNull(persons);
+        this.events = requireNonNull(events);
+        this.todos = requireNonNull(todos);
+    }
+
+    void add(Person person) {
+        if (isBuilt) {
+            add(person, textOf(person));
+        }
+    }
+
+    void remove(Person person) {
+        if (isBuilt) {
+            remove(person, textOf(person));
+        }
+    }
+
+    void add(Event event) {
+        if (isBuilt) {
+            add(event, textOf(event));
+        }
+    }
+
+    void remove(Event event) {
+        if (isBuilt) {
+            remove(event, textOf(event));
+        }
+    }
+
+    void add(Todo todo) {
+        if (isBuilt) {
+            add(todo, textOf(todo));
+        }
+    }
+
+    void remove(Todo todo) {
+        if (isBuilt) {
+            remove(todo, textOf(todo));
+        }
+    }
+
+    /**
+     * Removes every record from the index. An index given the records it covers is built from them again on its next
+     * search.
+     */
+    void clear() {
+        termCountsByTerm.clear();
+        lengthsByRecord.clear();
+        totalLength = 0;
+        isBuilt = persons == null;
+    }
+
+    /**
+     * Returns the {@code limit} records most relevant to {@code keywords}, most relevant first.
+     * A record is relevant if it contains any term of {@code keywords}.
+     * Terms are visited from rarest to most common. Once the records found so far are sure to outrank any record
+     * containing only the remaining terms, the postings of those terms are only looked up for the records found,
+     * so a common term does not cost a visit to every record containing it.
+     */
+    List<SearchResult> search(List<String> keywords, int limit) {
+        requireNonNull(keywords);
+        build();
+        Set<String> queryTerms = new LinkedHashSet<>();
+        keywords.forEach(keyword -> queryTerms.addAll(termsOf(keyword)));
+        List<Map<Object, Integer>> postings = new ArrayList<>();
+        for (String term : queryTerms) {
+            if (termCountsByTerm.containsKey(term)) {
+                postings.add(termCountsByTerm.get(term));
+            }
+        }
+        if (postings.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        // the rarer a term, the higher its weight
+        postings.sort(Comparator.comparingInt(Map::size));
+
+        int recordCount = lengthsByRecord.size();
+        double averageLength = (double) totalLength / recordCount;
+        double[] weights = new double[postings.size()];
+        double remainingMaxScore = 0;
+        for (int i = 0; i < weights.length; i++) {
+            int recordsWithTerm = postings.get(i).size();
+            weights[i] = Math.log(1 + (recordCount - recordsWithTerm + 0.5) / (recordsWithTerm + 0.5));
+            // a term adds less than its weight times K1 + 1 to the score of any record
+            remainingMaxScore += weights[i] * (K1 + 1);
+        }
+
+        Map<Object, Double> scores = new HashMap<>();
+        for (int i = 0; i < weights.length; i++) {
+            Map<Object, Integer> termCounts = postings.get(i);
+            boolean canFindNewRecords = scores.size() < limit || lowestScoreOfBest(scores, limit) < remainingMaxScore;
+            Iterable<Object> records = canFindNewRecords || termCounts.size() < scores.size()
+                    ? termCounts.keySet()
+                    : new ArrayList<>(scores.keySet());
+            for (Object record : records) {
+                Integer termCount = termCounts.get(record);
+                if (termCount == null || !canFindNewRecords && !scores.containsKey(record)) {
+                    continue;
+                }
+                double lengthRatio = lengthsByRecord.get(record) / averageLength;
+                double score = weights[i] * termCount * (K1 + 1) / (termCount + K1 * (1 - B + B * lengthRatio));
+                scores.merge(record, score, Double::sum);
+            }
+            remainingMaxScore -= weights[i] * (K1 + 1);
+        }
+
+        // keeps the best results seen so far, with the least relevant of them at the head
+        PriorityQueue<SearchResult> best = new PriorityQueue<>(BY_RELEVANCE.reversed());
+        for (Map.Entry<Object, Double> entry : scores.entrySet()) {
+            if (best.size() == limit && entry.getValue() < best.peek().getScore()) {
+                continue;
+            }
+            best.add(new SearchResult(entry.getKey(), entry.getValue()));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+        List<SearchResult> results = new ArrayList<>(best);
+        results.sort(BY_RELEVANCE);
+        return results;
+    }
+
+    /**
+     * Returns the lowest of the {@code limit} highest values of {@code scores}, which holds at least {@code limit}
+     * values.
+     */
+    private static double lowestScoreOfBest(Map<Object, Double> scores, int limit) {
+        PriorityQueue<Double> best = new PriorityQueue<>();
+        for (double score : scores.values()) {
+            if (best.size() < limit) {
+                best.add(score);
+            } else if (score > best.peek()) {
+                best.poll();
+                best.add(score);
+            }
+        }
+        return best.peek();
+    }
+
+    /**
+     * Builds the index from the records it covers, unless it is already built.
+     */
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        persons.forEach(this::add);
+        events.forEach(this::add);
+        todos.forEach(this::add);
+    }
+
+    private void add(Object record, String text) {
+        List<String> terms = termsOf(text);
+        lengthsByRecord.put(record, terms.size());
+        totalLength += terms.size();
+        for (String term : terms) {
+            termCountsByTerm.computeIfAbsent(term, unused -> new HashMap<>()).merge(record, 1, Integer::sum);
+        }
+    }
+
+    private void remove(Object record, String text) {
+        Integer length = lengthsByRecord.remove(record);
+        if (length == null) {
+            return;
+        }
+        totalLength -= length;
+        for (String term : new LinkedHashSet<>(termsOf(text))) {
+            Map<Object, Integer> termCounts = termCountsByTerm.get(term);
+            termCounts.remove(record);
+            if (termCounts.isEmpty()) {
+                termCountsByTerm.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Splits {@code text} into lower-case terms.
+     */
+    static List<String> termsOf(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String term : TERM_SEPARATOR.split(text.toLowerCase())) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static String textOf(Person person) {
+        StringBuilder text = new StringBuilder()
+                .append(person.getName()).append(' ')
+                .append(person.getPhone()).append(' ')
+                .append(person.getEmail()).append(' ')
+                .append(person.getAddress());
+        for (Tag tag : person.getTags()) {
+            text.append(' ').append(tag.tagName);
+        }
+        return text.toString();
+    }
+
+    private static String textOf(Event event) {
+        return event.getName() + ' ' + event.getAlias() + ' ' + event.getDescription();
+    }
+
+    private static String textOf(Todo todo) {
+        return todo.getTodoName() + " " + todo.getTodoDescription();
+    }
+
+    private static int typeRankOf(Object record) {
+        return record instanceof Person ? 0 : record instanceof Event ? 1 : 2;
+    }
+
+    private static long idOf(Object record) {
+        if (record instanceof Person) {
+            return ((Person) record).getId();
+        } else if (record instanceof Event) {
+            return ((Event) record).getId();
+        } else {
+            return ((Todo) record).getId();
+        }
+    }
+}
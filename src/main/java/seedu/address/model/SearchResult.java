@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A record found by a full-text search of the address book, i.e. a {@code Person}, {@code Event} or {@code Todo},
+ * with its relevance score. Higher scores are more relevant.
+ */
+public class SearchResult {
+    private final Object record;
+    private final double score;
+
+    /**
+     * Creates a result for {@code record} with relevance {@code score}.
+     */
+    public SearchResult(Object record, double score) {
+        this.record = requireNonNull(record);
+        this.score = score;
+    }
+
+    /**
+     * Returns the record found, which is a {@code Person}, {@code Event} or {@code Todo}.
+     */
+    public Object getRecord() {
+        return record;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchResult)) {
+            return false;
+        }
+
+        SearchResult otherResult = (SearchResult) other;
+        return record.equals(otherResult.record) && Double.compare(score, otherResult.score) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(record, score);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("record", record)
+                .add("score", score)
+                .toString();
+    }
+}
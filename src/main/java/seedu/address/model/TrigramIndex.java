@@ -0,0 +1,184 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index of records by every sequence of three characters (trigram) in some of their text fields, ignoring case,
+ * so that the records with a field containing some text are found without scanning every record.
+ * A record can only contain text of three or more characters if it holds every trigram of that text, so only the
+ * records holding all of them are checked. Text shorter than three characters is checked against every record.
+ * An index given the records it covers is only built from them on its first query, and kept up to date from then on,
+ * so that records loaded in bulk are not indexed unless they are searched. Until then, adding and removing records
+ * does nothing.
+ * Used by the {@code Unique*List}s, which keep it up to date.
+ *
+ * @param <T> the type of the records
+ */
+public class TrigramIndex<T> {
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final Function<T, List<String>> fieldsOf;
+    private final Map<T, String[]> foldedFieldsByRecord = new HashMap<>();
+    private final Map<Long, Set<T>> recordsByTrigram = new HashMap<>();
+    // The records to build the index from on its first query, or null for an index built as records are added
+    private final Iterable<T> records;
+    private boolean isBuilt;
+
+    /**
+     * Creates an index over the text fields of records given by {@code fieldsOf}, which holds the records added to it.
+     */
+    public TrigramIndex(Function<T, List<String>> fieldsOf) {
+        this.fieldsOf = requireNonNull(fieldsOf);
+        this.records = null;
+        isBuilt = true;
+    }
+
+    /**
+     * Creates an index over the text fields of {@code records} given by {@code fieldsOf}, which is built from
+     * {@code records} on its first query. {@code records} must then hold exactly the records added to the index and
+     * not removed from it since it was created or cleared.
+     */
+    public TrigramIndex(Function<T, List<String>> fieldsOf, Iterable<T> records) {
+        this.fieldsOf = requireNonNull(fieldsOf);
+        this.records = requireNonNull(records);
+    }
+
+    /**
+     * Adds {@code record} to the index.
+     */
+    public void add(T record) {
+        requireNonNull(record);
+        if (!isBuilt) {
+            return;
+        }
+        String[] foldedFields = fieldsOf.apply(record).stream().map(TrigramIndex::fold).toArray(String[]::new);
+        foldedFieldsByRecord.put(record, foldedFields);
+        for (long trigram : trigramsOf(foldedFields)) {
+            recordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(record);
+        }
+    }
+
+    /**
+     * Removes {@code record} from the index, if it is there.
+     */
+    public void remove(T record) {
+        requireNonNull(record);
+        if (!isBuilt) {
+            return;
+        }
+        String[] foldedFields = foldedFieldsByRecord.remove(record);
+        if (foldedFields == null) {
+            return;
+        }
+        for (long trigram : trigramsOf(foldedFields)) {
+            Set<T> records = recordsByTrigram.get(trigram);
+            records.remove(record);
+            if (records.isEmpty()) {
+                recordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes every record from the index. An index given the records it covers is built from them again on its next
+     * query.
+     */
+    public void clear() {
+        foldedFieldsByRecord.clear();
+        recordsByTrigram.clear();
+        isBuilt = records == null;
+    }
+
+    /**
+     * Returns the records with a field containing {@code text}, ignoring case.
+     */
+    public Set<T> getRecordsContaining(String text) {
+        requireNonNull(text);
+        build();
+        String foldedText = fold(text);
+        Set<T> result = new HashSet<>();
+        if (foldedText.length() < TRIGRAM_LENGTH) {
+            foldedFieldsByRecord.forEach((record, foldedFields) -> {
+                if (anyContains(foldedFields, foldedText)) {
+                    result.add(record);
+                }
+            });
+            return result;
+        }
+
+        List<Set<T>> candidateSets = new ArrayList<>();
+        for (long trigram : trigramsOf(new String[] {foldedText})) {
+            Set<T> records = recordsByTrigram.get(trigram);
+            if (records == null) {
+                return result;
+            }
+            candidateSets.add(records);
+        }
+        // walks the rarest trigram's records, checking that they hold the other trigrams before the text itself
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+        for (T candidate : candidateSets.get(0)) {
+            if (isInAll(candidate, candidateSets) && anyContains(foldedFieldsByRecord.get(candidate), foldedText)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builds the index from the records it covers, unless it is already built.
+     */
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        records.forEach(this::add);
+    }
+
+    private static <T> boolean isInAll(T candidate, List<Set<T>> candidateSets) {
+        for (int i = 1; i < candidateSets.size(); i++) {
+            if (!candidateSets.get(i).contains(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean anyContains(String[] foldedFields, String foldedText) {
+        for (String foldedField : foldedFields) {
+            if (foldedField.contains(foldedText)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code foldedFields}, each packed into a long.
+     */
+    private static Set<Long> trigramsOf(String[] foldedFields) {
+        Set<Long> trigrams = new HashSet<>();
+        for (String field : foldedFields) {
+            for (int i = 0; i + TRIGRAM_LENGTH <= field.length(); i++) {
+                trigrams.add((long) field.charAt(i) << 32 | (long) field.charAt(i + 1) << 16 | field.charAt(i + 2));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns {@code text} folded as the index folds the fields it holds, so that it can be compared with them.
+     */
+    static String fold(String text) {
+        return text.toLowerCase();
+    }
+}
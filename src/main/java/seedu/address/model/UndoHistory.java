@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The changes that can be undone and redone, most recent first.
+ * The history holds at most {@code recordLimit} records across all its changes; the oldest changes are forgotten
+ * to stay within the limit.
+ */
+class UndoHistory {
+
+    private final Deque<AddressBookChange> undoableChanges = new ArrayDeque<>();
+    private final Deque<AddressBookChange> redoableChanges = new ArrayDeque<>();
+    private int recordLimit;
+    private int recordCount;
+
+    UndoHistory(int recordLimit) {
+        setRecordLimit(recordLimit);
+    }
+
+    /**
+     * Sets the maximum number of records held by the history, forgetting the oldest changes if needed.
+     */
+    void setRecordLimit(int recordLimit) {
+        assert recordLimit >= 0;
+        this.recordLimit = recordLimit;
+        trim();
+    }
+
+    /**
+     * Adds {@code change} as the most recent change that can be undone. The changes that could be redone are
+     * forgotten.
+     */
+    void push(AddressBookChange change) {
+        requireNonNull(change);
+        while (!redoableChanges.isEmpty()) {
+            recordCount -= redoableChanges.pop().size();
+        }
+        undoableChanges.push(change);
+        recordCount += change.size();
+        trim();
+    }
+
+    boolean canUndo() {
+        return !undoableChanges.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoableChanges.isEmpty();
+    }
+
+    /**
+     * Returns the most recent change that can be undone, which can then be redone.
+     * There must be such a change.
+     */
+    AddressBookChange undo() {
+        assert canUndo();
+        AddressBookChange change = undoableChanges.pop();
+        redoableChanges.push(change);
+        return change;
+    }
+
+    /**
+     * Returns the most recently undone change, which can then be undone again.
+     * There must be such a change.
+     */
+    AddressBookChange redo() {
+        assert canRedo();
+        AddressBookChange change = redoableChanges.pop();
+        undoableChanges.push(change);
+        return change;
+    }
+
+    /**
+     * Forgets changes until the history is within its record limit: first the oldest changes that can be undone,
+     * then the changes that could be redone, furthest first.
+     */
+    private void trim() {
+        while (recordCount > recordLimit && !undoableChanges.isEmpty()) {
+            recordCount -= undoableChanges.removeLast().size();
+        }
+        while (recordCount > recordLimit && !redoableChanges.isEmpty()) {
+            recordCount -= redoableChanges.removeLast().size();
+        }
+    }
+}
@@ -1,25 +1,49 @@
 package seedu.address.model.event;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Events}'s {@code EventAlias} starts with any of the keywords given.
+ * Tests that a {@code Events}'s {@code EventAlias} starts with any of the keywords given, or is within a given number
+ * of typos of one of them.
  */
 public class AliasContainsKeywordsPredicate implements Predicate<Event> {
     private final List<String> keywords;
+    private final int maxTypos;
 
     public AliasContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, 0);
+    }
+
+    /**
+     * Creates a predicate matching the events whose alias starts with any of {@code keywords}, or is within
+     * {@code maxTypos} edits of one of them, ignoring case.
+     */
+    public AliasContainsKeywordsPredicate(List<String> keywords, int maxTypos) {
+        assert maxTypos >= 0;
         this.keywords = keywords;
+        this.maxTypos = maxTypos;
+    }
+
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
+    public int getMaxTypos() {
+        return maxTypos;
     }
 
     @Override
     public boolean test(Event event) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.startsWithIgnoreCase(event.getAlias(), keyword));
+                .anyMatch(keyword -> StringUtil.startsWithIgnoreCase(event.getAlias(), keyword)
+                        || maxTypos > 0 && StringUtil.isWithinEditDistance(
+                                event.getAlias().toLowerCase(), keyword.trim().toLowerCase(), maxTypos));
     }
 
     @Override
@@ -34,11 +58,17 @@ public class AliasContainsKeywordsPredicate implements Predicate<Event> {
         }
 
         AliasContainsKeywordsPredicate otherAliasContainsKeywordsPredicate = (AliasContainsKeywordsPredicate) other;
-        return keywords.equals(otherAliasContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherAliasContainsKeywordsPredicate.keywords)
+                && maxTypos == otherAliasContainsKeywordsPredicate.maxTypos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, maxTypos);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("maxTypos", maxTypos).toString();
     }
 }
@@ -1,20 +1,32 @@
 package seedu.address.model.event;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 /**
  * Represents an Event in the address book.
  *
  */
 public class Event {
+    public static final String MESSAGE_INVALID_ID = "Event ids must be positive";
+
+    private static final long NO_ID = 0;
+
     private final EventName name;
     private final EventAlias alias;
     private final LocalDateTime start;
     private final LocalDateTime end;
     private final String description;
 
+    // Handle assigned by the address book, or NO_ID until then. Not part of equality, as it is not data.
+    private final long id;
+
+    // Events are immutable and are hashed on every lookup in the model's indexes, so the hash is computed once
+    private final int hashCode;
+
     /**
      * Constructs an Event with the specified details.
      * @param name The name of the event. Must not be null and must be a valid event name.
@@ -26,7 +38,13 @@ public class Event {
      */
     public Event(EventName name, EventAlias alias,
                  LocalDateTime start, LocalDateTime end, String description) {
+        this(NO_ID, name, alias, start, end, description);
+    }
+
+    private Event(long id, EventName name, EventAlias alias,
+                  LocalDateTime start, LocalDateTime end, String description) {
         requireAllNonNull(name, alias, start, end, description);
+        this.id = id;
         this.name = name;
         this.alias = alias;
         if (!start.isBefore(end)) {
@@ -35,6 +53,7 @@ public class Event {
         this.start = start;
         this.end = end;
         this.description = description;
+        this.hashCode = Objects.hash(name, alias, start, end, description);
     }
 
     /**
@@ -77,6 +96,25 @@ public class Event {
         return this.end;
     }
 
+    /**
+     * Returns the id the address book assigned to this event. Only meaningful if {@link #hasId()}.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
+    /**
+     * Returns a copy of this event with the given {@code id}, which must be positive.
+     */
+    public Event withId(long id) {
+        checkArgument(id > 0, MESSAGE_INVALID_ID);
+        return id == this.id ? this : new Event(id, name, alias, start, end, description);
+    }
+
     /**
      * Returns true if both events have the same identity and data fields.
      * This defines a stronger notion of equality between two events.
@@ -104,6 +142,11 @@ public class Event {
                 && description.equals(otherEvent.description);
     }
 
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
     /**
      * Returns true if both events have the same event alias.
      * This defines a weaker notion of equality between two events.
@@ -116,7 +159,7 @@ public class Event {
         }
 
         return otherEvent != null
-                && otherEvent.getAlias().equalsIgnoreCase(getAlias());
+                && otherEvent.alias.equals(alias);
     }
 
     /**
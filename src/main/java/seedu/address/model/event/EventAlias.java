@@ -47,6 +47,7 @@ public class EventAlias {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // must agree with the case-insensitive equals, as aliases are used as hash keys for event identity
+        return value.toLowerCase().hashCode();
     }
 }
@@ -0,0 +1,48 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An index of events by their alias in lower case, sorted, so that the events whose alias starts with a given
+ * prefix are found by a range lookup, without testing every event.
+ * Used by {@code UniqueEventList}, which keeps it up to date.
+ */
+class EventAliasIndex {
+
+    private final NavigableMap<String, Event> eventsByFoldedAlias = new TreeMap<>();
+
+    void add(Event event) {
+        requireNonNull(event);
+        eventsByFoldedAlias.put(fold(event.getAlias()), event);
+    }
+
+    void remove(Event event) {
+        requireNonNull(event);
+        eventsByFoldedAlias.remove(fold(event.getAlias()), event);
+    }
+
+    void clear() {
+        eventsByFoldedAlias.clear();
+    }
+
+    /**
+     * Returns the events whose alias starts with {@code prefix}, ignoring case, by alias.
+     */
+    List<Event> getEventsWithAliasStartingWith(String prefix) {
+        requireNonNull(prefix);
+        String foldedPrefix = fold(prefix);
+        // every string starting with the prefix sorts before the prefix followed by the greatest character
+        return new ArrayList<>(eventsByFoldedAlias
+                .subMap(foldedPrefix, true, foldedPrefix + Character.MAX_VALUE, false)
+                .values());
+    }
+
+    private static String fold(String alias) {
+        return alias.toLowerCase();
+    }
+}
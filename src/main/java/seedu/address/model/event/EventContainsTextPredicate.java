@@ -0,0 +1,27 @@
+package seedu.address.model.event;
+
+import java.util.List;
+
+import seedu.address.model.FieldsContainTextPredicate;
+
+/**
+ * Tests that an {@code Event}'s description contains a given text, ignoring case.
+ */
+public class EventContainsTextPredicate extends FieldsContainTextPredicate<Event> {
+
+    public EventContainsTextPredicate(String text) {
+        super(text);
+    }
+
+    /**
+     * Returns the fields of {@code event} that are searched for text, i.e. its description.
+     */
+    public static List<String> textFieldsOf(Event event) {
+        return List.of(event.getDescription());
+    }
+
+    @Override
+    protected List<String> fieldsOf(Event event) {
+        return textFieldsOf(event);
+    }
+}
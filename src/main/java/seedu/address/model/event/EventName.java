@@ -58,6 +58,12 @@ public class EventName {
         return fullName.equalsIgnoreCase(otherName.fullName);
     }
 
+    @Override
+    public int hashCode() {
+        // must agree with the case-insensitive equals, as it is part of the hash of an Event
+        return fullName.toLowerCase().hashCode();
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -0,0 +1,262 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An index of events by their start time, so that queries over a window of time only visit the events near it,
+ * without scanning or sorting the whole event list.
+ * Used by {@code UniqueEventList}, which keeps it up to date with the events it stores.
+ * The events are held in an interval tree: a balanced binary search tree ordered by start time, and then by id, in
+ * which each node also records the latest end of the events below it. Overlap queries skip every subtree whose events
+ * all end before the window, so that they take O((k + 1) log n) time for k overlapping events, however long the
+ * longest event is.
+ */
+class EventTimeIndex {
+
+    private static final Comparator<Event> BY_START = Comparator.comparing(Event::getStart)
+            .thenComparingLong(Event::getId);
+
+    private Node root;
+
+    void add(Event event) {
+        requireNonNull(event);
+        root = insert(root, event);
+    }
+
+    /**
+     * Removes {@code event}, which must be the instance stored in the event list, so that it has the same id as
+     * the indexed event. Does nothing if no such event is indexed.
+     */
+    void remove(Event event) {
+        requireNonNull(event);
+        root = delete(root, event);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns the events starting at or after {@code from} and before {@code to}, by start time.
+     */
+    List<Event> getEventsStartingBetween(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Event> result = new ArrayList<>();
+        if (from.isBefore(to)) {
+            collectStartingBetween(root, from, to, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first {@code count} events starting at or after {@code from}, by start time.
+     */
+    List<Event> getEventsStartingFrom(LocalDateTime from, int count) {
+        requireNonNull(from);
+        List<Event> result = new ArrayList<>();
+        collectStartingFrom(root, from, count, result);
+        return result;
+    }
+
+    /**
+     * Returns the events that overlap the window from {@code from} to {@code to}, by start time.
+     * An event that ends when the window starts, or starts when it ends, does not overlap it.
+     */
+    List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Event> result = new ArrayList<>();
+        if (from.isBefore(to)) {
+            collectOverlapping(root, from, to, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the gaps between events within the window from {@code from} to {@code to} that last at least
+     * {@code minDuration}, by start time.
+     * Sweeps once over the events overlapping the window, in order of start time, tracking the latest end seen.
+     */
+    List<TimeSlot> getFreeSlots(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        requireNonNull(from);
+        requireNonNull(to);
+        requireNonNull(minDuration);
+        List<TimeSlot> result = new ArrayList<>();
+        LocalDateTime freeFrom = from;
+        for (Event event : getEventsOverlapping(from, to)) {
+            addSlotIfLongEnough(result, freeFrom, event.getStart(), minDuration);
+            if (event.getEnd().isAfter(freeFrom)) {
+                freeFrom = event.getEnd();
+            }
+        }
+        addSlotIfLongEnough(result, freeFrom, to, minDuration);
+        return result;
+    }
+
+    private static void collectStartingBetween(Node node, LocalDateTime from, LocalDateTime to, List<Event> result) {
+        if (node == null) {
+            return;
+        }
+        boolean isAtOrAfterFrom = !node.event.getStart().isBefore(from);
+        boolean isBeforeTo = node.event.getStart().isBefore(to);
+        if (isAtOrAfterFrom) {
+            collectStartingBetween(node.left, from, to, result);
+        }
+        if (isAtOrAfterFrom && isBeforeTo) {
+            result.add(node.event);
+        }
+        if (isBeforeTo) {
+            collectStartingBetween(node.right, from, to, result);
+        }
+    }
+
+    private static void collectStartingFrom(Node node, LocalDateTime from, int count, List<Event> result) {
+        if (node == null || result.size() >= count) {
+            return;
+        }
+        if (node.event.getStart().isBefore(from)) {
+            collectStartingFrom(node.right, from, count, result);
+            return;
+        }
+        collectStartingFrom(node.left, from, count, result);
+        if (result.size() < count) {
+            result.add(node.event);
+            collectStartingFrom(node.right, from, count, result);
+        }
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to, List<Event> result) {
+        // no event below a node ends later than its maxEnd, so none overlaps the window if that is not after it starts
+        if (node == null || !node.maxEnd.isAfter(from)) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, result);
+        if (node.event.getStart().isBefore(to)) {
+            if (node.event.getEnd().isAfter(from)) {
+                result.add(node.event);
+            }
+            collectOverlapping(node.right, from, to, result);
+        }
+    }
+
+    private static Node insert(Node node, Event event) {
+        if (node == null) {
+            return new Node(event);
+        }
+        if (BY_START.compare(event, node.event) < 0) {
+            node.left = insert(node.left, event);
+        } else {
+            node.right = insert(node.right, event);
+        }
+        return balance(node);
+    }
+
+    private static Node delete(Node node, Event event) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = BY_START.compare(event, node.event);
+        if (comparison < 0) {
+            node.left = delete(node.left, event);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, event);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = delete(node.right, successor.event);
+            node.event = successor.event;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Rotates {@code node} so that the heights of its subtrees differ by at most one, given that they differ by at
+     * most two, and updates the heights and latest ends. Returns the node now at the top.
+     */
+    private static Node balance(Node node) {
+        if (height(node.left) > height(node.right) + 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (height(node.right) > height(node.left) + 1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node top = node.left;
+        node.left = top.right;
+        top.right = node;
+        node.update();
+        top.update();
+        return top;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node top = node.right;
+        node.right = top.left;
+        top.left = node;
+        node.update();
+        top.update();
+        return top;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void addSlotIfLongEnough(List<TimeSlot> slots, LocalDateTime start, LocalDateTime end,
+            Duration minDuration) {
+        if (start.isBefore(end) && Duration.between(start, end).compareTo(minDuration) >= 0) {
+            slots.add(new TimeSlot(start, end));
+        }
+    }
+
+    /**
+     * A node of the interval tree, holding an event between the earlier and later events of its subtrees.
+     */
+    private static final class Node {
+        private Event event;
+        private Node left;
+        private Node right;
+        private int height;
+        // The latest end of the events in the subtree rooted at this node
+        private LocalDateTime maxEnd;
+
+        Node(Event event) {
+            this.event = event;
+            update();
+        }
+
+        void update() {
+            height = Math.max(EventTimeIndex.height(left), EventTimeIndex.height(right)) + 1;
+            maxEnd = event.getEnd();
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that an {@code Event} is on at some time within a window of time.
+ * An event that ends when the window starts, or starts when it ends, does not overlap it.
+ */
+public class OverlapsWindowPredicate implements Predicate<Event> {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a predicate matching the events overlapping the window from {@code from} to {@code to}.
+     */
+    public OverlapsWindowPredicate(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Event event) {
+        return from.isBefore(to) && event.getStart().isBefore(to) && event.getEnd().isAfter(from);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OverlapsWindowPredicate)) {
+            return false;
+        }
+
+        OverlapsWindowPredicate otherPredicate = (OverlapsWindowPredicate) other;
+        return from.equals(otherPredicate.from) && to.equals(otherPredicate.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that an {@code Event} starts at or after one time and before another.
+ */
+public class StartsBetweenPredicate implements Predicate<Event> {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Creates a predicate matching the events starting from {@code from} and before {@code to}.
+     */
+    public StartsBetweenPredicate(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Event event) {
+        return !event.getStart().isBefore(from) && event.getStart().isBefore(to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StartsBetweenPredicate)) {
+            return false;
+        }
+
+        StartsBetweenPredicate otherPredicate = (StartsBetweenPredicate) other;
+        return from.equals(otherPredicate.from) && to.equals(otherPredicate.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
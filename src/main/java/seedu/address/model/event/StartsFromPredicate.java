@@ -0,0 +1,66 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that an {@code Event} starts at or after a given time and, if a last event is given, comes no later than it
+ * in order of start time, and then of id. This is the order in which events are listed as upcoming, so the next few
+ * events from a time are matched by giving the last of them.
+ */
+public class StartsFromPredicate implements Predicate<Event> {
+    private final LocalDateTime from;
+    private final LocalDateTime lastStart;
+    private final long lastId;
+
+    /**
+     * Creates a predicate matching the events starting from {@code from}, up to and including {@code last} in order
+     * of start time and id, or with no upper bound if {@code last} is null.
+     */
+    public StartsFromPredicate(LocalDateTime from, Event last) {
+        this.from = requireNonNull(from);
+        this.lastStart = last == null ? null : last.getStart();
+        this.lastId = last == null ? 0 : last.getId();
+    }
+
+    @Override
+    public boolean test(Event event) {
+        LocalDateTime start = event.getStart();
+        if (start.isBefore(from)) {
+            return false;
+        }
+        return lastStart == null || start.isBefore(lastStart) || start.equals(lastStart) && event.getId() <= lastId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StartsFromPredicate)) {
+            return false;
+        }
+
+        StartsFromPredicate otherPredicate = (StartsFromPredicate) other;
+        return from.equals(otherPredicate.from) && Objects.equals(lastStart, otherPredicate.lastStart)
+                && lastId == otherPredicate.lastId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, lastStart, lastId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("lastStart", lastStart).add("lastId", lastId)
+                .toString();
+    }
+}
@@ -1,57 +1,159 @@
 package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.commons.core.list.ListenableTreeList;
+import seedu.address.commons.core.list.UnmodifiableListenableList;
+import seedu.address.commons.core.map.LongHashMap;
+import seedu.address.model.BkTree;
+import seedu.address.model.TrigramIndex;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
+ * An event is considered unique by comparing using {@code Event#isSameEvent(Event)}, i.e. by its case-insensitive
+ * {@code EventAlias}. Each stored event is also indexed by alias and by id, and its position is found from the stored
+ * instance in O(log n) time, so that identity checks, alias lookups, replacements and removals do not need to scan the
+ * list, nor to renumber the events after a removed one. The events are also indexed by time and by sorted alias,
+ * so that queries over a window of time or by alias prefix do not need to scan the list either, and in a BK-tree
+ * so that aliases within a few typos of a query are found without comparing it with every alias. The text index and
+ * the BK-tree are only built on their first query.
  *
+ * @see Event#isSameEvent(Event)
  **/
 public class UniqueEventList implements Iterable<Event> {
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Event> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ListenableTreeList<Event> internalList = new ListenableTreeList<>();
+    private final ListenableList<Event> internalUnmodifiableList =
+            new UnmodifiableListenableList<>(internalList);
+    private final Map<EventAlias, Event> eventsByAlias = new HashMap<>();
+    private final LongHashMap<Event> eventsById = new LongHashMap<>();
+    private final EventTimeIndex timeIndex = new EventTimeIndex();
+    private final EventAliasIndex aliasIndex = new EventAliasIndex();
+    private final TrigramIndex<Event> descriptionIndex =
+            new TrigramIndex<>(EventContainsTextPredicate::textFieldsOf, this);
+    private final BkTree<Event> fuzzyAliasIndex =
+            new BkTree<>(event -> List.of(event.getAlias().toLowerCase()), this);
+    private long nextId = 1;
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return eventsByAlias.containsKey(toCheck.getEventAlias());
     }
 
     /**
-     * Adds an event to the list.
-     * The Event must not already exist in the list.
+     * Returns the event whose alias matches {@code alias}, ignoring case, if there is one.
      */
-    public void add(Event toAdd) {
+    public Optional<Event> findByAlias(EventAlias alias) {
+        requireNonNull(alias);
+        return Optional.ofNullable(eventsByAlias.get(alias));
+    }
+
+    /**
+     * Returns the event with the given {@code id}, if there is one.
+     */
+    public Optional<Event> findById(long id) {
+        return Optional.ofNullable(eventsById.get(id));
+    }
+
+    /**
+     * Adds an event to the list, giving it a fresh id unless it already holds one that is not taken.
+     * The event must not already exist in the list.
+     *
+     * @return the event as stored in the list, i.e. with its id.
+     */
+    public Event add(Event toAdd) {
+        return add(currentList().size(), toAdd);
+    }
+
+    /**
+     * Inserts an event at {@code index}, giving it a fresh id unless it already holds one that is not taken.
+     * The event must not already exist in the list.
+     *
+     * @return the event as stored in the list, i.e. with its id.
+     */
+    public Event add(int index, Event toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        internalList.add(toAdd);
+        Event stored = withAvailableId(toAdd);
+        internalList.add(index, stored);
+        eventsByAlias.put(stored.getEventAlias(), stored);
+        eventsById.put(stored.getId(), stored);
+        timeIndex.add(stored);
+        aliasIndex.add(stored);
+        descriptionIndex.add(stored);
+        fuzzyAliasIndex.add(stored);
+        return stored;
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.setAll(replacement.currentList());
+        eventsByAlias.clear();
+        eventsByAlias.putAll(replacement.eventsByAlias);
+        eventsById.clear();
+        eventsById.putAll(replacement.eventsById);
+        nextId = Math.max(nextId, replacement.nextId);
+        timeIndex.clear();
+        aliasIndex.clear();
+        replacement.currentList().forEach(timeIndex::add);
+        replacement.currentList().forEach(aliasIndex::add);
+        descriptionIndex.clear();
+        fuzzyAliasIndex.clear();
     }
 
+    /**
+     * Replaces the contents of this list with {@code events}.
+     * {@code events} must not contain duplicate events; any that do collide are reported by the
+     * {@code DuplicateEventException}.
+     * Events keep their ids where they hold one that no other event in {@code events} holds, and get fresh ones
+     * otherwise.
+     */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
+        List<Event> duplicates = findDuplicates(events, Event::getEventAlias);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateEventException(duplicates);
         }
 
-        internalList.setAll(events);
+        eventsByAlias.clear();
+        eventsById.clear();
+        eventsById.ensureCapacity(events.size());
+        for (Event event : events) {
+            nextId = Math.max(nextId, event.getId() + 1);
+        }
+        List<Event> stored = new ArrayList<>(events.size());
+        for (Event event : events) {
+            Event storedEvent = withAvailableId(event);
+            eventsByAlias.put(storedEvent.getEventAlias(), storedEvent);
+            eventsById.put(storedEvent.getId(), storedEvent);
+            stored.add(storedEvent);
+        }
+        internalList.setAll(stored);
+        timeIndex.clear();
+        aliasIndex.clear();
+        stored.forEach(timeIndex::add);
+        stored.forEach(aliasIndex::add);
+        descriptionIndex.clear();
+        fuzzyAliasIndex.clear();
     }
 
     /**
@@ -60,20 +162,32 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        Event removed = currentList().get(index);
+        eventsByAlias.remove(toRemove.getEventAlias());
+        eventsById.remove(removed.getId());
+        timeIndex.remove(removed);
+        aliasIndex.remove(toRemove);
+        descriptionIndex.remove(toRemove);
+        fuzzyAliasIndex.remove(toRemove);
+        internalList.remove(index);
     }
 
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
      * The event {@code editedEvent} must not be the same as another existing event in the list.
+     * The stored event keeps the id of {@code target}.
+     *
+     * @return the event as stored in the list.
      */
-    public void setEvent(Event target, Event editedEvent) {
+    public Event setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
@@ -82,16 +196,151 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        Event before = currentList().get(index);
+        Event stored = editedEvent.withId(before.getId());
+        eventsByAlias.remove(target.getEventAlias());
+        eventsByAlias.put(stored.getEventAlias(), stored);
+        eventsById.put(stored.getId(), stored);
+        internalList.set(index, stored);
+        timeIndex.remove(before);
+        timeIndex.add(stored);
+        aliasIndex.remove(target);
+        aliasIndex.add(stored);
+        descriptionIndex.remove(target);
+        fuzzyAliasIndex.remove(target);
+        descriptionIndex.add(stored);
+        fuzzyAliasIndex.add(stored);
+        return stored;
+    }
+
+    /**
+     * Returns the position of {@code event} in the list, or -1 if no equal event is in the list.
+     * Looks the event up by identity, so only the event found is compared with {@code equals}, and then finds its
+     * position in O(log n) time.
+     */
+    public int indexOf(Event event) {
+        Event stored = eventsByAlias.get(event.getEventAlias());
+        return stored != null && stored.equals(event) ? internalList.indexOfSame(stored) : -1;
+    }
+
+    /**
+     * Returns the position of the instance {@code event} in {@link #asUnmodifiableList()}, which excludes changes made
+     * in a batch that is still open, or -1 if it is not there.
+     */
+    public int indexOfShown(Event event) {
+        return internalList.indexOfShown(event);
+    }
+
+    /**
+     * Returns the event at {@code index} in the list.
+     */
+    public Event get(int index) {
+        return currentList().get(index);
+    }
+
+    /**
+     * Returns the events whose alias starts with {@code prefix}, ignoring case, in order of alias.
+     */
+    public List<Event> getEventsWithAliasStartingWith(String prefix) {
+        return aliasIndex.getEventsWithAliasStartingWith(prefix);
+    }
+
+    /**
+     * Returns the events whose alias is within {@code maxTypos} edits of {@code alias}, ignoring case.
+     */
+    public Set<Event> getEventsWithAliasWithin(String alias, int maxTypos) {
+        return fuzzyAliasIndex.getRecordsWithWordWithin(alias.toLowerCase(), maxTypos);
+    }
+
+    /**
+     * Returns the events whose description contains {@code text}, ignoring case.
+     */
+    public Set<Event> getEventsContaining(String text) {
+        return descriptionIndex.getRecordsContaining(text);
+    }
+
+    /**
+     * Returns the events starting at or after {@code from} and before {@code to}, by start time.
+     */
+    public List<Event> getEventsStartingBetween(LocalDateTime from, LocalDateTime to) {
+        return timeIndex.getEventsStartingBetween(from, to);
+    }
+
+    /**
+     * Returns the first {@code count} events starting at or after {@code from}, by start time.
+     */
+    public List<Event> getEventsStartingFrom(LocalDateTime from, int count) {
+        return timeIndex.getEventsStartingFrom(from, count);
+    }
+
+    /**
+     * Returns the events that overlap the window from {@code from} to {@code to}, by start time.
+     * An event that ends when the window starts, or starts when it ends, does not overlap it.
+     */
+    public List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        return timeIndex.getEventsOverlapping(from, to);
+    }
+
+    /**
+     * Returns the gaps between events within the window from {@code from} to {@code to} that last at least
+     * {@code minDuration}, by start time.
+     */
+    public List<TimeSlot> getFreeSlots(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        return timeIndex.getFreeSlots(from, to, minDuration);
+    }
+
+    /**
+     * Returns {@code event} if it holds an id that no stored event holds, or else a copy of it with a fresh id.
+     */
+    private Event withAvailableId(Event event) {
+        if (event.hasId() && !eventsById.containsKey(event.getId())) {
+            nextId = Math.max(nextId, event.getId() + 1);
+            return event;
+        }
+        return event.withId(nextId++);
+    }
+
+    /**
+     * Starts a batch. Until the matching {@link #commitBatch()}, changes are not published to the listeners of
+     * {@link #asUnmodifiableList()}, which keeps showing the contents from before the batch, while identity checks and
+     * lookups stay up to date. Batches may be nested; only the outermost commit publishes.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
     }
 
-    public ObservableList<Event> asUnmodifiableObservableList() {
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}. When the outermost batch ends, all the changes
+     * made during the batch are published as a single change, covering only the range of positions they affected.
+     *
+     * @return true if the published contents changed.
+     */
+    public boolean commitBatch() {
+        return internalList.commitBatch();
+    }
+
+    /**
+     * Returns the up-to-date contents of this list, including changes made in a batch that is still open.
+     */
+    private List<Event> currentList() {
+        return internalList.latest();
+    }
+
+    public ListenableList<Event> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable copy of the events in this list, excluding changes made in a batch that is still open.
+     * Takes constant time.
+     */
+    public ListenableList<Event> snapshot() {
+        return internalList.snapshot();
+    }
+
     @Override
     public Iterator<Event> iterator() {
-        return internalList.iterator();
+        return currentList().iterator();
     }
 
     @Override
@@ -106,30 +355,16 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         UniqueEventList otherUniqueEventList = (UniqueEventList) other;
-        return internalList.equals(otherUniqueEventList.internalList);
+        return currentList().equals(otherUniqueEventList.currentList());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return currentList().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
-    }
-
-    /**
-     * Returns true if {@code events} contains only unique events.
-     */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return currentList().toString();
     }
 }
@@ -1,10 +1,37 @@
 package seedu.address.model.event.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.event.Event;
+
 /**
  * Signals that the operation will result in duplicate Events.
  */
 public class DuplicateEventException extends RuntimeException {
+    private final List<Event> duplicates;
+
     public DuplicateEventException() {
         super("Operation would result in duplicate event");
+        duplicates = List.of();
+    }
+
+    /**
+     * Creates an exception reporting the events in {@code duplicates}, each of which has the same identity as
+     * another event in the same operation.
+     */
+    public DuplicateEventException(List<Event> duplicates) {
+        super("Operation would result in duplicate event: " + duplicates.stream()
+                .map(Event::getEventAlias)
+                .map(Object::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the events that collided, or an empty list if they are not known.
+     */
+    public List<Event> getDuplicates() {
+        return duplicates;
     }
 }
@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} is linked to the event with the given id.
+ */
+public class LinkedToEventPredicate implements Predicate<Person> {
+    private final long eventId;
+
+    public LinkedToEventPredicate(long eventId) {
+        this.eventId = eventId;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.hasLinkedEvent() && person.getLinkedEventId() == eventId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LinkedToEventPredicate)) {
+            return false;
+        }
+
+        LinkedToEventPredicate otherLinkedToEventPredicate = (LinkedToEventPredicate) other;
+        return eventId == otherLinkedToEventPredicate.eventId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(eventId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("event id", eventId).toString();
+    }
+
+}
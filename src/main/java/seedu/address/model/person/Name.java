@@ -3,6 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,6 +27,11 @@ public class Name {
 
     public final String fullName;
 
+    // Names are hash keys for person identity and are matched word by word on every find, so they are folded to lower
+    // case once
+    private final String foldedName;
+    private final Set<String> foldedWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -30,6 +41,8 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        foldedName = foldWord(name);
+        foldedWords = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(foldedName.split("\\s+"))));
     }
 
     /**
@@ -39,6 +52,30 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns {@code word} folded to lower case, the form in which {@link #containsFoldedWord(String)} compares
+     * words. The folding does not depend on the default locale.
+     */
+    public static String foldWord(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns true if one of the whitespace-separated words of this name is {@code foldedWord}, which must already be
+     * folded by {@link #foldWord(String)}.
+     * Allocates nothing, as the words of the name are folded when it is created.
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        return foldedWords.contains(foldedWord);
+    }
+
+    /**
+     * Returns the distinct whitespace-separated words of this name, folded by {@link #foldWord(String)}.
+     */
+    public Set<String> getFoldedWords() {
+        return foldedWords;
+    }
+
 
     @Override
     public String toString() {
@@ -57,12 +94,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.equalsIgnoreCase(otherName.fullName);
+        return foldedName.equals(otherName.foldedName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return foldedName.hashCode();
     }
 
 }
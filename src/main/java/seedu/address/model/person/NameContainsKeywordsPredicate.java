@@ -1,25 +1,70 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Person}'s {@code Name} matches any of the keywords given, allowing up to a given number of typos
+ * per word.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final int maxTypos;
 
+    // the keywords trimmed and folded once, so that testing a person allocates nothing
+    private final String[] foldedKeywords;
+
+    /**
+     * Creates a predicate matching the persons whose name contains any of {@code keywords} as a word, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, 0);
+    }
+
+    /**
+     * Creates a predicate matching the persons whose name contains a word within {@code maxTypos} edits of any of
+     * {@code keywords}, ignoring case.
+     */
+    public NameContainsKeywordsPredicate(List<String> keywords, int maxTypos) {
+        assert maxTypos >= 0;
         this.keywords = keywords;
+        this.maxTypos = maxTypos;
+        this.foldedKeywords = keywords.stream()
+                .map(keyword -> Name.foldWord(keyword.trim()))
+                .toArray(String[]::new);
+    }
+
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
+    public int getMaxTypos() {
+        return maxTypos;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        Name name = person.getName();
+        for (String foldedKeyword : foldedKeywords) {
+            if (name.containsFoldedWord(foldedKeyword) || maxTypos > 0 && hasWordWithinTypos(name, foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasWordWithinTypos(Name name, String foldedKeyword) {
+        for (String foldedWord : name.getFoldedWords()) {
+            if (StringUtil.isWithinEditDistance(foldedWord, foldedKeyword, maxTypos)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -34,11 +79,17 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherNameContainsKeywordsPredicate.keywords)
+                && maxTypos == otherNameContainsKeywordsPredicate.maxTypos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, maxTypos);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("maxTypos", maxTypos).toString();
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
@@ -8,7 +9,6 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.event.EventAlias;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -17,6 +17,11 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    public static final String MESSAGE_INVALID_ID = "Person ids must be positive";
+    public static final String MESSAGE_INVALID_EVENT_ID = "Persons can only be linked to events with positive ids";
+
+    private static final long NO_ID = 0;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -25,27 +30,69 @@ public class Person {
     // Data fields
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
-    private final EventAlias linkedEventAlias;
+    // Id of the linked event, or NO_ID if the person is not linked to one
+    private final long linkedEventId;
+
+    // Handle assigned by the address book, or NO_ID until then. Not part of equality, as it is not data.
+    private final long id;
+
+    // Persons are immutable and are hashed on every lookup in the model's indexes, so the hash is computed once
+    private final int hashCode;
 
     /**
-     * Every field (except event) must be present and not null.
+     * Every field must be present and not null. The person is not linked to any event.
      */
-    public Person(Name name, Phone phone, Email email, Address address,
-                  Set<Tag> tags, EventAlias linkedEventAlias) {
+    public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(NO_ID, name, phone, email, address, tags, NO_ID);
+    }
+
+    private Person(long id, Name name, Phone phone, Email email, Address address,
+                   Set<Tag> tags, long linkedEventId) {
         requireAllNonNull(name, phone, email, address, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.tags.addAll(tags);
-        this.linkedEventAlias = linkedEventAlias;
+        this.linkedEventId = linkedEventId;
+        // use this method for custom fields hashing instead of implementing your own
+        this.hashCode = Objects.hash(name, phone, email, address, this.tags);
     }
 
     /**
-     * Another constructor for default
+     * Returns the id the address book assigned to this person. Only meaningful if {@link #hasId()}.
      */
-    public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        this(name, phone, email, address, tags, null);
+    public long getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
+    /**
+     * Returns a copy of this person with the given {@code id}, which must be positive.
+     */
+    public Person withId(long id) {
+        checkArgument(id > 0, MESSAGE_INVALID_ID);
+        return id == this.id ? this : new Person(id, name, phone, email, address, tags, linkedEventId);
+    }
+
+    /**
+     * Returns a copy of this person linked to the event with the given {@code eventId}, which must be positive, or
+     * this person if it already is.
+     */
+    public Person withLinkedEvent(long eventId) {
+        checkArgument(eventId > 0, MESSAGE_INVALID_EVENT_ID);
+        return eventId == linkedEventId ? this : new Person(id, name, phone, email, address, tags, eventId);
+    }
+
+    /**
+     * Returns a copy of this person linked to no event, or this person if it already is.
+     */
+    public Person withoutLinkedEvent() {
+        return hasLinkedEvent() ? new Person(id, name, phone, email, address, tags, NO_ID) : this;
     }
 
     public Name getName() {
@@ -72,8 +119,15 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
-    public EventAlias getEventAlias() {
-        return linkedEventAlias;
+    /**
+     * Returns the id of the event this person is linked to. Only meaningful if {@link #hasLinkedEvent()}.
+     */
+    public long getLinkedEventId() {
+        return linkedEventId;
+    }
+
+    public boolean hasLinkedEvent() {
+        return linkedEventId != NO_ID;
     }
 
     /**
@@ -114,8 +168,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return hashCode;
     }
 
     @Override
@@ -126,7 +179,7 @@ public class Person {
                 .add("email", email)
                 .add("address", address)
                 .add("tags", tags)
-                .add("event", linkedEventAlias == null ? "No event" : linkedEventAlias.toString())
+                .add("event", hasLinkedEvent() ? "#" + linkedEventId : "No event")
                 .toString();
     }
 
@@ -0,0 +1,27 @@
+package seedu.address.model.person;
+
+import java.util.List;
+
+import seedu.address.model.FieldsContainTextPredicate;
+
+/**
+ * Tests that a {@code Person}'s name or address contains a given text, ignoring case.
+ */
+public class PersonContainsTextPredicate extends FieldsContainTextPredicate<Person> {
+
+    public PersonContainsTextPredicate(String text) {
+        super(text);
+    }
+
+    /**
+     * Returns the fields of {@code person} that are searched for text, i.e. its name and address.
+     */
+    public static List<String> textFieldsOf(Person person) {
+        return List.of(person.getName().fullName, person.getAddress().value);
+    }
+
+    @Override
+    protected List<String> fieldsOf(Person person) {
+        return textFieldsOf(person);
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.tag.TagExpression;
+
+/**
+ * Tests that a {@code Person} meets every criterion of a query over several of its fields. Each criterion is optional:
+ * - Name: contains any of the keywords as a word, ignoring case
+ * - Tags: match a {@code TagExpression}
+ * - Event alias: is linked to the event with the alias, once that event is given by {@link #withLinkedEvent(Event)}
+ * - Phone: contains the digits given
+ * - Email: contains the text given, ignoring case
+ */
+public class PersonQuery implements Predicate<Person> {
+    private static final long NO_EVENT = 0;
+
+    private final List<String> nameKeywords;
+    private final TagExpression tagExpression;
+    private final EventAlias eventAlias;
+    private final String phoneFragment;
+    private final String emailFragment;
+    // Id of the event with the alias, or NO_EVENT if it has not been given
+    private final long linkedEventId;
+
+    // the name criterion, if any, tested as find-contacts tests it
+    private final NameContainsKeywordsPredicate namePredicate;
+    private final String foldedEmailFragment;
+
+    /**
+     * Creates a query from its criteria, where an empty {@code nameKeywords} or a null criterion is left out.
+     */
+    public PersonQuery(List<String> nameKeywords, TagExpression tagExpression, EventAlias eventAlias,
+            String phoneFragment, String emailFragment) {
+        this(nameKeywords, tagExpression, eventAlias, phoneFragment, emailFragment, NO_EVENT);
+    }
+
+    private PersonQuery(List<String> nameKeywords, TagExpression tagExpression, EventAlias eventAlias,
+            String phoneFragment, String emailFragment, long linkedEventId) {
+        this.nameKeywords = List.copyOf(requireNonNull(nameKeywords));
+        this.tagExpression = tagExpression;
+        this.eventAlias = eventAlias;
+        this.phoneFragment = phoneFragment;
+        this.emailFragment = emailFragment;
+        this.linkedEventId = linkedEventId;
+        this.namePredicate = nameKeywords.isEmpty() ? null : new NameContainsKeywordsPredicate(this.nameKeywords);
+        this.foldedEmailFragment = emailFragment == null ? null : emailFragment.toLowerCase();
+    }
+
+    public List<String> getNameKeywords() {
+        return nameKeywords;
+    }
+
+    public Optional<TagExpression> getTagExpression() {
+        return Optional.ofNullable(tagExpression);
+    }
+
+    public Optional<EventAlias> getEventAlias() {
+        return Optional.ofNullable(eventAlias);
+    }
+
+    /**
+     * Returns the id of the event with the alias of the event alias criterion, or 0, which is no event's id, if that
+     * event has not been given.
+     */
+    public long getLinkedEventId() {
+        return linkedEventId;
+    }
+
+    /**
+     * Returns a copy of this query where the event alias criterion is met by the persons linked to {@code event},
+     * which is the event with that alias. Persons link to events by id, so until the event is given, no person meets
+     * the criterion.
+     */
+    public PersonQuery withLinkedEvent(Event event) {
+        requireNonNull(event);
+        assert eventAlias != null && eventAlias.equals(event.getEventAlias())
+                : "The event must be the one with the alias of the query";
+        return new PersonQuery(nameKeywords, tagExpression, eventAlias, phoneFragment, emailFragment, event.getId());
+    }
+
+    public Optional<String> getPhoneFragment() {
+        return Optional.ofNullable(phoneFragment);
+    }
+
+    public Optional<String> getEmailFragment() {
+        return Optional.ofNullable(emailFragment);
+    }
+
+    /**
+     * Returns true if {@code person} meets the name criterion, or there is none.
+     */
+    public boolean matchesName(Person person) {
+        return namePredicate == null || namePredicate.test(person);
+    }
+
+    /**
+     * Returns true if {@code person} meets the tag criterion, or there is none.
+     */
+    public boolean matchesTags(Person person) {
+        return tagExpression == null || tagExpression.test(person.getTags());
+    }
+
+    /**
+     * Returns true if {@code person} meets the event alias criterion, or there is none.
+     */
+    public boolean matchesEventAlias(Person person) {
+        return eventAlias == null || (person.hasLinkedEvent() && person.getLinkedEventId() == linkedEventId);
+    }
+
+    /**
+     * Returns true if {@code person} meets the phone criterion, or there is none.
+     */
+    public boolean matchesPhone(Person person) {
+        return phoneFragment == null || person.getPhone().value.contains(phoneFragment);
+    }
+
+    /**
+     * Returns true if {@code person} meets the email criterion, or there is none.
+     */
+    public boolean matchesEmail(Person person) {
+        return foldedEmailFragment == null || person.getEmail().value.toLowerCase().contains(foldedEmailFragment);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return matchesName(person) && matchesTags(person) && matchesEventAlias(person) && matchesPhone(person)
+                && matchesEmail(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherPersonQuery = (PersonQuery) other;
+        return nameKeywords.equals(otherPersonQuery.nameKeywords)
+                && Objects.equals(tagExpression, otherPersonQuery.tagExpression)
+                && Objects.equals(eventAlias, otherPersonQuery.eventAlias)
+                && Objects.equals(phoneFragment, otherPersonQuery.phoneFragment)
+                && Objects.equals(emailFragment, otherPersonQuery.emailFragment)
+                && linkedEventId == otherPersonQuery.linkedEventId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nameKeywords, tagExpression, eventAlias, phoneFragment, emailFragment, linkedEventId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("nameKeywords", nameKeywords)
+                .add("tagExpression", tagExpression)
+                .add("eventAlias", eventAlias)
+                .add("phoneFragment", phoneFragment)
+                .add("emailFragment", emailFragment)
+                .toString();
+    }
+}
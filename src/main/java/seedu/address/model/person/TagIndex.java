@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.map.LongHashMap;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
+
+/**
+ * An inverted index from each tag to the bitmap of the persons holding it, so that tag queries are answered with
+ * bitmap operations instead of by testing every person.
+ * Each indexed person is given an ordinal, which is its bit in the bitmaps. The ordinal of a removed person is given
+ * to the next person added, so the bitmaps only ever span as many bits as the most persons indexed at once, whatever
+ * the ids of the persons.
+ * Used by {@code UniquePersonList}, which keeps it up to date.
+ */
+class TagIndex {
+    private static final BitSet NO_PERSONS = new BitSet();
+
+    private final Map<Tag, BitSet> ordinalsByTag = new HashMap<>();
+    private final BitSet allOrdinals = new BitSet();
+    private final LongHashMap<Integer> ordinalsById = new LongHashMap<>();
+    // The indexed person holding each ordinal, or null for an ordinal that is free
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+
+    void add(Person person) {
+        requireNonNull(person);
+        assert person.hasId() : "Only stored persons, which hold ids, are indexed";
+        int ordinal = allOrdinals.nextClearBit(0);
+        if (ordinal == personsByOrdinal.size()) {
+            personsByOrdinal.add(person);
+        } else {
+            personsByOrdinal.set(ordinal, person);
+        }
+        allOrdinals.set(ordinal);
+        ordinalsById.put(person.getId(), ordinal);
+        for (Tag tag : person.getTags()) {
+            ordinalsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+        }
+    }
+
+    void remove(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinalsById.remove(person.getId());
+        if (ordinal == null) {
+            return;
+        }
+        allOrdinals.clear(ordinal);
+        personsByOrdinal.set(ordinal, null);
+        for (Tag tag : person.getTags()) {
+            BitSet ordinals = ordinalsByTag.get(tag);
+            if (ordinals == null) {
+                continue;
+            }
+            ordinals.clear(ordinal);
+            if (ordinals.isEmpty()) {
+                ordinalsByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Replaces every indexed person with {@code persons}, giving them the ordinals from 0 in order, so that the
+     * bitmaps are filled in one pass without looking for free ordinals.
+     */
+    void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        clear();
+        ordinalsById.ensureCapacity(persons.size());
+        for (int ordinal = 0; ordinal < persons.size(); ordinal++) {
+            Person person = persons.get(ordinal);
+            assert person.hasId() : "Only stored persons, which hold ids, are indexed";
+            ordinalsById.put(person.getId(), ordinal);
+            for (Tag tag : person.getTags()) {
+                ordinalsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(ordinal);
+            }
+        }
+        personsByOrdinal.addAll(persons);
+        allOrdinals.set(0, persons.size());
+    }
+
+    void clear() {
+        ordinalsByTag.clear();
+        allOrdinals.clear();
+        ordinalsById.clear();
+        personsByOrdinal.clear();
+    }
+
+    /**
+     * Returns the persons whose tags match {@code expression}.
+     */
+    List<Person> getPersonsMatching(TagExpression expression) {
+        requireNonNull(expression);
+        BitSet ordinals = expression.evaluate(tag -> ordinalsByTag.getOrDefault(tag, NO_PERSONS), allOrdinals);
+        List<Person> persons = new ArrayList<>(ordinals.cardinality());
+        ordinals.stream().forEach(ordinal -> persons.add(personsByOrdinal.get(ordinal)));
+        return persons;
+    }
+}
@@ -1,15 +1,26 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.commons.core.list.ListenableTreeList;
+import seedu.address.commons.core.list.UnmodifiableListenableList;
+import seedu.address.commons.core.map.LongHashMap;
+import seedu.address.model.BkTree;
+import seedu.address.model.TrigramIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.TagExpression;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,45 +29,97 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Each stored person is also indexed by {@code Name}, the identity field used by {@code Person#isSamePerson(Person)},
+ * and by id, and its position is found from the stored instance in O(log n) time, so that identity checks,
+ * replacements and removals do not need to scan the list, nor to renumber the persons after a removed one.
+ * The persons are also indexed by tag, by text and by the words of their names, so that tag, text and typo-tolerant
+ * name queries do not need to scan the list either. The text and name word indexes are only built on their first
+ * query, so that replacing all the persons at once, as on loading, does not pay for indexes that may go unused.
+ * The indexes are kept in sync with the backing list by every mutator.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ListenableTreeList<Person> internalList = new ListenableTreeList<>();
+    private final ListenableList<Person> internalUnmodifiableList =
+            new UnmodifiableListenableList<>(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final LongHashMap<Person> personsById = new LongHashMap<>();
+    private final TagIndex tagIndex = new TagIndex();
+    private final TrigramIndex<Person> textIndex =
+            new TrigramIndex<>(PersonContainsTextPredicate::textFieldsOf, this);
+    private final BkTree<Person> nameWordIndex = new BkTree<>(person -> person.getName().getFoldedWords(), this);
+    private long nextId = 1;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person with the given {@code id}, if there is one.
+     */
+    public Optional<Person> findById(long id) {
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    /**
+     * Returns the person with the given {@code name}, if there is one.
+     */
+    public Optional<Person> findByName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
     }
 
     /**
-     * Adds a person to the list.
+     * Adds a person to the list, giving it a fresh id unless it already holds one that is not taken.
      * The person must not already exist in the list.
+     *
+     * @return the person as stored in the list, i.e. with its id.
      */
-    public void add(Person toAdd) {
+    public Person add(Person toAdd) {
+        return add(currentList().size(), toAdd);
+    }
+
+    /**
+     * Inserts a person at {@code index}, giving it a fresh id unless it already holds one that is not taken.
+     * The person must not already exist in the list.
+     *
+     * @return the person as stored in the list, i.e. with its id.
+     */
+    public Person add(int index, Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person stored = withAvailableId(toAdd);
+        internalList.add(index, stored);
+        personsByName.put(stored.getName(), stored);
+        personsById.put(stored.getId(), stored);
+        tagIndex.add(stored);
+        textIndex.add(stored);
+        nameWordIndex.add(stored);
+        return stored;
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The stored person keeps the id of {@code target}.
+     *
+     * @return the person as stored in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public Person setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +128,19 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person before = currentList().get(index);
+        Person stored = editedPerson.withId(before.getId());
+        personsByName.remove(target.getName());
+        personsByName.put(stored.getName(), stored);
+        personsById.put(stored.getId(), stored);
+        tagIndex.remove(before);
+        tagIndex.add(stored);
+        textIndex.remove(before);
+        nameWordIndex.remove(before);
+        textIndex.add(stored);
+        nameWordIndex.add(stored);
+        internalList.set(index, stored);
+        return stored;
     }
 
     /**
@@ -74,39 +149,166 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = currentList().get(index);
+        personsByName.remove(toRemove.getName());
+        personsById.remove(removed.getId());
+        tagIndex.remove(removed);
+        textIndex.remove(removed);
+        nameWordIndex.remove(removed);
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.setAll(replacement.currentList());
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
+        personsById.clear();
+        personsById.putAll(replacement.personsById);
+        nextId = Math.max(nextId, replacement.nextId);
+        tagIndex.setPersons(replacement.currentList());
+        textIndex.clear();
+        nameWordIndex.clear();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons; any that do collide are reported by the
+     * {@code DuplicatePersonException}.
+     * Persons keep their ids where they hold one that no other person in {@code persons} holds, and get fresh ones
+     * otherwise.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<Person> duplicates = findDuplicates(persons, Person::getName);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
+        }
+
+        personsByName.clear();
+        personsById.clear();
+        personsById.ensureCapacity(persons.size());
+        for (Person person : persons) {
+            nextId = Math.max(nextId, person.getId() + 1);
+        }
+        List<Person> stored = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Person storedPerson = withAvailableId(person);
+            personsByName.put(storedPerson.getName(), storedPerson);
+            personsById.put(storedPerson.getId(), storedPerson);
+            stored.add(storedPerson);
+        }
+        internalList.setAll(stored);
+        tagIndex.setPersons(stored);
+        textIndex.clear();
+        nameWordIndex.clear();
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if no equal person is in the list.
+     * Looks the person up by identity, so only the person found is compared with {@code equals}, and then finds its
+     * position in O(log n) time.
+     */
+    public int indexOf(Person person) {
+        Person stored = personsByName.get(person.getName());
+        return stored != null && stored.equals(person) ? internalList.indexOfSame(stored) : -1;
+    }
+
+    /**
+     * Returns the position of the instance {@code person} in {@link #asUnmodifiableList()}, which excludes changes made
+     * in a batch that is still open, or -1 if it is not there.
+     */
+    public int indexOfShown(Person person) {
+        return internalList.indexOfShown(person);
+    }
+
+    /**
+     * Returns the person at {@code index} in the list.
+     */
+    public Person get(int index) {
+        return currentList().get(index);
+    }
+
+    /**
+     * Returns the persons whose tags match {@code expression}.
+     */
+    public List<Person> getPersonsWithTags(TagExpression expression) {
+        return tagIndex.getPersonsMatching(expression);
+    }
+
+    /**
+     * Returns the persons whose name or address contains {@code text}, ignoring case.
+     */
+    public Set<Person> getPersonsContaining(String text) {
+        return textIndex.getRecordsContaining(text);
+    }
+
+    /**
+     * Returns the persons with a word in their name within {@code maxTypos} edits of {@code word}, ignoring case.
+     */
+    public Set<Person> getPersonsWithNameWordWithin(String word, int maxTypos) {
+        return nameWordIndex.getRecordsWithWordWithin(Name.foldWord(word), maxTypos);
+    }
+
+    /**
+     * Returns {@code person} if it holds an id that no stored person holds, or else a copy of it with a fresh id.
+     */
+    private Person withAvailableId(Person person) {
+        if (person.hasId() && !personsById.containsKey(person.getId())) {
+            nextId = Math.max(nextId, person.getId() + 1);
+            return person;
         }
+        return person.withId(nextId++);
+    }
+
+    /**
+     * Starts a batch. Until the matching {@link #commitBatch()}, changes are not published to the listeners of
+     * {@link #asUnmodifiableList()}, which keeps showing the contents from before the batch, while identity checks and
+     * lookups stay up to date. Batches may be nested; only the outermost commit publishes.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
 
-        internalList.setAll(persons);
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}. When the outermost batch ends, all the changes
+     * made during the batch are published as a single change, covering only the range of positions they affected.
+     *
+     * @return true if the published contents changed.
+     */
+    public boolean commitBatch() {
+        return internalList.commitBatch();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the up-to-date contents of this list, including changes made in a batch that is still open.
      */
-    public ObservableList<Person> asUnmodifiableObservableList() {
+    private List<Person> currentList() {
+        return internalList.latest();
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ListenableList}.
+     */
+    public ListenableList<Person> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable copy of the persons in this list, excluding changes made in a batch that is still open.
+     * Takes constant time.
+     */
+    public ListenableList<Person> snapshot() {
+        return internalList.snapshot();
+    }
+
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return currentList().iterator();
     }
 
     @Override
@@ -121,30 +323,16 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return currentList().equals(otherUniquePersonList.currentList());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return currentList().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
-    }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return currentList().toString();
     }
 }
@@ -1,11 +1,38 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Person> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicates = List.of();
+    }
+
+    /**
+     * Creates an exception reporting the persons in {@code duplicates}, each of which has the same identity as
+     * another person in the same operation.
+     */
+    public DuplicatePersonException(List<Person> duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates.stream()
+                .map(Person::getName)
+                .map(Object::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the persons that collided, or an empty list if they are not known.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
     }
 }
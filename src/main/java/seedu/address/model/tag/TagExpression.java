@@ -0,0 +1,218 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A boolean combination of tags, e.g. {@code vip AND (friends OR colleagues) AND NOT blocked}.
+ * Can be tested against the tags of one record, or evaluated over a whole collection at once from bitmaps of the
+ * records holding each tag.
+ */
+public abstract class TagExpression {
+
+    /**
+     * Returns the expression that holds for records with {@code tag}.
+     */
+    public static TagExpression of(Tag tag) {
+        return new HasTag(tag);
+    }
+
+    /**
+     * Returns the expression that holds for records matching both {@code left} and {@code right}.
+     */
+    public static TagExpression and(TagExpression left, TagExpression right) {
+        return new And(left, right);
+    }
+
+    /**
+     * Returns the expression that holds for records matching {@code left}, {@code right} or both.
+     */
+    public static TagExpression or(TagExpression left, TagExpression right) {
+        return new Or(left, right);
+    }
+
+    /**
+     * Returns the expression that holds for records not matching {@code operand}.
+     */
+    public static TagExpression not(TagExpression operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * Returns true if a record with {@code tags} matches this expression.
+     */
+    public abstract boolean test(Set<Tag> tags);
+
+    /**
+     * Returns the set of records matching this expression, as a bitmap over record ordinals.
+     *
+     * @param recordsWithTag returns the bitmap of the records holding a tag. The bitmap is not modified.
+     * @param allRecords the bitmap of all records, which NOT is taken relative to. It is not modified.
+     */
+    public abstract BitSet evaluate(Function<Tag, BitSet> recordsWithTag, BitSet allRecords);
+
+    private static final class HasTag extends TagExpression {
+        private final Tag tag;
+
+        HasTag(Tag tag) {
+            this.tag = requireNonNull(tag);
+        }
+
+        @Override
+        public boolean test(Set<Tag> tags) {
+            return tags.contains(tag);
+        }
+
+        @Override
+        public BitSet evaluate(Function<Tag, BitSet> recordsWithTag, BitSet allRecords) {
+            return (BitSet) recordsWithTag.apply(tag).clone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof HasTag && tag.equals(((HasTag) other).tag));
+        }
+
+        @Override
+        public int hashCode() {
+            return tag.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return tag.tagName;
+        }
+    }
+
+    private static final class And extends TagExpression {
+        private final TagExpression left;
+        private final TagExpression right;
+
+        And(TagExpression left, TagExpression right) {
+            requireAllNonNull(left, right);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean test(Set<Tag> tags) {
+            return left.test(tags) && right.test(tags);
+        }
+
+        @Override
+        public BitSet evaluate(Function<Tag, BitSet> recordsWithTag, BitSet allRecords) {
+            BitSet result = left.evaluate(recordsWithTag, allRecords);
+            if (!result.isEmpty()) {
+                result.and(right.evaluate(recordsWithTag, allRecords));
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof And)) {
+                return false;
+            }
+            And otherAnd = (And) other;
+            return left.equals(otherAnd.left) && right.equals(otherAnd.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("AND", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    private static final class Or extends TagExpression {
+        private final TagExpression left;
+        private final TagExpression right;
+
+        Or(TagExpression left, TagExpression right) {
+            requireAllNonNull(left, right);
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean test(Set<Tag> tags) {
+            return left.test(tags) || right.test(tags);
+        }
+
+        @Override
+        public BitSet evaluate(Function<Tag, BitSet> recordsWithTag, BitSet allRecords) {
+            BitSet result = left.evaluate(recordsWithTag, allRecords);
+            result.or(right.evaluate(recordsWithTag, allRecords));
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Or)) {
+                return false;
+            }
+            Or otherOr = (Or) other;
+            return left.equals(otherOr.left) && right.equals(otherOr.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("OR", left, right);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+
+    private static final class Not extends TagExpression {
+        private final TagExpression operand;
+
+        Not(TagExpression operand) {
+            this.operand = requireNonNull(operand);
+        }
+
+        @Override
+        public boolean test(Set<Tag> tags) {
+            return !operand.test(tags);
+        }
+
+        @Override
+        public BitSet evaluate(Function<Tag, BitSet> recordsWithTag, BitSet allRecords) {
+            BitSet result = (BitSet) allRecords.clone();
+            result.andNot(operand.evaluate(recordsWithTag, allRecords));
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash("NOT", operand);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+}
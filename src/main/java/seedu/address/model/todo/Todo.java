@@ -1,44 +1,76 @@
 package seedu.address.model.todo;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
 
-import seedu.address.model.person.Name;
-
 /**
  * Represents a Todo in the address book.
  */
 public class Todo {
+    public static final String MESSAGE_INVALID_ID = "Todo ids must be positive";
+    public static final String MESSAGE_INVALID_CONTACT_ID = "Todos can only be linked to contacts with positive ids";
+
+    private static final long NO_ID = 0;
+
     private final TodoName todoName;
     private final String todoDescription;
-    private final Name contactName; // may be null
+    // Id of the linked contact, or NO_ID if the todo is not linked to one
+    private final long contactId;
     private final boolean isCompleted;
 
+    // Handle assigned by the address book, or NO_ID until then. Not part of equality, as it is not data.
+    private final long id;
+
+    // Todos are immutable and are hashed on every lookup in the model's indexes, so the hash is computed once
+    private final int hashCode;
+
     /**
-     * Constructs a Todo with the specified details.
+     * Constructs a Todo that is not linked to a contact.
      * @param todoName The name of the todo. Must not be null and must be a valid todo name.
      * @param todoDescription The description of the todo. Must not be null.
-     * @param contactName The name of the linked contact. Can be null.
      */
-    public Todo(TodoName todoName, String todoDescription, Name contactName) {
-        requireAllNonNull(todoName, todoDescription);
-        this.todoName = todoName;
-        this.todoDescription = todoDescription;
-        this.contactName = contactName;
-        this.isCompleted = false;
+    public Todo(TodoName todoName, String todoDescription) {
+        this(todoName, todoDescription, false);
     }
 
     /**
      * Separate constructor for loading from database into the code.
      * @param isCompleted true if the todo is marked as completed.
      */
-    public Todo(TodoName todoName, String todoDescription, Name contactName, boolean isCompleted) {
+    public Todo(TodoName todoName, String todoDescription, boolean isCompleted) {
+        this(NO_ID, todoName, todoDescription, NO_ID, isCompleted);
+    }
+
+    private Todo(long id, TodoName todoName, String todoDescription, long contactId, boolean isCompleted) {
         requireAllNonNull(todoName, todoDescription, isCompleted);
+        this.id = id;
         this.todoName = todoName;
         this.todoDescription = todoDescription;
-        this.contactName = contactName;
+        this.contactId = contactId;
         this.isCompleted = isCompleted;
+        // description is compared ignoring case, so it must be hashed ignoring case too
+        this.hashCode = Objects.hash(todoName, todoDescription.toLowerCase(), contactId, isCompleted);
+    }
+
+    /**
+     * Returns the id the address book assigned to this todo. Only meaningful if {@link #hasId()}.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != NO_ID;
+    }
+
+    /**
+     * Returns a copy of this todo with the given {@code id}, which must be positive.
+     */
+    public Todo withId(long id) {
+        checkArgument(id > 0, MESSAGE_INVALID_ID);
+        return id == this.id ? this : new Todo(id, todoName, todoDescription, contactId, isCompleted);
     }
 
     /**
@@ -56,20 +88,17 @@ public class Todo {
     }
 
     /**
-     * Returns the linked contact Name
+     * Returns the id of the linked contact. Only meaningful if {@link #hasContact()}.
      */
-    public Name getContactName() {
-        return contactName;
+    public long getContactId() {
+        return contactId;
     }
 
     /**
-     * Returns the name of the linked contact as a string.
+     * Returns true if the todo is linked to a contact.
      */
-    public String getContactNameDisplay() {
-        if (contactName != null) {
-            return contactName.toString();
-        }
-        return "No contact linked";
+    public boolean hasContact() {
+        return contactId != NO_ID;
     }
 
     /**
@@ -94,22 +123,30 @@ public class Todo {
     }
 
     /**
-     * Creates and returns a copy of this todo with the specified linked contact name.
+     * Creates and returns a copy of this todo linked to the contact with the specified id.
      *
-     * @param contactName the new linked contact name
-     * @return a new Todo with the same properties but different linked contact name
+     * @param contactId the id of the contact to link, which must be positive
+     * @return a new Todo with the same properties but linked to that contact, or this todo if it already is
+     */
+    public Todo withContact(long contactId) {
+        checkArgument(contactId > 0, MESSAGE_INVALID_CONTACT_ID);
+        return contactId == this.contactId ? this : new Todo(id, todoName, todoDescription, contactId, isCompleted);
+    }
+
+    /**
+     * Creates and returns a copy of this todo linked to no contact, or returns this todo if it already is.
      */
-    public Todo withLinkedContactName(Name contactName) {
-        return new Todo(this.todoName, this.todoDescription, contactName, this.isCompleted);
+    public Todo withoutContact() {
+        return hasContact() ? new Todo(id, todoName, todoDescription, NO_ID, isCompleted) : this;
     }
 
     /**
      * Creates and returns a copy of this todo with the specified completion status.
      * @param isCompleted the new completion status
-     * @return a new Todo with the same properties but different completion status
+     * @return a new Todo with the same properties but different completion status, or this todo if it already has it
      */
     public Todo withCompletionStatus(boolean isCompleted) {
-        return new Todo(this.todoName, this.todoDescription, this.contactName, isCompleted);
+        return isCompleted == this.isCompleted ? this : new Todo(id, todoName, todoDescription, contactId, isCompleted);
     }
 
     @Override
@@ -117,7 +154,7 @@ public class Todo {
         return "Todo{"
                 + "todoName='" + todoName + '\''
                 + ", todoDescription='" + todoDescription + '\''
-                + ", contactName='" + contactName + '\''
+                + ", contactId=" + (hasContact() ? contactId : "none")
                 + ", isCompleted=" + isCompleted
                 + '}';
     }
@@ -133,13 +170,13 @@ public class Todo {
         Todo otherTodo = (Todo) other;
         return this.todoName.equals(otherTodo.todoName)
                 && this.todoDescription.equalsIgnoreCase(otherTodo.todoDescription)
-                && java.util.Objects.equals(contactName, otherTodo.contactName)
+                && this.contactId == otherTodo.contactId
                 && this.isCompleted == otherTodo.isCompleted;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(todoName, todoDescription, contactName, isCompleted);
+        return hashCode;
     }
 
 }
@@ -0,0 +1,27 @@
+package seedu.address.model.todo;
+
+import java.util.List;
+
+import seedu.address.model.FieldsContainTextPredicate;
+
+/**
+ * Tests that a {@code Todo}'s description contains a given text, ignoring case.
+ */
+public class TodoContainsTextPredicate extends FieldsContainTextPredicate<Todo> {
+
+    public TodoContainsTextPredicate(String text) {
+        super(text);
+    }
+
+    /**
+     * Returns the fields of {@code todo} that are searched for text, i.e. its description.
+     */
+    public static List<String> textFieldsOf(Todo todo) {
+        return List.of(todo.getTodoDescription());
+    }
+
+    @Override
+    protected List<String> fieldsOf(Todo todo) {
+        return textFieldsOf(todo);
+    }
+}
@@ -56,4 +56,9 @@ public class TodoName {
         TodoName otherTodoName = (TodoName) other;
         return todoName.equalsIgnoreCase(otherTodoName.todoName);
     }
+
+    @Override
+    public int hashCode() {
+        return todoName.toLowerCase().hashCode();
+    }
 }
@@ -1,53 +1,119 @@
 package seedu.address.model.todo;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.findDuplicates;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import seedu.address.model.person.Name;
-import seedu.address.model.person.Person;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.commons.core.list.ListenableTreeList;
+import seedu.address.commons.core.list.UnmodifiableListenableList;
+import seedu.address.commons.core.map.LongHashMap;
+import seedu.address.model.TrigramIndex;
 import seedu.address.model.todo.exceptions.DuplicateTodoException;
 import seedu.address.model.todo.exceptions.TodoNotFoundException;
 
 /**
  * A list of todos that enforces uniqueness between its elements and does not allow nulls.
+ * A todo is considered unique by comparing using {@code Todo#isSameTodo(Todo)}, i.e. by its {@code TodoName} and
+ * case-insensitive description. Each stored todo is also indexed by that identity and by id, and its position is found
+ * from the stored instance in O(log n) time, so that identity checks, replacements and removals do not need to scan
+ * the list, nor to renumber the todos after a removed one. The todos are also indexed by text, once the first text
+ * query is made, so that such queries do not need to scan the list either.
+ *
+ * @see Todo#isSameTodo(Todo)
  */
 public class UniqueTodoList implements Iterable<Todo> {
 
-    private final ObservableList<Todo> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Todo> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ListenableTreeList<Todo> internalList = new ListenableTreeList<>();
+    private final ListenableList<Todo> internalUnmodifiableList =
+            new UnmodifiableListenableList<>(internalList);
+    private final Map<IdentityKey, Todo> todosByIdentity = new HashMap<>();
+    private final LongHashMap<Todo> todosById = new LongHashMap<>();
+    private final TrigramIndex<Todo> descriptionIndex =
+            new TrigramIndex<>(TodoContainsTextPredicate::textFieldsOf, this);
+    private long nextId = 1;
 
     /**
      * Returns true if the list contains an equivalent todo as the given argument.
      */
     public boolean contains(Todo toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTodo);
+        return todosByIdentity.containsKey(new IdentityKey(toCheck));
     }
 
     /**
-     * Adds a todo to the list.
-     * The Todo must not already exist in the list.
+     * Returns the todo with the given {@code id}, if there is one.
      */
-    public void add(Todo toAdd) {
+    public Optional<Todo> findById(long id) {
+        return Optional.ofNullable(todosById.get(id));
+    }
+
+    /**
+     * Adds a todo to the list, giving it a fresh id unless it already holds one that is not taken.
+     * The todo must not already exist in the list.
+     *
+     * @return the todo as stored in the list, i.e. with its id.
+     */
+    public Todo add(Todo toAdd) {
+        return add(currentList().size(), toAdd);
+    }
+
+    /**
+     * Inserts a todo at {@code index}, giving it a fresh id unless it already holds one that is not taken.
+     * The todo must not already exist in the list.
+     *
+     * @return the todo as stored in the list, i.e. with its id.
+     */
+    public Todo add(int index, Todo toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateTodoException();
         }
-        internalList.add(toAdd);
+        Todo stored = withAvailableId(toAdd);
+        internalList.add(index, stored);
+        todosByIdentity.put(new IdentityKey(stored), stored);
+        todosById.put(stored.getId(), stored);
+        descriptionIndex.add(stored);
+        return stored;
     }
 
+    /**
+     * Replaces the contents of this list with {@code todos}.
+     * {@code todos} must not contain duplicate todos; any that do collide are reported by the
+     * {@code DuplicateTodoException}.
+     * Todos keep their ids where they hold one that no other todo in {@code todos} holds, and get fresh ones
+     * otherwise.
+     */
     public void setTodos(List<Todo> todos) {
         requireAllNonNull(todos);
-        if (!todosAreUnique(todos)) {
-            throw new DuplicateTodoException();
+        List<Todo> duplicates = findDuplicates(todos, IdentityKey::new);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateTodoException(duplicates);
         }
-        internalList.setAll(todos);
+        todosByIdentity.clear();
+        todosById.clear();
+        todosById.ensureCapacity(todos.size());
+        for (Todo todo : todos) {
+            nextId = Math.max(nextId, todo.getId() + 1);
+        }
+        List<Todo> stored = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            Todo storedTodo = withAvailableId(todo);
+            todosByIdentity.put(new IdentityKey(storedTodo), storedTodo);
+            todosById.put(storedTodo.getId(), storedTodo);
+            stored.add(storedTodo);
+        }
+        internalList.setAll(stored);
+        descriptionIndex.clear();
     }
 
     /**
@@ -56,20 +122,28 @@ public class UniqueTodoList implements Iterable<Todo> {
      */
     public void remove(Todo toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TodoNotFoundException();
         }
+        todosByIdentity.remove(new IdentityKey(toRemove));
+        todosById.remove(currentList().get(index).getId());
+        descriptionIndex.remove(toRemove);
+        internalList.remove(index);
     }
 
     /**
      * Replaces the todo {@code target} in the list with {@code editedTodo}.
      * {@code target} must exist in the list.
      * The todo {@code editedTodo} must not be the same as another existing todo in the list.
+     * The stored todo keeps the id of {@code target}.
+     *
+     * @return the todo as stored in the list.
      */
-    public void setTodo(Todo target, Todo editedTodo) {
+    public Todo setTodo(Todo target, Todo editedTodo) {
         requireAllNonNull(target, editedTodo);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TodoNotFoundException();
         }
@@ -77,47 +151,101 @@ public class UniqueTodoList implements Iterable<Todo> {
         if (!target.isSameTodo(editedTodo) && contains(editedTodo)) {
             throw new DuplicateTodoException();
         }
-        internalList.set(index, editedTodo);
+        Todo stored = editedTodo.withId(currentList().get(index).getId());
+        todosByIdentity.remove(new IdentityKey(target));
+        todosByIdentity.put(new IdentityKey(stored), stored);
+        todosById.put(stored.getId(), stored);
+        internalList.set(index, stored);
+        descriptionIndex.remove(target);
+        descriptionIndex.add(stored);
+        return stored;
     }
 
     /**
-     * Replaces each todo in the list that is associated with person {@code target} with a new todo associated with
-     * person {@code editedPerson}.
+     * Returns the position of {@code todo} in the list, or -1 if no equal todo is in the list.
+     * Looks the todo up by identity, so only the todo found is compared with {@code equals}, and then finds its
+     * position in O(log n) time.
      */
-    public void setPerson(Person target, Person editedPerson) {
-        requireAllNonNull(target, editedPerson);
+    public int indexOf(Todo todo) {
+        Todo stored = todosByIdentity.get(new IdentityKey(todo));
+        return stored != null && stored.equals(todo) ? internalList.indexOfSame(stored) : -1;
+    }
 
-        Name targetName = requireNonNull(target.getName());
+    /**
+     * Returns the position of the instance {@code todo} in {@link #asUnmodifiableList()}, which excludes changes made
+     * in a batch that is still open, or -1 if it is not there.
+     */
+    public int indexOfShown(Todo todo) {
+        return internalList.indexOfShown(todo);
+    }
 
-        for (Todo todo : this) {
-            if (targetName.equals(todo.getContactName())) {
-                setTodo(todo, todo.withLinkedContactName(editedPerson.getName()));
-            }
-        }
+    /**
+     * Returns the todos whose description contains {@code text}, ignoring case.
+     */
+    public Set<Todo> getTodosContaining(String text) {
+        return descriptionIndex.getRecordsContaining(text);
     }
 
     /**
-     * Returns true if {@code todos} contains only unique todos.
+     * Returns the todo at {@code index} in the list.
      */
-    private boolean todosAreUnique(List<Todo> todos) {
-        for (int i = 0; i < todos.size() - 1; i++) {
-            for (int j = i + 1; j < todos.size(); j++) {
-                if (todos.get(i).isSameTodo(todos.get(j))) {
-                    return false;
-                }
-            }
+    public Todo get(int index) {
+        return currentList().get(index);
+    }
+
+    /**
+     * Returns {@code todo} if it holds an id that no stored todo holds, or else a copy of it with a fresh id.
+     */
+    private Todo withAvailableId(Todo todo) {
+        if (todo.hasId() && !todosById.containsKey(todo.getId())) {
+            nextId = Math.max(nextId, todo.getId() + 1);
+            return todo;
         }
-        return true;
+        return todo.withId(nextId++);
+    }
+
+    /**
+     * Starts a batch. Until the matching {@link #commitBatch()}, changes are not published to the listeners of
+     * {@link #asUnmodifiableList()}, which keeps showing the contents from before the batch, while identity checks and
+     * lookups stay up to date. Batches may be nested; only the outermost commit publishes.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}. When the outermost batch ends, all the changes
+     * made during the batch are published as a single change, covering only the range of positions they affected.
+     *
+     * @return true if the published contents changed.
+     */
+    public boolean commitBatch() {
+        return internalList.commitBatch();
+    }
+
+    /**
+     * Returns the up-to-date contents of this list, including changes made in a batch that is still open.
+     */
+    private List<Todo> currentList() {
+        return internalList.latest();
     }
 
     /** Returns an unmodifiable view of the internal list. */
-    public ObservableList<Todo> asUnmodifiableObservableList() {
+    public ListenableList<Todo> asUnmodifiableList() {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns an immutable copy of the todos in this list, excluding changes made in a batch that is still open.
+     * Takes constant time.
+     */
+    public ListenableList<Todo> snapshot() {
+        return internalList.snapshot();
+    }
+
     @Override
     public Iterator<Todo> iterator() {
-        return internalList.iterator();
+        return currentList().iterator();
     }
 
     @Override
@@ -132,11 +260,41 @@ public class UniqueTodoList implements Iterable<Todo> {
         }
 
         UniqueTodoList otherUniqueTodoList = (UniqueTodoList) other;
-        return internalList.equals(otherUniqueTodoList.internalList);
+        return currentList().equals(otherUniqueTodoList.currentList());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return currentList().hashCode();
+    }
+
+    /**
+     * The identity of a todo as defined by {@code Todo#isSameTodo(Todo)}: its name and its lower-cased description.
+     */
+    private static final class IdentityKey {
+        private final TodoName todoName;
+        private final String foldedDescription;
+
+        IdentityKey(Todo todo) {
+            this.todoName = todo.getTodoName();
+            this.foldedDescription = todo.getTodoDescription().toLowerCase();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            IdentityKey otherKey = (IdentityKey) other;
+            return todoName.equals(otherKey.todoName) && foldedDescription.equals(otherKey.foldedDescription);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(todoName, foldedDescription);
+        }
     }
 }
@@ -1,10 +1,37 @@
 package seedu.address.model.todo.exceptions;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.todo.Todo;
+
 /**
  * Signals that the operation will result in duplicate Events.
  */
 public class DuplicateTodoException extends RuntimeException {
+    private final List<Todo> duplicates;
+
     public DuplicateTodoException() {
         super("Operation would result in duplicate todo");
+        duplicates = List.of();
+    }
+
+    /**
+     * Creates an exception reporting the todos in {@code duplicates}, each of which has the same identity as
+     * another todo in the same operation.
+     */
+    public DuplicateTodoException(List<Todo> duplicates) {
+        super("Operation would result in duplicate todo: " + duplicates.stream()
+                .map(Todo::getTodoName)
+                .map(Object::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the todos that collided, or an empty list if they are not known.
+     */
+    public List<Todo> getDuplicates() {
+        return duplicates;
     }
 }
@@ -18,6 +18,7 @@ import seedu.address.model.event.EventName;
 public class JsonAdaptedEvent {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String alias;
     private final String start;
@@ -28,11 +29,13 @@ public class JsonAdaptedEvent {
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
      */
     @JsonCreator
-    public JsonAdaptedEvent(@JsonProperty("name") String name,
+    public JsonAdaptedEvent(@JsonProperty("id") Long id,
+                            @JsonProperty("name") String name,
                             @JsonProperty("alias") String alias,
                             @JsonProperty("start") String start,
                             @JsonProperty("end") String end,
                             @JsonProperty("description") String description) {
+        this.id = id;
         this.name = name;
         this.alias = alias;
         this.start = start;
@@ -44,6 +47,7 @@ public class JsonAdaptedEvent {
      * Converts a given {@code Event} into this class for Jackson use.
      */
     public JsonAdaptedEvent(Event source) {
+        this.id = source.hasId() ? source.getId() : null;
         this.name = source.getName();
         this.alias = source.getAlias();
         this.start = source.getStart().toString();
@@ -53,6 +57,7 @@ public class JsonAdaptedEvent {
 
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * A missing id, as in data saved before ids were introduced, leaves the event to be given one when it is added.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
@@ -89,7 +94,8 @@ public class JsonAdaptedEvent {
         }
 
         try {
-            return new Event(modelName, modelAlias, modelStart, modelEnd, description);
+            Event event = new Event(modelName, modelAlias, modelStart, modelEnd, description);
+            return id == null ? event : event.withId(id);
         } catch (IllegalArgumentException e) {
             throw new IllegalValueException(e.getMessage());
         }
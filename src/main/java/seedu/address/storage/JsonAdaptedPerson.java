@@ -3,13 +3,19 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.event.Event;
 import seedu.address.model.event.EventAlias;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -25,23 +31,32 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedPerson.class);
+
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    private final Long eventId;
+    // Link saved by alias before records were linked by id; only read, to be resolved into the event id
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String eventAlias;
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id,
+                             @JsonProperty("name") String name,
                              @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email,
                              @JsonProperty("address") String address,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags,
+                             @JsonProperty("eventId") Long eventId,
                              @JsonProperty("eventAlias") String eventAlias) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -49,6 +64,7 @@ class JsonAdaptedPerson {
         if (tags != null) {
             this.tags.addAll(tags);
         }
+        this.eventId = eventId;
         this.eventAlias = eventAlias;
     }
 
@@ -56,6 +72,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.hasId() ? source.getId() : null;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -63,15 +80,20 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        eventAlias = source.getEventAlias() == null ? null : source.getEventAlias().toString();
+        eventId = source.hasLinkedEvent() ? source.getLinkedEventId() : null;
+        eventAlias = null;
     }
 
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * A missing id, as in data saved before ids were introduced, leaves the person to be given one when it is added.
+     * A link to an event saved by alias, as in data saved before records were linked by id, is resolved with
+     * {@code findEventByAlias} into the id of the event. Such a link to an event that has since been deleted leaves
+     * the person unlinked, with a warning logged.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
-    public Person toModelType() throws IllegalValueException {
+    public Person toModelType(Function<EventAlias, Optional<Event>> findEventByAlias) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             if (tag == null) {
@@ -114,16 +136,44 @@ class JsonAdaptedPerson {
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
-        EventAlias modelEventAlias = null;
+        if (id != null && id <= 0) {
+            throw new IllegalValueException(Person.MESSAGE_INVALID_ID);
+        }
+
+        Person person = new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        if (id != null) {
+            person = person.withId(id);
+        }
+
+        if (eventId != null) {
+            if (eventId <= 0) {
+                throw new IllegalValueException(Person.MESSAGE_INVALID_EVENT_ID);
+            }
+            return person.withLinkedEvent(eventId);
+        }
         if (eventAlias != null) {
-            try {
-                modelEventAlias = new EventAlias(eventAlias);
-            } catch (IllegalArgumentException e) {
+            if (!EventAlias.isValidAlias(eventAlias)) {
                 throw new IllegalValueException(EventAlias.MESSAGE_CONSTRAINTS);
             }
+            Optional<Event> event = findEventByAlias.apply(new EventAlias(eventAlias));
+            if (event.isEmpty()) {
+                logger.warning("Person " + name + " is linked to missing event " + eventAlias
+                        + ". Loading them unlinked.");
+                return person;
+            }
+            return person.withLinkedEvent(event.get().getId());
         }
+        return person;
+    }
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelEventAlias);
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, with no events to
+     * resolve a link saved by alias against.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType() throws IllegalValueException {
+        return toModelType(alias -> Optional.empty());
     }
 
 }
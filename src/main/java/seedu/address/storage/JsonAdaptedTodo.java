@@ -2,11 +2,18 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 import seedu.address.model.todo.TodoName;
 
@@ -17,21 +24,31 @@ public class JsonAdaptedTodo {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Todo's %s field is missing!";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedTodo.class);
+
+    private final Long id;
     private final String todoName;
     private final String description;
-    private final String contactName; // references Person by unique name
+    private final Long contactId;
+    // Link saved by name before records were linked by id; only read, to be resolved into the contact id
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String contactName;
     private final boolean isCompleted;
 
     /**
      * Constructs a {@code JsonAdaptedTodo} with the given todo details
      */
     @JsonCreator
-    public JsonAdaptedTodo(@JsonProperty("todoName") String todoName,
+    public JsonAdaptedTodo(@JsonProperty("id") Long id,
+                           @JsonProperty("todoName") String todoName,
                            @JsonProperty("description") String description,
+                           @JsonProperty("contactId") Long contactId,
                            @JsonProperty("contactName") String contactName,
                            @JsonProperty("isCompleted") boolean isCompleted) {
+        this.id = id;
         this.todoName = todoName;
         this.description = description;
+        this.contactId = contactId;
         this.contactName = contactName;
         this.isCompleted = isCompleted;
     }
@@ -41,20 +58,24 @@ public class JsonAdaptedTodo {
      */
     public JsonAdaptedTodo(Todo source) {
         requireNonNull(source);
+        this.id = source.hasId() ? source.getId() : null;
         this.todoName = source.getTodoName().toString();
         this.description = source.getTodoDescription();
-        this.contactName = source.getContactName() == null
-                ? null
-                : source.getContactName().fullName;
+        this.contactId = source.hasContact() ? source.getContactId() : null;
+        this.contactName = null;
         this.isCompleted = source.getIsCompleted();
     }
 
     /**
      * Converts this Jackson-friendly adapted todo object into the model's {@code Todo} object.
+     * A missing id, as in data saved before ids were introduced, leaves the todo to be given one when it is added.
+     * A link to a contact saved by name, as in data saved before records were linked by id, is resolved with
+     * {@code findPersonByName} into the id of the person. Such a link to a person who has since been deleted leaves
+     * the todo unlinked, with a warning logged, since data saved then could keep links to deleted persons.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted todo.
      */
-    public Todo toModelType() throws IllegalValueException {
+    public Todo toModelType(Function<Name, Optional<Person>> findPersonByName) throws IllegalValueException {
         if (todoName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "todoName"));
         }
@@ -66,17 +87,43 @@ public class JsonAdaptedTodo {
         }
         TodoName modelTodoName = new TodoName(todoName);
 
-        final Name modelContactName;
-        if (contactName == null) {
-            modelContactName = null;
-        } else {
-            try {
-                modelContactName = new Name(contactName);
-            } catch (IllegalArgumentException ex) {
-                throw new IllegalValueException(ex.getMessage());
+        if (id != null && id <= 0) {
+            throw new IllegalValueException(Todo.MESSAGE_INVALID_ID);
+        }
+
+        Todo todo = new Todo(modelTodoName, description, isCompleted);
+        if (id != null) {
+            todo = todo.withId(id);
+        }
+
+        if (contactId != null) {
+            if (contactId <= 0) {
+                throw new IllegalValueException(Todo.MESSAGE_INVALID_CONTACT_ID);
+            }
+            return todo.withContact(contactId);
+        }
+        if (contactName != null) {
+            if (!Name.isValidName(contactName)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            Optional<Person> contact = findPersonByName.apply(new Name(contactName));
+            if (contact.isEmpty()) {
+                logger.warning("Todo " + todoName + " is linked to missing contact " + contactName
+                        + ". Loading it unlinked.");
+                return todo;
             }
+            return todo.withContact(contact.get().getId());
         }
+        return todo;
+    }
 
-        return new Todo(modelTodoName, description, modelContactName, isCompleted);
+    /**
+     * Converts this Jackson-friendly adapted todo object into the model's {@code Todo} object, with no persons to
+     * resolve a link saved by name against.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted todo.
+     */
+    public Todo toModelType() throws IllegalValueException {
+        return toModelType(name -> Optional.empty());
     }
 }
@@ -2,18 +2,23 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.todo.Todo;
+import seedu.address.model.todo.exceptions.DuplicateTodoException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -26,6 +31,8 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_TODO = "Todos list contains duplicate todo(s).";
     public static final String MESSAGE_INVALID_DATA = "Data provided is invalid.";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableAddressBook.class);
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
     private final List<JsonAdaptedTodo> todos = new ArrayList<>();
@@ -61,42 +68,60 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Records link to each other by id, so the events are added before the persons linking to them, and the persons
+     * before the todos linking to them, for each link to be checked, or resolved if it was saved by alias or name.
+     * A link to a missing record is dropped, with a warning logged, rather than failing the whole load, since data
+     * saved before records were linked by id could keep links to deleted records.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            if (jsonAdaptedPerson == null) {
-                throw new IllegalValueException(MESSAGE_INVALID_DATA);
-            }
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        try {
+            List<Event> modelEvents = new ArrayList<>();
+            for (JsonAdaptedEvent jsonAdaptedEvent : events) {
+                if (jsonAdaptedEvent == null) {
+                    throw new IllegalValueException(MESSAGE_INVALID_DATA);
+                }
+                modelEvents.add(jsonAdaptedEvent.toModelType());
             }
-            addressBook.addPerson(person);
-        }
+            addressBook.setEvents(modelEvents);
 
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            if (jsonAdaptedEvent == null) {
-                throw new IllegalValueException(MESSAGE_INVALID_DATA);
+            List<Person> modelPersons = new ArrayList<>();
+            for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+                if (jsonAdaptedPerson == null) {
+                    throw new IllegalValueException(MESSAGE_INVALID_DATA);
+                }
+                Person person = jsonAdaptedPerson.toModelType(addressBook::findEventByAlias);
+                if (person.hasLinkedEvent() && addressBook.findEventById(person.getLinkedEventId()).isEmpty()) {
+                    logger.warning("Person " + person.getName() + " is linked to missing event "
+                            + person.getLinkedEventId() + ". Loading them unlinked.");
+                    person = person.withoutLinkedEvent();
+                }
+                modelPersons.add(person);
             }
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            addressBook.addEvent(event);
-        }
+            addressBook.setPersons(modelPersons);
 
-        for (JsonAdaptedTodo jsonAdaptedTodo : todos) {
-            if (jsonAdaptedTodo == null) {
-                throw new IllegalValueException(MESSAGE_INVALID_DATA);
-            }
-            Todo todo = jsonAdaptedTodo.toModelType();
-            if (addressBook.hasTodo(todo)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TODO);
+            List<Todo> modelTodos = new ArrayList<>();
+            for (JsonAdaptedTodo jsonAdaptedTodo : todos) {
+                if (jsonAdaptedTodo == null) {
+                    throw new IllegalValueException(MESSAGE_INVALID_DATA);
+                }
+                Todo todo = jsonAdaptedTodo.toModelType(addressBook::findPersonByName);
+                if (todo.hasContact() && addressBook.findPersonById(todo.getContactId()).isEmpty()) {
+                    logger.warning("Todo " + todo.getTodoName() + " is linked to missing contact "
+                            + todo.getContactId() + ". Loading it unlinked.");
+                    todo = todo.withoutContact();
+                }
+                modelTodos.add(todo);
             }
-            addressBook.addTodo(todo);
+            addressBook.setTodos(modelTodos);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        } catch (DuplicateEventException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        } catch (DuplicateTodoException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TODO);
         }
         return addressBook;
     }
@@ -1,7 +1,14 @@
 package seedu.address.ui;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
+
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
@@ -10,25 +17,34 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * While an event alias is being typed after {@code ea/}, the aliases of existing events starting with it are
+ * suggested in a menu below the box.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final int MAX_ALIAS_SUGGESTIONS = 8;
 
     private final CommandExecutor commandExecutor;
+    private final AliasSuggester aliasSuggester;
+    private final ContextMenu aliasSuggestions = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code AliasSuggester}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, AliasSuggester aliasSuggester) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.aliasSuggester = aliasSuggester;
+        // calls #setStyleToDefault() and #suggestAliases() whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, text) -> {
+            setStyleToDefault();
+            suggestAliases(text);
+        });
     }
 
     /**
@@ -49,6 +65,40 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Suggests the aliases starting with the alias being typed at the end of {@code text}, if any.
+     * Choosing a suggestion completes the alias.
+     */
+    private void suggestAliases(String text) {
+        int wordStart = Math.max(text.lastIndexOf(' '), text.lastIndexOf('\t')) + 1;
+        String word = text.substring(wordStart);
+        String aliasPrefix = PREFIX_EVENT_ALIAS.getPrefix();
+        if (!word.startsWith(aliasPrefix)) {
+            aliasSuggestions.hide();
+            return;
+        }
+
+        String typedAlias = word.substring(aliasPrefix.length());
+        List<String> aliases = aliasSuggester.suggestEventAliases(typedAlias, MAX_ALIAS_SUGGESTIONS);
+        if (aliases.isEmpty() || aliases.size() == 1 && aliases.get(0).equalsIgnoreCase(typedAlias)) {
+            aliasSuggestions.hide();
+            return;
+        }
+
+        aliasSuggestions.getItems().clear();
+        for (String alias : aliases) {
+            MenuItem item = new MenuItem(alias);
+            item.setOnAction(unused -> {
+                commandTextField.setText(text.substring(0, wordStart) + aliasPrefix + alias);
+                commandTextField.positionCaret(commandTextField.getText().length());
+            });
+            aliasSuggestions.getItems().add(item);
+        }
+        if (!aliasSuggestions.isShowing()) {
+            aliasSuggestions.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +132,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests the aliases of existing events.
+     */
+    @FunctionalInterface
+    public interface AliasSuggester {
+        /**
+         * Returns up to {@code limit} aliases starting with {@code prefix}.
+         *
+         * @see seedu.address.logic.Logic#suggestEventAliases(String, int)
+         */
+        List<String> suggestEventAliases(String prefix, int limit);
+    }
+
 }
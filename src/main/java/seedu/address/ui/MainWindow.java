@@ -120,13 +120,14 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(new ObservableListAdapter<>(logic.getFilteredPersonList()),
+                logic::findLinkedEvent);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        eventListPanel = new EventListPanel(logic.getFilteredEventList());
+        eventListPanel = new EventListPanel(new ObservableListAdapter<>(logic.getFilteredEventList()));
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
-        todoListPanel = new TodoListPanel(logic.getFilteredTodoList());
+        todoListPanel = new TodoListPanel(new ObservableListAdapter<>(logic.getFilteredTodoList()), logic::findContact);
         todoListPanelPlaceholder.getChildren().add(todoListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -135,7 +136,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::suggestEventAliases);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -193,6 +194,9 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            // cards show the linked records by their current names, which a command may have changed
+            personListPanel.refresh();
+            todoListPanel.refresh();
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
@@ -0,0 +1,49 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.list.ListObserver;
+import seedu.address.commons.core.list.ListenableList;
+
+/**
+ * Exposes a model {@code ListenableList} as an unmodifiable JavaFX {@code ObservableList}, so that it can back a
+ * {@code ListView}. The adapter holds no copy of the elements; it reads through to the model list and forwards each
+ * of its changes as a single JavaFX change.
+ */
+public class ObservableListAdapter<T> extends ObservableListBase<T> implements ListObserver<T> {
+
+    private final ListenableList<T> source;
+
+    /**
+     * Creates an adapter over {@code source}, which must only be changed on the JavaFX application thread.
+     */
+    public ObservableListAdapter(ListenableList<T> source) {
+        this.source = requireNonNull(source);
+        source.addListener(this);
+    }
+
+    @Override
+    public T get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public void onChanged(int from, List<? extends T> removed, List<? extends T> added) {
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(from, removed);
+        }
+        if (!added.isEmpty()) {
+            nextAdd(from, from + added.size());
+        }
+        endChange();
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.Optional;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 
 /**
@@ -44,22 +46,22 @@ public class PersonCard extends UiPart<Region> {
     private FlowPane tags;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCode} with the given {@code Person} and index to display, and the event it is linked to.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard(Person person, int displayedIndex, Optional<Event> linkedEvent) {
         super(FXML);
         this.person = person;
-        id.setText(displayedIndex + ". ");
+        id.setText(displayedIndex + ". (#" + person.getId() + ") ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
 
-        if (person.getEventAlias() == null) {
+        if (linkedEvent.isEmpty()) {
             eventAlias.setVisible(false);
             eventAlias.setManaged(false);
         } else {
-            eventAlias.setText(person.getEventAlias().value);
+            eventAlias.setText(linkedEvent.get().getEventAlias().value);
             eventAlias.setVisible(true);
             eventAlias.setManaged(true);
         }
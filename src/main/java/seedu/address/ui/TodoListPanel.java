@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -8,6 +10,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 
 /**
@@ -20,11 +23,15 @@ public class TodoListPanel extends UiPart<Region> {
     @FXML
     private ListView<Todo> todoListView;
 
+    private final Function<Todo, Optional<Person>> findContact;
+
     /**
-     * Creates a {@code TodoListPanel} with the given {@code ObservableList}.
+     * Creates a {@code TodoListPanel} with the given {@code ObservableList}, showing each todo with the contact
+     * {@code findContact} finds for it.
      */
-    public TodoListPanel(ObservableList<Todo> todoList) {
+    public TodoListPanel(ObservableList<Todo> todoList, Function<Todo, Optional<Person>> findContact) {
         super(FXML);
+        this.findContact = findContact;
         todoListView.setItems(todoList);
         todoListView.setCellFactory(listView -> new TodoListViewCell());
     }
@@ -41,9 +48,16 @@ public class TodoListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TodoCard(todo, getIndex() + 1).getRoot());
+                setGraphic(new TodoCard(todo, getIndex() + 1, findContact.apply(todo)).getRoot());
                 getStyleClass().add("todo-card");
             }
         }
     }
+
+    /**
+     * Redraws every shown todo, so that each shows the current name of its contact, which the todo only links to.
+     */
+    public void refresh() {
+        todoListView.refresh();
+    }
 }
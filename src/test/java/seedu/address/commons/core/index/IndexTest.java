@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongFunction;
+
 import org.junit.jupiter.api.Test;
 
 public class IndexTest {
@@ -37,6 +41,32 @@ public class IndexTest {
         assertEquals(6, Index.fromZeroBased(5).getOneBased());
     }
 
+    @Test
+    public void createId() {
+        // invalid id
+        assertThrows(IndexOutOfBoundsException.class, () -> Index.fromId(0));
+
+        assertTrue(Index.fromId(7).isId());
+        assertEquals(7, Index.fromId(7).getId());
+        assertFalse(Index.fromOneBased(7).isId());
+    }
+
+    @Test
+    public void resolve() {
+        List<String> shownList = List.of("a", "b");
+        LongFunction<Optional<String>> findById = id -> id == 9 ? Optional.of("z") : Optional.empty();
+
+        // position within the shown list
+        assertEquals(Optional.of("b"), Index.fromOneBased(2).resolve(shownList, findById));
+
+        // position past the end of the shown list
+        assertEquals(Optional.empty(), Index.fromOneBased(3).resolve(shownList, findById));
+
+        // id, regardless of the shown list
+        assertEquals(Optional.of("z"), Index.fromId(9).resolve(shownList, findById));
+        assertEquals(Optional.empty(), Index.fromId(1).resolve(shownList, findById));
+    }
+
     @Test
     public void equals() {
         final Index fifthPersonIndex = Index.fromOneBased(5);
@@ -56,6 +86,13 @@ public class IndexTest {
 
         // different index -> returns false
         assertFalse(fifthPersonIndex.equals(Index.fromOneBased(1)));
+
+        // id with the same number -> returns false
+        assertFalse(fifthPersonIndex.equals(Index.fromId(5)));
+        assertFalse(Index.fromId(1).equals(Index.fromZeroBased(0)));
+
+        // same id -> returns true
+        assertTrue(Index.fromId(5).equals(Index.fromId(5)));
     }
 
     @Test
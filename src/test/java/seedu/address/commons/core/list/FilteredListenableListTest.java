@@ -0,0 +1,158 @@
+package seedu.address.commons.core.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class FilteredListenableListTest {
+
+    private final ListenableTreeList<Integer> source = new ListenableTreeList<>(List.of(1, 2, 3, 4, 5, 6));
+    private final FilteredListenableList<Integer> evens = new FilteredListenableList<>(source);
+    private final List<String> changes = new ArrayList<>();
+
+    {
+        evens.setPredicate(n -> n % 2 == 0);
+        evens.addListener((from, removed, added) -> changes.add(from + ":" + removed + "->" + added));
+    }
+
+    @Test
+    public void constructor_noPredicate_showsAllElements() {
+        assertEquals(source, new FilteredListenableList<>(source));
+    }
+
+    @Test
+    public void setPredicate_notifiesWholeViewReplaced() {
+        evens.setPredicate(n -> n > 4);
+        assertEquals(List.of(5, 6), evens);
+        assertEquals(List.of("0:[2, 4, 6]->[5, 6]"), changes);
+    }
+
+    @Test
+    public void setPredicate_equalPredicate_viewKeptWithoutChanges() {
+        Predicate<Integer> isOdd = n -> n % 2 == 1;
+        evens.setPredicate(isOdd);
+        source.set(0, 7);
+        changes.clear();
+
+        evens.setPredicate(isOdd);
+        assertEquals(List.of(7, 3, 5), evens);
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void setPredicate_equalImpurePredicate_throwsAssertionError() {
+        Set<Integer> matches = new HashSet<>(List.of(2, 4));
+        Predicate<Integer> isMatch = matches::contains;
+        evens.setPredicate(isMatch);
+        matches.add(3);
+
+        // the view no longer holds the matches of the predicate, which depends on more than the element it tests
+        assertThrows(AssertionError.class, () -> evens.setPredicate(isMatch));
+    }
+
+    @Test
+    public void setPredicateWithMatchPositions_showsPositionsWithoutTesting() {
+        List<Integer> tested = new ArrayList<>();
+        evens.setPredicate(n -> {
+            tested.add(n);
+            return n > 4;
+        }, new int[] {4, 5});
+        assertEquals(List.of(5, 6), evens);
+        assertEquals(List.of(), tested);
+        assertEquals(List.of("0:[2, 4, 6]->[5, 6]"), changes);
+
+        // later changes to the source are followed as usual
+        source.add(7);
+        assertEquals(List.of(5, 6, 7), evens);
+    }
+
+    @Test
+    public void getMatchPositions_returnsSourcePositionsOfMatches() {
+        assertEquals(List.of(1, 3, 5), Arrays.stream(evens.getMatchPositions()).boxed().toList());
+        source.remove(0);
+        assertEquals(List.of(0, 2, 4), Arrays.stream(evens.getMatchPositions()).boxed().toList());
+    }
+
+    @Test
+    public void setPredicate_null_showsAllElements() {
+        evens.setPredicate(null);
+        assertEquals(source, evens);
+    }
+
+    @Test
+    public void sourceAdd_matchingElement_insertedInSourceOrder() {
+        source.add(1, 8);
+        assertEquals(List.of(8, 2, 4, 6), evens);
+        assertEquals(List.of("0:[]->[8]"), changes);
+    }
+
+    @Test
+    public void sourceAdd_nonMatchingElement_viewUnchanged() {
+        source.add(0, 7);
+        source.add(9);
+        assertEquals(List.of(2, 4, 6), evens);
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void sourceRemove_shiftsLaterMatches() {
+        source.remove(1);
+        assertEquals(List.of(4, 6), evens);
+        source.remove(0);
+        source.add(1, 10);
+        assertEquals(List.of(10, 4, 6), evens);
+        assertEquals(List.of("0:[2]->[]", "0:[]->[10]"), changes);
+    }
+
+    @Test
+    public void sourceSet_matchChangesToNonMatch_removedFromView() {
+        source.set(3, 7);
+        assertEquals(List.of(2, 6), evens);
+        source.set(0, 0);
+        assertEquals(List.of(0, 2, 6), evens);
+        assertEquals(List.of("1:[4]->[]", "0:[]->[0]"), changes);
+    }
+
+    @Test
+    public void sourceSetAll_viewRefiltered() {
+        source.setAll(List.of(10, 11, 12));
+        assertEquals(List.of(10, 12), evens);
+        assertEquals(List.of("0:[2, 4, 6]->[10, 12]"), changes);
+    }
+
+    @Test
+    public void sourceSetAll_editedCopy_onlyChangedElementsTested() {
+        List<Integer> tested = new ArrayList<>();
+        evens.setPredicate(n -> {
+            tested.add(n);
+            return n % 2 == 0;
+        });
+        tested.clear();
+        changes.clear();
+
+        List<Integer> copy = new ArrayList<>(source);
+        copy.set(2, 8);
+        source.setAll(copy);
+        assertEquals(List.of(2, 8, 4, 6), evens);
+        assertEquals(List.of(8), tested);
+        assertEquals(List.of("1:[]->[8]"), changes);
+    }
+
+    @Test
+    public void get_outOfRange_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> evens.get(3));
+    }
+
+    @Test
+    public void remove_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> evens.remove(0));
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.commons.core.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ListenableTreeListTest {
+
+    private final ListenableTreeList<String> list = new ListenableTreeList<>(List.of("a", "b", "c"));
+    private final List<String> changes = new ArrayList<>();
+
+    private void recordChanges(ListenableList<String> observed) {
+        observed.addListener((from, removed, added) -> changes.add(from + ":" + removed + "->" + added));
+    }
+
+    @Test
+    public void mutators_notifyObserversOncePerChange() {
+        recordChanges(list);
+
+        list.add("d");
+        list.set(0, "z");
+        list.remove(1);
+        list.setAll(List.of("x", "y"));
+        list.clear();
+
+        assertEquals(List.of("3:[]->[d]", "0:[a]->[z]", "1:[b]->[]", "0:[z, c, d]->[x, y]", "0:[x, y]->[]"), changes);
+        assertEquals(List.of(), list);
+    }
+
+    @Test
+    public void setAll_emptyToEmpty_notifiesNothing() {
+        ListenableTreeList<String> empty = new ListenableTreeList<>();
+        recordChanges(empty);
+        empty.setAll(List.of());
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void setAll_editedCopy_notifiesOnlyChangedRange() {
+        list.add("d");
+        recordChanges(list);
+        List<String> copy = new ArrayList<>(list);
+        copy.set(1, "x");
+        copy.remove(2);
+        list.setAll(copy);
+        list.setAll(new ArrayList<>(list));
+
+        assertEquals(List.of("a", "x", "d"), list);
+        assertEquals(List.of("1:[b, c]->[x]"), changes);
+    }
+
+    @Test
+    public void commitBatch_publishesOnlyChangedRangeOnce() {
+        list.addAll(List.of("d", "e", "f"));
+        recordChanges(list);
+
+        list.beginBatch();
+        list.set(2, "x");
+        list.beginBatch();
+        list.remove(3);
+        list.add(1, "y");
+        list.commitBatch();
+        assertEquals(List.of("a", "b", "c", "d", "e", "f"), list);
+        assertEquals(List.of("a", "y", "b", "x", "e", "f"), list.latest());
+        assertEquals(List.of(), changes);
+
+        assertTrue(list.commitBatch());
+        assertEquals(List.of("a", "y", "b", "x", "e", "f"), list);
+        assertEquals(List.of("1:[b, c, d]->[y, b, x]"), changes);
+    }
+
+    @Test
+    public void commitBatch_noChanges_returnsFalse() {
+        recordChanges(list);
+        list.beginBatch();
+        list.add(1, "x");
+        list.remove(1);
+        assertFalse(list.commitBatch());
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void indexOfSame_manyInsertionsAtOnePosition_findsEveryElement() {
+        // enough insertions between the same two elements to run out of keys between them
+        List<String> expected = new ArrayList<>(list);
+        for (int i = 0; i < 100; i++) {
+            String element = new String("x" + i);
+            list.add(1, element);
+            expected.add(1, element);
+        }
+        list.remove(50);
+        expected.remove(50);
+
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, list.indexOfSame(expected.get(i)));
+        }
+        assertEquals(-1, list.indexOfSame(new String("a")));
+    }
+
+    @Test
+    public void indexOfSame_openBatch_findsUpToDatePosition() {
+        list.beginBatch();
+        list.add(0, "z");
+        assertEquals(1, list.indexOfSame("a"));
+        assertEquals(0, list.indexOf("a"));
+        list.commitBatch();
+        assertEquals(1, list.indexOf("a"));
+    }
+
+    @Test
+    public void indexOfShown_openBatch_findsShownPosition() {
+        list.beginBatch();
+        list.add(0, "z");
+        assertEquals(0, list.indexOfShown("a"));
+        assertEquals(-1, list.indexOfShown("z"));
+        list.commitBatch();
+        assertEquals(1, list.indexOfShown("a"));
+        assertEquals(0, list.indexOfShown("z"));
+    }
+
+    @Test
+    public void removeListener_observerNoLongerNotified() {
+        ListObserver<String> observer = (from, removed, added) -> changes.add("changed");
+        list.addListener(observer);
+        list.removeListener(observer);
+        list.add("d");
+        assertEquals(List.of(), changes);
+    }
+
+    @Test
+    public void unmodifiableView_forwardsChangesAndRejectsModification() {
+        ListenableList<String> view = new UnmodifiableListenableList<>(list);
+        recordChanges(view);
+
+        list.add("d");
+
+        assertEquals(List.of("a", "b", "c", "d"), view);
+        assertEquals(List.of("3:[]->[d]"), changes);
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.add("e"));
+    }
+
+    @Test
+    public void iteratorRemove_notifiesObservers() {
+        recordChanges(list);
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals("c", iterator.next());
+        assertEquals(List.of("a", "c"), list);
+        assertEquals(List.of("1:[b]->[]"), changes);
+    }
+
+    @Test
+    public void snapshot_laterChanges_notReflected() {
+        ListenableList<String> snapshot = list.snapshot();
+        recordChanges(snapshot);
+
+        list.set(0, "z");
+        list.add("d");
+        ListenableList<String> secondSnapshot = list.snapshot();
+        list.remove(0);
+        list.setAll(List.of("x"));
+
+        assertEquals(List.of("a", "b", "c"), snapshot);
+        assertEquals(List.of("z", "b", "c", "d"), secondSnapshot);
+        assertEquals(List.of("x"), list);
+        assertEquals(List.of(), changes);
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add("e"));
+    }
+}
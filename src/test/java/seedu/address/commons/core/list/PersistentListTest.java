@@ -0,0 +1,76 @@
+package seedu.address.commons.core.list;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertSame(list, PersistentList.copyOf(list));
+        assertEquals(List.of("a", "b"), list);
+    }
+
+    @Test
+    public void modifiedCopies_leaveOriginalUnchanged() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "z", "c"), list.withSet(1, "z"));
+        assertEquals(List.of("a", "b", "z", "c"), list.withAdded(2, "z"));
+        assertEquals(List.of("a", "b", "c", "z"), list.withAdded(3, "z"));
+        assertEquals(List.of("b", "c"), list.withRemoved(0));
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void outOfRangeIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withSet(-1, "z"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withAdded(2, "z"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().withRemoved(0));
+    }
+
+    @Test
+    public void randomModifications_agreeWithArrayList() {
+        Random random = new Random(13);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int choice = random.nextInt(4);
+            if (expected.isEmpty() || choice < 2) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.withAdded(index, i);
+            } else if (choice == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.withRemoved(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                list = list.withSet(index, -i);
+            }
+            if (i % 100 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.get(expected.size() / 2), list.get(expected.size() / 2));
+        // earlier versions are unaffected by the modifications made after them
+        assertEquals(expectedVersions, versions);
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.commons.core.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LongHashMapTest {
+
+    private final LongHashMap<String> map = new LongHashMap<>();
+
+    @Test
+    public void put_newAndExistingKeys_returnsPreviousValue() {
+        assertNull(map.put(1, "a"));
+        assertNull(map.put(-1, "b"));
+        assertEquals("a", map.put(1, "c"));
+
+        assertEquals(2, map.size());
+        assertEquals("c", map.get(1));
+        assertEquals("b", map.get(-1));
+        assertNull(map.get(2));
+    }
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    public void remove_keyInMap_removesOnlyThatKey() {
+        map.put(1, "a");
+        map.put(2, "b");
+
+        assertEquals("a", map.remove(1));
+        assertNull(map.remove(1));
+        assertFalse(map.containsKey(1));
+        assertTrue(map.containsKey(2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void computeIfAbsent_keyInMap_keepsValue() {
+        map.put(1, "a");
+        assertEquals("a", map.computeIfAbsent(1, key -> "b"));
+        assertEquals("2", map.computeIfAbsent(2, Long::toString));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void putAll_otherMap_copiesEveryMapping() {
+        LongHashMap<String> other = new LongHashMap<>();
+        other.put(1, "a");
+        other.put(2, "b");
+        map.put(1, "c");
+
+        map.putAll(other);
+        assertEquals(2, map.size());
+        assertEquals("a", map.get(1));
+        assertEquals("b", map.get(2));
+    }
+
+    @Test
+    public void clear_nonEmptyMap_removesEveryMapping() {
+        map.put(1, "a");
+        map.put(2, "b");
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1));
+        assertNull(map.get(2));
+    }
+
+    @Test
+    public void mutators_randomOperations_matchHashMap() {
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 20000; i++) {
+            // few distinct keys, so that removals often free slots in the middle of probe sequences
+            long key = random.nextInt(300) * 1024L;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (long key = 0; key < 300 * 1024L; key += 1024) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    public void ensureCapacity_nonEmptyMap_keepsEveryMapping() {
+        map.put(1, "a");
+        map.put(-1, "b");
+        map.ensureCapacity(1000);
+
+        assertEquals(2, map.size());
+        assertEquals("a", map.get(1));
+        assertEquals("b", map.get(-1));
+    }
+}
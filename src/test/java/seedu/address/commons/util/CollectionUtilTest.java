@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
@@ -73,6 +74,21 @@ public class CollectionUtilTest {
         assertNullPointerExceptionNotThrown(Arrays.asList(containingNull, new Object()));
     }
 
+    @Test
+    public void findDuplicates() {
+        // null -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(null, String::length));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(List.of("a"), null));
+
+        // no duplicates -> empty list
+        assertEquals(List.of(), CollectionUtil.findDuplicates(List.<String>of(), String::toLowerCase));
+        assertEquals(List.of(), CollectionUtil.findDuplicates(List.of("a", "b", "c"), String::toLowerCase));
+
+        // duplicates -> every later element that collides, in encounter order
+        assertEquals(List.of("A", "B", "b", "a"),
+                CollectionUtil.findDuplicates(Arrays.asList("a", "b", "A", "B", "b", "a"), String::toLowerCase));
+    }
+
     @Test
     public void isAnyNonNull() {
         assertFalse(CollectionUtil.isAnyNonNull());
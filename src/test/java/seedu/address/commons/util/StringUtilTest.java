@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -169,6 +170,38 @@ public class StringUtilTest {
         assertTrue(StringUtil.startsWithIgnoreCase("ccc", "  ccc  ")); // Leading/trailing spaces
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+        assertEquals(1, StringUtil.editDistance("alice", "alic")); // deletion
+        assertEquals(1, StringUtil.editDistance("alice", "aliace")); // insertion
+        assertEquals(1, StringUtil.editDistance("alice", "alive")); // substitution
+        assertEquals(2, StringUtil.editDistance("alice", "alcie")); // transposition
+        assertEquals(1, StringUtil.editDistance("alice", "Alice")); // case-sensitive
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+    }
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void isWithinEditDistance() {
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alice", 0));
+        assertTrue(StringUtil.isWithinEditDistance("alice", "alcie", 2));
+        assertFalse(StringUtil.isWithinEditDistance("alice", "alcie", 1));
+        assertTrue(StringUtil.isWithinEditDistance("kitten", "sitting", 3));
+        assertFalse(StringUtil.isWithinEditDistance("kitten", "sitting", 2));
+        assertFalse(StringUtil.isWithinEditDistance("ab", "abcd", 1)); // lengths too far apart
+        assertTrue(StringUtil.isWithinEditDistance("", "ab", 2));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -82,6 +84,18 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void suggestEventAliases_matchingEvents_returnsAliasesInOrderUpToLimit() {
+        model.addEvent(new EventBuilder().withAlias("TSC2025").build());
+        model.addEvent(new EventBuilder().withAlias("MEET24").build());
+        model.addEvent(new EventBuilder().withAlias("tsc2024").build());
+        model.addEvent(new EventBuilder().withAlias("TSD").build());
+
+        assertEquals(List.of("tsc2024", "TSC2025"), logic.suggestEventAliases("Tsc", 5));
+        assertEquals(List.of("tsc2024"), logic.suggestEventAliases("ts", 1));
+        assertEquals(List.of(), logic.suggestEventAliases("x", 5));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
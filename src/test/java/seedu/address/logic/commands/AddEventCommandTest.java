@@ -6,8 +6,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +41,22 @@ public class AddEventCommandTest {
         assertEquals(Arrays.asList(validEvent), modelStub.eventsAdded);
     }
 
+    @Test
+    public void execute_overlappingEvent_addSuccessfulWithWarning() throws Exception {
+        ModelStubAcceptingEventAdded modelStub = new ModelStubAcceptingEventAdded();
+        Event concert = new EventBuilder().withAlias("Taylor-Swift").build();
+        Event afterParty = new EventBuilder().withAlias("After-Party").withStart(concert.getEnd().minusMinutes(30))
+                .withEnd(concert.getEnd().plusHours(2)).build();
+        new AddEventCommand(concert).execute(modelStub);
+
+        CommandResult commandResult = new AddEventCommand(afterParty).execute(modelStub);
+
+        assertEquals(String.format(AddEventCommand.MESSAGE_SUCCESS, Messages.format(afterParty))
+                + "\n" + String.format(Messages.MESSAGE_EVENT_CLASHES, "Taylor-Swift"),
+                commandResult.getFeedbackToUser());
+        assertEquals(Arrays.asList(concert, afterParty), modelStub.eventsAdded);
+    }
+
     @Test
     public void execute_duplicateEvent_throwsCommandException() {
         Event validEvent = new EventBuilder().build();
@@ -99,6 +118,13 @@ public class AddEventCommandTest {
             return eventsAdded.stream().anyMatch(event::isSameEvent);
         }
 
+        @Override
+        public List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+            return eventsAdded.stream()
+                    .filter(event -> event.getStart().isBefore(to) && event.getEnd().isAfter(from))
+                    .collect(Collectors.toList());
+        }
+
         @Override
         public void addEvent(Event event) {
             requireNonNull(event);
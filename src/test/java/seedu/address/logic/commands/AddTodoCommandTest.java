@@ -8,14 +8,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.util.ArrayList;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.todo.Todo;
 import seedu.address.testutil.ModelStub;
@@ -28,7 +30,7 @@ public class AddTodoCommandTest {
 
     @Test
     public void constructor_nullTodo_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new AddTodoCommand(null));
+        assertThrows(NullPointerException.class, () -> new AddTodoCommand(null, null));
     }
 
     @Test
@@ -36,36 +38,24 @@ public class AddTodoCommandTest {
         ModelStubAcceptingTodoAdded modelStub = new ModelStubAcceptingTodoAdded(ALICE);
 
         Todo validTodo = new TodoBuilder().build();
-        CommandResult commandResult = new AddTodoCommand(validTodo).execute(modelStub);
-
-        // When a contact is found, a new Todo with the actual contact name is created
-        Todo expectedTodo = new Todo(
-                validTodo.getTodoName(),
-                validTodo.getTodoDescription(),
-                ALICE.getName(),
-                validTodo.getIsCompleted()
-        );
-        assertEquals(String.format(AddTodoCommand.MESSAGE_SUCCESS, Messages.format(expectedTodo)),
+        CommandResult commandResult = new AddTodoCommand(validTodo, null).execute(modelStub);
+
+        assertEquals(String.format(AddTodoCommand.MESSAGE_SUCCESS, Messages.format(validTodo, Optional.empty())),
                 commandResult.getFeedbackToUser());
         assertEquals(1, modelStub.todosAdded.size());
-        assertEquals(expectedTodo, modelStub.todosAdded.get(0));
+        assertEquals(validTodo, modelStub.todosAdded.get(0));
     }
 
     @Test
     public void execute_todoWithExistingContact_addSuccessful() throws Exception {
         ModelStubAcceptingTodoAdded modelStub = new ModelStubAcceptingTodoAdded(ALICE);
-        Todo validTodoWithContact = new TodoBuilder().withContactName(ALICE.getName().toString()).build();
-
-        CommandResult result = new AddTodoCommand(validTodoWithContact).execute(modelStub);
-
-        // When a contact is found, a new Todo with the actual contact name is created
-        Todo expectedTodo = new Todo(
-                validTodoWithContact.getTodoName(),
-                validTodoWithContact.getTodoDescription(),
-                ALICE.getName(),
-                validTodoWithContact.getIsCompleted()
-        );
-        assertEquals(String.format(AddTodoCommand.MESSAGE_SUCCESS, Messages.format(expectedTodo)),
+        Todo validTodo = new TodoBuilder().build();
+
+        CommandResult result = new AddTodoCommand(validTodo, new Name("alice pauline")).execute(modelStub);
+
+        // the todo is linked to the contact found by name, by the contact's id
+        Todo expectedTodo = validTodo.withContact(ALICE.getId());
+        assertEquals(String.format(AddTodoCommand.MESSAGE_SUCCESS, Messages.format(expectedTodo, Optional.of(ALICE))),
                 result.getFeedbackToUser());
         assertEquals(1, modelStub.todosAdded.size());
         assertEquals(expectedTodo, modelStub.todosAdded.get(0));
@@ -74,7 +64,7 @@ public class AddTodoCommandTest {
     @Test
     public void execute_duplicateTodo_throwsCommandException() {
         Todo validTodo = new TodoBuilder().build();
-        AddTodoCommand addTodoCommand = new AddTodoCommand(validTodo);
+        AddTodoCommand addTodoCommand = new AddTodoCommand(validTodo, null);
         ModelStub modelStub = new ModelStubWithTodo(validTodo);
 
         assertThrows(CommandException.class,
@@ -84,18 +74,19 @@ public class AddTodoCommandTest {
     @Test
     public void execute_contactNameProvidedButNotFound_throwsCommandException() {
         ModelStubAcceptingTodoAdded modelStub = new ModelStubAcceptingTodoAdded();
-        Todo todoWithMissingContact = new TodoBuilder().withContactName("N").build();
+        Todo todo = new TodoBuilder().build();
 
         assertThrows(CommandException.class,
-                "Contact not found: N", () -> new AddTodoCommand(todoWithMissingContact)
+                "Contact not found: N", () -> new AddTodoCommand(todo, new Name("N"))
                         .execute(modelStub));
     }
 
     @Test
     public void toStringMethod() {
         Todo todo = new TodoBuilder().build();
-        AddTodoCommand cmd = new AddTodoCommand(todo);
-        String expected = AddTodoCommand.class.getCanonicalName() + "{toAdd=" + todo + "}";
+        AddTodoCommand cmd = new AddTodoCommand(todo, new Name("Alice Pauline"));
+        String expected = AddTodoCommand.class.getCanonicalName() + "{toAdd=" + todo
+                + ", contactName=Alice Pauline}";
         assertEquals(expected, cmd.toString());
     }
 
@@ -104,14 +95,14 @@ public class AddTodoCommandTest {
         Todo first = new TodoBuilder().withTodoName("Call TSC2025").build();
         Todo second = new TodoBuilder().withTodoName("Draft email").build();
 
-        AddTodoCommand addFirst = new AddTodoCommand(first);
-        AddTodoCommand addSecond = new AddTodoCommand(second);
+        AddTodoCommand addFirst = new AddTodoCommand(first, null);
+        AddTodoCommand addSecond = new AddTodoCommand(second, null);
 
         // same object -> true
         assertTrue(addFirst.equals(addFirst));
 
         // same values -> true
-        AddTodoCommand addFirstCopy = new AddTodoCommand(first);
+        AddTodoCommand addFirstCopy = new AddTodoCommand(first, null);
         assertTrue(addFirst.equals(addFirstCopy));
 
         // different types -> false
@@ -122,6 +113,9 @@ public class AddTodoCommandTest {
 
         // different todo -> false
         assertFalse(addFirst.equals(addSecond));
+
+        // different contact -> false
+        assertFalse(addFirst.equals(new AddTodoCommand(first, new Name("Alice Pauline"))));
     }
 
     /**
@@ -144,7 +138,7 @@ public class AddTodoCommandTest {
         }
 
         @Override
-        public ObservableList<Person> getPersonList() {
+        public ListenableList<Person> getPersonList() {
             return backingBook.getPersonList();
         }
     }
@@ -182,7 +176,17 @@ public class AddTodoCommandTest {
         }
 
         @Override
-        public ObservableList<Person> getPersonList() {
+        public Optional<Person> findPersonByName(Name name) {
+            return backingBook.findPersonByName(name);
+        }
+
+        @Override
+        public Optional<Person> findContact(Todo todo) {
+            return backingBook.findContact(todo);
+        }
+
+        @Override
+        public ListenableList<Person> getPersonList() {
             return backingBook.getPersonList();
         }
     }
@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CompositeFindCommand}.
+ */
+public class CompositeFindCommandTest {
+    private static final TagExpression FRIENDS = TagExpression.of(new Tag("friends"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        PersonQuery firstQuery = new PersonQuery(List.of("meier"), FRIENDS, null, null, null);
+        PersonQuery secondQuery = new PersonQuery(List.of("meier"), null, null, null, null);
+
+        CompositeFindCommand findFirstCommand = new CompositeFindCommand(firstQuery);
+        CompositeFindCommand findSecondCommand = new CompositeFindCommand(secondQuery);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(
+                new CompositeFindCommand(new PersonQuery(List.of("meier"), FRIENDS, null, null, null))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_nameAndTag_matchingPersonsFound() {
+        PersonQuery query = new PersonQuery(List.of("meier"), FRIENDS, null, null, null);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(new CompositeFindCommand(query), model, expectedMessage, expectedModel,
+                DisplayList.PERSON);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_eventAliasAndEmail_matchingPersonsFound() {
+        PersonQuery query = new PersonQuery(List.of(), null, new EventAlias("MEET24"), null, "WERNER");
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        expectedModel.updateFilteredPersonList(query.withLinkedEvent(MEETING));
+        assertCommandSuccess(new CompositeFindCommand(query), model, expectedMessage, expectedModel,
+                DisplayList.PERSON);
+        assertEquals(Collections.singletonList(ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noPersonMeetsEveryCriterion_noPersonFound() {
+        PersonQuery query = new PersonQuery(List.of("meier"), FRIENDS, new EventAlias("TSC2025"), null, null);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredPersonList(query);
+        assertCommandSuccess(new CompositeFindCommand(query), model, expectedMessage, expectedModel,
+                DisplayList.PERSON);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sameQueryAfterUnlink_unlinkedPersonNotFound() throws Exception {
+        PersonQuery query = new PersonQuery(List.of(), null, new EventAlias("MEET24"), null, null);
+        new CompositeFindCommand(query).execute(model);
+        assertEquals(Arrays.asList(ELLE, FIONA), model.getFilteredPersonList());
+
+        new UnlinkEventCommand(List.of(INDEX_FIRST_PERSON)).execute(model);
+        CommandResult commandResult = new CompositeFindCommand(query).execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), commandResult.getFeedbackToUser());
+        assertEquals(Collections.singletonList(FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonQuery query = new PersonQuery(List.of("meier"), FRIENDS, null, null, null);
+        CompositeFindCommand compositeFindCommand = new CompositeFindCommand(query);
+        String expected = CompositeFindCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, compositeFindCommand.toString());
+    }
+}
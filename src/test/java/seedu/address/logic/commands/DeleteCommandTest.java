@@ -18,6 +18,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.TodoBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -41,6 +43,43 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_idOfPersonHiddenByFilter_success() {
+        Person personToDelete = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        DeleteCommand deleteCommand = new DeleteCommand(Index.fromId(personToDelete.getId()));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(personToDelete));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(personToDelete);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownId_throwsCommandException() {
+        DeleteCommand deleteCommand = new DeleteCommand(Index.fromId(Long.MAX_VALUE));
+
+        assertCommandFailure(deleteCommand, model,
+                String.format(Messages.MESSAGE_PERSON_ID_NOT_FOUND, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void execute_linkedTodoHiddenByFilter_unlinksTodo() throws Exception {
+        Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Todo linkedTodo = new TodoBuilder().withContact(personToDelete.getId()).build();
+        model.addTodo(linkedTodo);
+        model.updateFilteredTodoList(unused -> false);
+
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+
+        assertFalse(model.getAddressBook().getTodoList().get(0).hasContact());
+        assertTrue(model.getTodosLinkedToPerson(personToDelete.getId()).isEmpty());
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
@@ -6,18 +6,20 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.commons.core.list.ListenableTreeList;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventAlias;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.ModelStub;
@@ -74,10 +76,8 @@ public class DeleteEventCommandTest {
 
 
     private static class ModelStubWithEvents extends ModelStub {
-        final ArrayList<Event> events = new ArrayList<>();
-        final ArrayList<Person> persons = new ArrayList<>();
-        private final ObservableList<Event> eventsObservable = FXCollections.observableList(events);
-        private final ObservableList<Person> personsObservable = FXCollections.observableArrayList(persons);
+        final ListenableTreeList<Event> events = new ListenableTreeList<>();
+        final ListenableTreeList<Person> persons = new ListenableTreeList<>();
 
 
         ModelStubWithEvents(Event... initial) {
@@ -88,18 +88,38 @@ public class DeleteEventCommandTest {
         }
 
         @Override
-        public ObservableList<Event> getEventList() {
-            return eventsObservable;
+        public ListenableList<Event> getEventList() {
+            return events;
         }
 
         @Override
-        public ObservableList<Person> getPersonList() {
-            return personsObservable;
+        public ListenableList<Person> getPersonList() {
+            return persons;
         }
 
         @Override
-        public ObservableList<Person> getFilteredPersonList() {
-            return personsObservable;
+        public ListenableList<Person> getFilteredPersonList() {
+            return persons;
+        }
+
+        @Override
+        public void beginBatch() {
+            // changes are applied to the stub's lists directly
+        }
+
+        @Override
+        public void commitBatch() {
+            // changes are applied to the stub's lists directly
+        }
+
+        @Override
+        public Optional<Event> findEventByAlias(EventAlias alias) {
+            return events.stream().filter(e -> e.getEventAlias().equals(alias)).findFirst();
+        }
+
+        @Override
+        public List<Person> getPersonsLinkedToEvent(long eventId) {
+            return persons.stream().filter(p -> p.hasLinkedEvent() && p.getLinkedEventId() == eventId).toList();
         }
 
         @Override
@@ -9,9 +9,11 @@ import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalEvents.CONCERT;
 import static seedu.address.testutil.TypicalEvents.MEETING;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -39,7 +41,8 @@ public class EditEventCommandTest {
         EditEventCommand editEventCommand = new EditEventCommand(originalAlias, descriptor);
 
         String expectedMessage =
-                String.format(EditEventCommand.MESSAGE_EDIT_EVENT_SUCCESS, Messages.format(editedEvent));
+                String.format(EditEventCommand.MESSAGE_EDIT_EVENT_SUCCESS, Messages.format(editedEvent))
+                + Messages.formatClashes(List.of(MEETING));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setEvent(originalEvent, editedEvent);
@@ -49,7 +52,7 @@ public class EditEventCommandTest {
 
     @Test
     public void execute_someFieldsSpecifiedFilteredList_success() {
-        ObservableList<Event> eventList = model.getFilteredEventList();
+        ListenableList<Event> eventList = model.getFilteredEventList();
         Event originalEvent = eventList.get(eventList.size() - 1);
         EventAlias originalAlias = originalEvent.getEventAlias();
         Event editedEvent = new EventBuilder(originalEvent).withName("Ed Sheeran Concert")
@@ -87,7 +90,7 @@ public class EditEventCommandTest {
 
     @Test
     public void execute_eventWithSameFields_success() {
-        ObservableList<Event> eventList = model.getFilteredEventList();
+        ListenableList<Event> eventList = model.getFilteredEventList();
         Event originalEvent = eventList.get(1);
         EventAlias originalAlias = originalEvent.getEventAlias();
         Event editedEvent = new EventBuilder(eventList.get(0)).withAlias(originalAlias.value).build();
@@ -96,7 +99,8 @@ public class EditEventCommandTest {
         EditEventCommand editEventCommand = new EditEventCommand(originalAlias, descriptor);
 
         String expectedMessage =
-                String.format(EditEventCommand.MESSAGE_EDIT_EVENT_SUCCESS, Messages.format(editedEvent));
+                String.format(EditEventCommand.MESSAGE_EDIT_EVENT_SUCCESS, Messages.format(editedEvent))
+                + Messages.formatClashes(List.of(eventList.get(0)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setEvent(originalEvent, editedEvent);
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalTodos.getTypicalTodos;
 
@@ -18,6 +19,7 @@ import seedu.address.logic.commands.EditTodoCommand.EditTodoDescriptor;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
 import seedu.address.model.todo.Todo;
 import seedu.address.testutil.TodoBuilder;
 
@@ -41,19 +43,20 @@ public class EditTodoCommandTest {
         Todo editedTodo = new TodoBuilder(todoToEdit)
                 .withTodoName("Updated Todo Name")
                 .withDescription("Updated Description")
-                .withContactName("Alice Pauline")
+                .withContact(ALICE.getId())
                 .withCompleted(true)
                 .build();
 
         EditTodoDescriptor descriptor = new EditTodoCommand.EditTodoDescriptor();
         descriptor.setTodoName(editedTodo.getTodoName());
         descriptor.setTodoDescription(editedTodo.getTodoDescription());
-        descriptor.setContactName(editedTodo.getContactName());
+        descriptor.setContactName(ALICE.getName());
         descriptor.setCompleted(editedTodo.getIsCompleted());
 
         EditTodoCommand command = new EditTodoCommand(Index.fromOneBased(1), descriptor);
 
-        String expectedMessage = String.format(EditTodoCommand.MESSAGE_EDIT_TODO_SUCCESS, Messages.format(editedTodo));
+        String expectedMessage = String.format(EditTodoCommand.MESSAGE_EDIT_TODO_SUCCESS,
+                Messages.format(editedTodo, model.findContact(editedTodo)));
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.setTodo(todoToEdit, editedTodo);
@@ -74,13 +77,8 @@ public class EditTodoCommandTest {
 
     @Test
     public void execute_invalidContactName_throwsCommandException() {
-        Todo todoToEdit = model.getFilteredTodoList().get(0);
-        Todo editedTodo = new TodoBuilder(todoToEdit)
-                .withContactName("Nonexistent Person")
-                .build();
-
         EditTodoDescriptor descriptor = new EditTodoCommand.EditTodoDescriptor();
-        descriptor.setContactName(editedTodo.getContactName());
+        descriptor.setContactName(new Name("Nonexistent Person"));
 
         EditTodoCommand command = new EditTodoCommand(Index.fromOneBased(1), descriptor);
 
@@ -103,7 +101,7 @@ public class EditTodoCommandTest {
         EditTodoDescriptor descriptor = new EditTodoDescriptor();
         descriptor.setTodoName(firstTodo.getTodoName());
         descriptor.setTodoDescription(firstTodo.getTodoDescription());
-        descriptor.setContactName(firstTodo.getContactName());
+        descriptor.setContactName(model.findContact(firstTodo).get().getName());
         descriptor.setCompleted(firstTodo.getIsCompleted());
 
         EditTodoCommand command = new EditTodoCommand(Index.fromOneBased(2), descriptor);
@@ -115,7 +113,7 @@ public class EditTodoCommandTest {
     public void execute_unlinkContact_success() {
         Todo todoToEdit = model.getFilteredTodoList().get(0);
         Todo editedTodo = new TodoBuilder(todoToEdit)
-                .withoutContactName()
+                .withoutContact()
                 .build();
 
         EditTodoDescriptor descriptor = new EditTodoCommand.EditTodoDescriptor();
@@ -123,7 +121,8 @@ public class EditTodoCommandTest {
 
         EditTodoCommand command = new EditTodoCommand(Index.fromOneBased(1), descriptor);
 
-        String expectedMessage = String.format(EditTodoCommand.MESSAGE_EDIT_TODO_SUCCESS, Messages.format(editedTodo));
+        String expectedMessage = String.format(EditTodoCommand.MESSAGE_EDIT_TODO_SUCCESS,
+                Messages.format(editedTodo, model.findContact(editedTodo)));
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.setTodo(todoToEdit, editedTodo);
@@ -135,7 +134,7 @@ public class EditTodoCommandTest {
     public void execute_unlinkContactAndEditDescription_success() {
         Todo todoToEdit = model.getFilteredTodoList().get(0);
         Todo editedTodo = new TodoBuilder(todoToEdit)
-                .withoutContactName()
+                .withoutContact()
                 .withDescription("Updated new description while unlinking")
                 .build();
 
@@ -145,7 +144,8 @@ public class EditTodoCommandTest {
 
         EditTodoCommand command = new EditTodoCommand(Index.fromOneBased(1), descriptor);
 
-        String expectedMessage = String.format(EditTodoCommand.MESSAGE_EDIT_TODO_SUCCESS, Messages.format(editedTodo));
+        String expectedMessage = String.format(EditTodoCommand.MESSAGE_EDIT_TODO_SUCCESS,
+                Messages.format(editedTodo, model.findContact(editedTodo)));
 
         Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.setTodo(todoToEdit, editedTodo);
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindByTagCommand}.
+ */
+public class FindByTagCommandTest {
+    private static final TagExpression FRIENDS = TagExpression.of(new Tag("friends"));
+    private static final TagExpression OWES_MONEY = TagExpression.of(new Tag("owesMoney"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindByTagCommand findFriendsCommand = new FindByTagCommand(FRIENDS);
+        FindByTagCommand findOwesMoneyCommand = new FindByTagCommand(OWES_MONEY);
+
+        // same object -> returns true
+        assertTrue(findFriendsCommand.equals(findFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(findFriendsCommand.equals(new FindByTagCommand(TagExpression.of(new Tag("FRIENDS")))));
+
+        // different types -> returns false
+        assertFalse(findFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFriendsCommand.equals(null));
+
+        // different expression -> returns false
+        assertFalse(findFriendsCommand.equals(findOwesMoneyCommand));
+    }
+
+    @Test
+    public void execute_tagAndNotTag_matchingPersonsFound() {
+        TagExpression expression = TagExpression.and(FRIENDS, TagExpression.not(OWES_MONEY));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        expectedModel.updateFilteredPersonList(person -> expression.test(person.getTags()));
+        assertCommandSuccess(new FindByTagCommand(expression), model, expectedMessage, expectedModel,
+                DisplayList.PERSON);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagOrTag_matchingPersonsFound() {
+        TagExpression expression = TagExpression.or(OWES_MONEY, TagExpression.of(new Tag("colleagues")));
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        expectedModel.updateFilteredPersonList(person -> expression.test(person.getTags()));
+        assertCommandSuccess(new FindByTagCommand(expression), model, expectedMessage, expectedModel,
+                DisplayList.PERSON);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_sameExpressionAfterTagsEdited_currentTagsMatched() {
+        new FindByTagCommand(OWES_MONEY).execute(model);
+        Person benson = model.getFilteredPersonList().get(0);
+        Person editedBenson = new PersonBuilder(benson).withTags("friends").build();
+        model.setPerson(benson, editedBenson);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+
+        CommandResult commandResult = new FindByTagCommand(OWES_MONEY).execute(model);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0), commandResult.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindByTagCommand findByTagCommand = new FindByTagCommand(FRIENDS);
+        String expected = FindByTagCommand.class.getCanonicalName() + "{expression=" + FRIENDS + "}";
+        assertEquals(expected, findByTagCommand.toString());
+    }
+}
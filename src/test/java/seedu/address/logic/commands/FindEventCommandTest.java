@@ -19,7 +19,6 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.AliasContainsKeywordsPredicate;
-import seedu.address.ui.DisplayList;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindEventCommand}.
@@ -85,6 +84,18 @@ public class FindEventCommandTest {
         assertEquals(Arrays.asList(CONCERT, MEETING, WORKSHOP), model.getFilteredEventList());
     }
 
+    @Test
+    public void execute_keywordsWithTypos_closeAliasesFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 3);
+        // "tsc" matches as a prefix, the others within one typo
+        AliasContainsKeywordsPredicate predicate =
+                new AliasContainsKeywordsPredicate(Arrays.asList("tsc", "meet25", "jawa25"), 1);
+        FindEventCommand command = new FindEventCommand(predicate);
+        expectedModel.updateFilteredEventList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel, DisplayList.EVENT);
+        assertEquals(Arrays.asList(CONCERT, MEETING, WORKSHOP), model.getFilteredEventList());
+    }
+
     @Test
     public void toStringMethod() {
         AliasContainsKeywordsPredicate predicate = new AliasContainsKeywordsPredicate(Arrays.asList("keyword"));
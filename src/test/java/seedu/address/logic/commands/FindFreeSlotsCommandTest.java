@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.CONFERENCE;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.TimeSlot;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindFreeSlotsCommand}.
+ */
+public class FindFreeSlotsCommandTest {
+    private static final LocalDateTime CHRISTMAS = LocalDateTime.of(2024, 12, 25, 0, 0);
+    private static final Duration ONE_HOUR = Duration.ofHours(1);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindFreeSlotsCommand command = new FindFreeSlotsCommand(CHRISTMAS, CHRISTMAS.plusDays(1), ONE_HOUR);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new FindFreeSlotsCommand(CHRISTMAS, CHRISTMAS.plusDays(1), ONE_HOUR)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different window -> returns false
+        assertFalse(command.equals(new FindFreeSlotsCommand(CHRISTMAS, CHRISTMAS.plusDays(2), ONE_HOUR)));
+
+        // different duration -> returns false
+        assertFalse(command.equals(new FindFreeSlotsCommand(CHRISTMAS, CHRISTMAS.plusDays(1), Duration.ofHours(2))));
+    }
+
+    @Test
+    public void execute_windowWithEvent_gapsAroundEventFound() {
+        String expectedMessage = String.format(FindFreeSlotsCommand.MESSAGE_SUCCESS, 2)
+                + "\n" + Messages.format(new TimeSlot(CHRISTMAS, MEETING.getStart()))
+                + "\n" + Messages.format(new TimeSlot(MEETING.getEnd(), CHRISTMAS.plusDays(1)));
+        assertCommandSuccess(new FindFreeSlotsCommand(CHRISTMAS, CHRISTMAS.plusDays(1), ONE_HOUR), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_windowWithinEvent_noSlotFound() {
+        String expectedMessage = String.format(FindFreeSlotsCommand.MESSAGE_SUCCESS, 0);
+        assertCommandSuccess(new FindFreeSlotsCommand(CONFERENCE.getStart().plusHours(1),
+                CONFERENCE.getEnd().minusHours(1), ONE_HOUR), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindFreeSlotsCommand command = new FindFreeSlotsCommand(CHRISTMAS, CHRISTMAS.plusDays(1), ONE_HOUR);
+        String expected = FindFreeSlotsCommand.class.getCanonicalName() + "{from=" + CHRISTMAS
+                + ", to=" + CHRISTMAS.plusDays(1) + ", minDuration=" + ONE_HOUR + "}";
+        assertEquals(expected, command.toString());
+    }
+}
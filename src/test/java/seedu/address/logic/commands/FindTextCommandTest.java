@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.TodoBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindTextCommand}.
+ */
+public class FindTextCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindTextCommand command = new FindTextCommand("street");
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new FindTextCommand("street")));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different text -> returns false
+        assertFalse(command.equals(new FindTextCommand("ave")));
+    }
+
+    @Test
+    public void execute_noMatch_nothingListed() {
+        String expectedMessage = String.format(FindTextCommand.MESSAGE_SUCCESS, 0, 0, 0);
+        expectedModel.updateFilteredPersonList(unused -> false);
+        expectedModel.updateFilteredEventList(unused -> false);
+        expectedModel.updateFilteredTodoList(unused -> false);
+        assertCommandSuccess(new FindTextCommand("xyzzy"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_partOfWords_recordsContainingTextListed() {
+        Todo todo = new TodoBuilder().withDescription("Book the meeting room").build();
+        model.addTodo(todo);
+        expectedModel.addTodo(todo);
+
+        String expectedMessage = String.format(FindTextCommand.MESSAGE_SUCCESS, 0, 1, 1);
+        expectedModel.updateFilteredPersonList(unused -> false);
+        expectedModel.updateFilteredEventList(MEETING::equals);
+        expectedModel.updateFilteredTodoList(todo::equals);
+        assertCommandSuccess(new FindTextCommand("EETIN"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_nameOrAddress_matchingPersonsListed() {
+        String expectedMessage = String.format(FindTextCommand.MESSAGE_SUCCESS, 1, 0, 0);
+        expectedModel.updateFilteredPersonList(ALICE::equals);
+        expectedModel.updateFilteredEventList(unused -> false);
+        expectedModel.updateFilteredTodoList(unused -> false);
+        assertCommandSuccess(new FindTextCommand("jurong west"), model, expectedMessage, expectedModel);
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+
+        assertCommandSuccess(new FindTextCommand("line"), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_sameTextAfterTodoMarked_markedTodoStillListed() throws Exception {
+        Todo todo = new TodoBuilder().withDescription("Book the meeting room").build();
+        model.addTodo(todo);
+        new FindTextCommand("meeting room").execute(model);
+        assertEquals(List.of(todo), model.getFilteredTodoList());
+
+        new MarkTodoCommand(INDEX_FIRST_PERSON).execute(model);
+        new FindTextCommand("meeting room").execute(model);
+
+        assertEquals(List.of(todo.withCompletionStatus(true)), model.getFilteredTodoList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        FindTextCommand command = new FindTextCommand("street");
+        String expected = FindTextCommand.class.getCanonicalName() + "{text=street}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
@@ -30,6 +31,7 @@ public class LinkEventCommandTest {
     private Model expectedModel;
     private Event testEvent;
     private EventAlias testEventAlias;
+    private long testEventId;
 
     @BeforeEach
     public void setUp() {
@@ -41,6 +43,7 @@ public class LinkEventCommandTest {
 
         model.addEvent(testEvent);
         expectedModel.addEvent(testEvent);
+        testEventId = model.findEventByAlias(testEventAlias).get().getId();
     }
 
     @Test
@@ -50,14 +53,7 @@ public class LinkEventCommandTest {
                 testEventAlias);
 
         Person personToLink = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        Person linkedPerson = new Person(
-                personToLink.getName(),
-                personToLink.getPhone(),
-                personToLink.getEmail(),
-                personToLink.getAddress(),
-                personToLink.getTags(),
-                testEvent.getEventAlias()
-        );
+        Person linkedPerson = personToLink.withLinkedEvent(testEventId);
         expectedModel.setPerson(personToLink, linkedPerson);
 
         String expectedMessage = String.format(
@@ -66,6 +62,8 @@ public class LinkEventCommandTest {
                 testEvent.getEventAlias());
 
         assertCommandSuccess(linkCommand, model, expectedMessage, expectedModel);
+        assertEquals(testEventId, model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased())
+                .getLinkedEventId());
     }
 
     @Test
@@ -77,22 +75,8 @@ public class LinkEventCommandTest {
         Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
 
-        Person linkedFirstPerson = new Person(
-                firstPerson.getName(),
-                firstPerson.getPhone(),
-                firstPerson.getEmail(),
-                firstPerson.getAddress(),
-                firstPerson.getTags(),
-                testEvent.getEventAlias()
-        );
-        Person linkedSecondPerson = new Person(
-                secondPerson.getName(),
-                secondPerson.getPhone(),
-                secondPerson.getEmail(),
-                secondPerson.getAddress(),
-                secondPerson.getTags(),
-                testEvent.getEventAlias()
-        );
+        Person linkedFirstPerson = firstPerson.withLinkedEvent(testEventId);
+        Person linkedSecondPerson = secondPerson.withLinkedEvent(testEventId);
 
         expectedModel.setPerson(firstPerson, linkedFirstPerson);
         expectedModel.setPerson(secondPerson, linkedSecondPerson);
@@ -147,14 +131,7 @@ public class LinkEventCommandTest {
                 lowerCaseAlias);
 
         Person personToLink = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        Person linkedPerson = new Person(
-                personToLink.getName(),
-                personToLink.getPhone(),
-                personToLink.getEmail(),
-                personToLink.getAddress(),
-                personToLink.getTags(),
-                testEvent.getEventAlias()
-        );
+        Person linkedPerson = personToLink.withLinkedEvent(testEventId);
         expectedModel.setPerson(personToLink, linkedPerson);
 
         String expectedMessage = String.format(
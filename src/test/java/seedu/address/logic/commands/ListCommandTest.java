@@ -11,7 +11,6 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.ui.DisplayList;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
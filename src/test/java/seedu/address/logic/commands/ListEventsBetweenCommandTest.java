@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.CONFERENCE;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListEventsBetweenCommand}.
+ */
+public class ListEventsBetweenCommandTest {
+    private static final LocalDateTime DECEMBER = LocalDateTime.of(2024, 12, 1, 0, 0);
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ListEventsBetweenCommand decemberCommand = new ListEventsBetweenCommand(DECEMBER, JANUARY);
+
+        // same object -> returns true
+        assertTrue(decemberCommand.equals(decemberCommand));
+
+        // same values -> returns true
+        assertTrue(decemberCommand.equals(new ListEventsBetweenCommand(DECEMBER, JANUARY)));
+
+        // different types -> returns false
+        assertFalse(decemberCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(decemberCommand.equals(null));
+
+        // different window -> returns false
+        assertFalse(decemberCommand.equals(new ListEventsBetweenCommand(DECEMBER, JANUARY.plusDays(1))));
+    }
+
+    @Test
+    public void execute_eventsStartingInWindow_eventsFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2);
+        List<Event> expectedEvents = Arrays.asList(MEETING, CONFERENCE);
+        expectedModel.updateFilteredEventList(expectedEvents::contains);
+        assertCommandSuccess(new ListEventsBetweenCommand(DECEMBER, JANUARY), model, expectedMessage, expectedModel,
+                DisplayList.EVENT);
+        assertEquals(expectedEvents, model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_eventStartingAtEndOfWindow_notFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredEventList(event -> false);
+        assertCommandSuccess(new ListEventsBetweenCommand(JANUARY, WORKSHOP.getStart()), model, expectedMessage,
+                expectedModel, DisplayList.EVENT);
+        assertEquals(Collections.emptyList(), model.getFilteredEventList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        ListEventsBetweenCommand command = new ListEventsBetweenCommand(DECEMBER, JANUARY);
+        String expected = ListEventsBetweenCommand.class.getCanonicalName()
+                + "{from=" + DECEMBER + ", to=" + JANUARY + "}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -15,7 +15,6 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.Event;
-import seedu.address.ui.DisplayList;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListEventsCommand.
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.CONFERENCE;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListOverlappingEventsCommand}.
+ */
+public class ListOverlappingEventsCommandTest {
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 12, 30, 12, 0);
+    private static final LocalDateTime EVENING = LocalDateTime.of(2024, 12, 30, 18, 0);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ListOverlappingEventsCommand afternoonCommand = new ListOverlappingEventsCommand(NOON, EVENING);
+
+        // same object -> returns true
+        assertTrue(afternoonCommand.equals(afternoonCommand));
+
+        // same values -> returns true
+        assertTrue(afternoonCommand.equals(new ListOverlappingEventsCommand(NOON, EVENING)));
+
+        // different types -> returns false
+        assertFalse(afternoonCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(afternoonCommand.equals(null));
+
+        // different window -> returns false
+        assertFalse(afternoonCommand.equals(new ListOverlappingEventsCommand(NOON.minusHours(1), EVENING)));
+    }
+
+    @Test
+    public void execute_eventStartedBeforeWindow_eventFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 1);
+        List<Event> expectedEvents = Arrays.asList(CONFERENCE);
+        expectedModel.updateFilteredEventList(expectedEvents::contains);
+        assertCommandSuccess(new ListOverlappingEventsCommand(NOON, EVENING), model, expectedMessage, expectedModel,
+                DisplayList.EVENT);
+        assertEquals(expectedEvents, model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_eventEndingAtStartOfWindow_notFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 0);
+        expectedModel.updateFilteredEventList(event -> false);
+        assertCommandSuccess(new ListOverlappingEventsCommand(CONFERENCE.getEnd(), EVENING), model, expectedMessage,
+                expectedModel, DisplayList.EVENT);
+        assertEquals(Collections.emptyList(), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_sameWindowAfterEventMoved_movedEventNotFound() {
+        new ListOverlappingEventsCommand(NOON, EVENING).execute(model);
+        Event conference = model.getFilteredEventList().get(0);
+        Event movedConference = new EventBuilder(conference).withEnd(NOON).build();
+        model.setEvent(conference, movedConference);
+
+        CommandResult commandResult = new ListOverlappingEventsCommand(NOON, EVENING).execute(model);
+
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 0), commandResult.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredEventList());
+    }
+}
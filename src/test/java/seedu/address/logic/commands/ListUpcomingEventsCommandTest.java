@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.EXHIBITION;
+import static seedu.address.testutil.TypicalEvents.PARTY;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListUpcomingEventsCommand}.
+ */
+public class ListUpcomingEventsCommandTest {
+    private static final Optional<LocalDateTime> NEW_YEAR = Optional.of(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ListUpcomingEventsCommand firstCommand = new ListUpcomingEventsCommand(2, NEW_YEAR);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new ListUpcomingEventsCommand(2, NEW_YEAR)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(firstCommand.equals(new ListUpcomingEventsCommand(3, NEW_YEAR)));
+
+        // no start -> returns false
+        assertFalse(firstCommand.equals(new ListUpcomingEventsCommand(2, Optional.empty())));
+    }
+
+    @Test
+    public void execute_moreEventsThanCount_firstEventsFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2);
+        List<Event> expectedEvents = Arrays.asList(WORKSHOP, PARTY);
+        expectedModel.updateFilteredEventList(expectedEvents::contains);
+        assertCommandSuccess(new ListUpcomingEventsCommand(2, NEW_YEAR), model, expectedMessage, expectedModel,
+                DisplayList.EVENT);
+        assertEquals(expectedEvents, model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_fewerEventsThanCount_allLaterEventsFound() {
+        String expectedMessage = String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2);
+        List<Event> expectedEvents = Arrays.asList(CONCERT, EXHIBITION);
+        expectedModel.updateFilteredEventList(expectedEvents::contains);
+        assertCommandSuccess(new ListUpcomingEventsCommand(10, Optional.of(EXHIBITION.getStart())), model,
+                expectedMessage, expectedModel, DisplayList.EVENT);
+        assertEquals(Arrays.asList(CONCERT, EXHIBITION), model.getFilteredEventList());
+    }
+}
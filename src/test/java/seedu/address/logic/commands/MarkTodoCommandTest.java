@@ -21,7 +21,6 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.todo.Todo;
-import seedu.address.ui.DisplayList;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for MarkTodoCommand.
@@ -49,7 +48,7 @@ public class MarkTodoCommandTest {
         MarkTodoCommand markTodoCommand = new MarkTodoCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(MarkTodoCommand.MESSAGE_MARK_TODO_SUCCESS,
-                Messages.format(todoToMark.withCompletionStatus(true)));
+                Messages.format(todoToMark.withCompletionStatus(true), model.findContact(todoToMark)));
 
         expectedModel.setTodo(todoToMark, todoToMark.withCompletionStatus(true));
 
@@ -64,6 +63,13 @@ public class MarkTodoCommandTest {
         assertCommandFailure(markTodoCommand, model, Messages.MESSAGE_INVALID_TODO_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_unknownId_throwsCommandException() {
+        MarkTodoCommand markTodoCommand = new MarkTodoCommand(Index.fromId(Long.MAX_VALUE));
+
+        assertCommandFailure(markTodoCommand, model, String.format(Messages.MESSAGE_TODO_ID_NOT_FOUND, Long.MAX_VALUE));
+    }
+
     @Test
     public void execute_validIndexFilteredList_success() {
         // Get the first todo before filtering
@@ -76,7 +82,7 @@ public class MarkTodoCommandTest {
         MarkTodoCommand markTodoCommand = new MarkTodoCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(MarkTodoCommand.MESSAGE_MARK_TODO_SUCCESS,
-                Messages.format(todoToMark.withCompletionStatus(true)));
+                Messages.format(todoToMark.withCompletionStatus(true), model.findContact(todoToMark)));
 
         expectedModel.setTodo(todoToMark, todoToMark.withCompletionStatus(true));
 
@@ -113,7 +119,7 @@ public class MarkTodoCommandTest {
         MarkTodoCommand markTodoCommand = new MarkTodoCommand(index);
 
         String expectedMessage = String.format(MarkTodoCommand.MESSAGE_MARK_TODO_SUCCESS,
-                Messages.format(completedTodo.withCompletionStatus(true)));
+                Messages.format(completedTodo.withCompletionStatus(true), model.findContact(completedTodo)));
 
         expectedModel.setTodo(completedTodo, completedTodo.withCompletionStatus(true));
 
@@ -133,7 +139,7 @@ public class MarkTodoCommandTest {
         Index index = Index.fromZeroBased(todoIndex);
         MarkTodoCommand markTodoCommand = new MarkTodoCommand(index);
         String expectedMessage = String.format(MarkTodoCommand.MESSAGE_MARK_TODO_SUCCESS,
-                Messages.format(incompleteTodo.withCompletionStatus(true)));
+                Messages.format(incompleteTodo.withCompletionStatus(true), model.findContact(incompleteTodo)));
 
         expectedModel.setTodo(incompleteTodo, incompleteTodo.withCompletionStatus(true));
 
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.TodoBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCommand}.
+ */
+public class SearchCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchCommand command = new SearchCommand(List.of("alice"));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new SearchCommand(List.of("alice"))));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(command.equals(new SearchCommand(List.of("bob"))));
+    }
+
+    @Test
+    public void execute_noMatch_noResultsFound() {
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 0);
+        assertCommandSuccess(new SearchCommand(List.of("xyzzy")), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_matchesAcrossRecordTypes_resultsListedByRelevance() {
+        Todo todo = new TodoBuilder().withTodoName("Call Pauline").withDescription("About the concert").build();
+        model.addTodo(todo);
+        expectedModel.addTodo(todo);
+        Person alice = model.getAddressBook().getPersonList().get(0);
+        Todo storedTodo = model.getAddressBook().getTodoList().get(0);
+
+        // only Alice Pauline and the todo mention "pauline", and Alice's record is longer
+        String expectedMessage = String.format(SearchCommand.MESSAGE_SUCCESS, 2)
+                + "\n" + SearchCommand.format(storedTodo, model)
+                + "\n" + SearchCommand.format(alice, model);
+        assertCommandSuccess(new SearchCommand(List.of("Pauline")), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        SearchCommand command = new SearchCommand(List.of("alice"));
+        String expected = SearchCommand.class.getCanonicalName() + "{keywords=[alice]}";
+        assertTrue(command.toString().equals(expected));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -17,7 +18,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.event.EventAlias;
 import seedu.address.model.person.Person;
 
 /**
@@ -37,28 +37,14 @@ public class UnlinkEventCommandTest {
     public void execute_validSingleIndex_success() {
         // Link person first
         Person personToUnlink = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        Person linkedPerson = new Person(
-                personToUnlink.getName(),
-                personToUnlink.getPhone(),
-                personToUnlink.getEmail(),
-                personToUnlink.getAddress(),
-                personToUnlink.getTags(),
-                new EventAlias("TestEvent")
-        );
+        Person linkedPerson = personToUnlink.withLinkedEvent(CONCERT.getId());
         model.setPerson(personToUnlink, linkedPerson);
 
         // Create unlink command
         UnlinkEventCommand unlinkCommand = new UnlinkEventCommand(Arrays.asList(INDEX_FIRST_PERSON));
 
         // Expected person after unlinking
-        Person expectedPerson = new Person(
-                linkedPerson.getName(),
-                linkedPerson.getPhone(),
-                linkedPerson.getEmail(),
-                linkedPerson.getAddress(),
-                linkedPerson.getTags(),
-                null
-        );
+        Person expectedPerson = linkedPerson.withoutLinkedEvent();
         expectedModel.setPerson(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()), expectedPerson);
 
         String expectedMessage = String.format(UnlinkEventCommand.MESSAGE_SUCCESS, 1);
@@ -72,22 +58,8 @@ public class UnlinkEventCommandTest {
         Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
 
-        Person linkedFirstPerson = new Person(
-                firstPerson.getName(),
-                firstPerson.getPhone(),
-                firstPerson.getEmail(),
-                firstPerson.getAddress(),
-                firstPerson.getTags(),
-                new EventAlias("TestEvent1")
-        );
-        Person linkedSecondPerson = new Person(
-                secondPerson.getName(),
-                secondPerson.getPhone(),
-                secondPerson.getEmail(),
-                secondPerson.getAddress(),
-                secondPerson.getTags(),
-                new EventAlias("TestEvent2")
-        );
+        Person linkedFirstPerson = firstPerson.withLinkedEvent(CONCERT.getId());
+        Person linkedSecondPerson = secondPerson.withLinkedEvent(CONCERT.getId());
 
         model.setPerson(firstPerson, linkedFirstPerson);
         model.setPerson(secondPerson, linkedSecondPerson);
@@ -97,22 +69,8 @@ public class UnlinkEventCommandTest {
                 Arrays.asList(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
 
         // Expected persons after unlinking
-        Person unlinkedFirstPerson = new Person(
-                linkedFirstPerson.getName(),
-                linkedFirstPerson.getPhone(),
-                linkedFirstPerson.getEmail(),
-                linkedFirstPerson.getAddress(),
-                linkedFirstPerson.getTags(),
-                null
-        );
-        Person unlinkedSecondPerson = new Person(
-                linkedSecondPerson.getName(),
-                linkedSecondPerson.getPhone(),
-                linkedSecondPerson.getEmail(),
-                linkedSecondPerson.getAddress(),
-                linkedSecondPerson.getTags(),
-                null
-        );
+        Person unlinkedFirstPerson = linkedFirstPerson.withoutLinkedEvent();
+        Person unlinkedSecondPerson = linkedSecondPerson.withoutLinkedEvent();
 
         expectedModel.setPerson(
                 model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()),
@@ -151,14 +109,7 @@ public class UnlinkEventCommandTest {
         UnlinkEventCommand unlinkCommand = new UnlinkEventCommand(Arrays.asList(INDEX_FIRST_PERSON));
 
         Person personToUnlink = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        Person unlinkedPerson = new Person(
-                personToUnlink.getName(),
-                personToUnlink.getPhone(),
-                personToUnlink.getEmail(),
-                personToUnlink.getAddress(),
-                personToUnlink.getTags(),
-                null
-        );
+        Person unlinkedPerson = personToUnlink.withoutLinkedEvent();
         expectedModel.setPerson(personToUnlink, unlinkedPerson);
 
         String expectedMessage = String.format(UnlinkEventCommand.MESSAGE_SUCCESS, 1);
@@ -21,7 +21,6 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.todo.Todo;
-import seedu.address.ui.DisplayList;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for UnmarkTodoCommand.
@@ -49,7 +48,7 @@ public class UnmarkTodoCommandTest {
         UnmarkTodoCommand unmarkTodoCommand = new UnmarkTodoCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(UnmarkTodoCommand.MESSAGE_UNMARK_TODO_SUCCESS,
-                Messages.format(todoToUnmark.withCompletionStatus(false)));
+                Messages.format(todoToUnmark.withCompletionStatus(false), model.findContact(todoToUnmark)));
 
         expectedModel.setTodo(todoToUnmark, todoToUnmark.withCompletionStatus(false));
 
@@ -76,7 +75,7 @@ public class UnmarkTodoCommandTest {
         UnmarkTodoCommand unmarkTodoCommand = new UnmarkTodoCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(UnmarkTodoCommand.MESSAGE_UNMARK_TODO_SUCCESS,
-                Messages.format(todoToUnmark.withCompletionStatus(false)));
+                Messages.format(todoToUnmark.withCompletionStatus(false), model.findContact(todoToUnmark)));
 
         expectedModel.setTodo(todoToUnmark, todoToUnmark.withCompletionStatus(false));
 
@@ -113,7 +112,7 @@ public class UnmarkTodoCommandTest {
         UnmarkTodoCommand unmarkTodoCommand = new UnmarkTodoCommand(index);
 
         String expectedMessage = String.format(UnmarkTodoCommand.MESSAGE_UNMARK_TODO_SUCCESS,
-                Messages.format(incompleteTodo.withCompletionStatus(false)));
+                Messages.format(incompleteTodo.withCompletionStatus(false), model.findContact(incompleteTodo)));
 
         expectedModel.setTodo(incompleteTodo, incompleteTodo.withCompletionStatus(false));
 
@@ -134,7 +133,7 @@ public class UnmarkTodoCommandTest {
         UnmarkTodoCommand unmarkTodoCommand = new UnmarkTodoCommand(index);
 
         String expectedMessage = String.format(UnmarkTodoCommand.MESSAGE_UNMARK_TODO_SUCCESS,
-                Messages.format(completedTodo.withCompletionStatus(false)));
+                Messages.format(completedTodo.withCompletionStatus(false), model.findContact(completedTodo)));
 
         expectedModel.setTodo(completedTodo, completedTodo.withCompletionStatus(false));
 
@@ -25,20 +25,20 @@ public class AddTodoCommandParserTest {
     @Test
     public void parse_allFieldsPresent_success() {
         Todo expectedWithContact = new Todo(new TodoName("Review Project Proposal"),
-                "Review the Q1 project proposal document", new Name("John Doe"));
+                "Review the Q1 project proposal document");
         assertParseSuccess(parser,
                 PREAMBLE_WHITESPACE
                         + " tn/Review Project Proposal"
                         + " td/Review the Q1 project proposal document"
                         + " n/John Doe",
-                new AddTodoCommand(expectedWithContact));
+                new AddTodoCommand(expectedWithContact, new Name("John Doe")));
 
         Todo expectedNoContact = new Todo(new TodoName("Update Documentation"),
-                "Update API documentation for new features", null);
+                "Update API documentation for new features");
         assertParseSuccess(parser,
                 " tn/Update Documentation"
                         + " td/Update API documentation for new features",
-                new AddTodoCommand(expectedNoContact));
+                new AddTodoCommand(expectedNoContact, null));
     }
 
     @Test
@@ -77,11 +77,11 @@ public class AddTodoCommandParserTest {
     @Test
     public void parse_optionalFieldMissing_success() {
         Todo expected = new Todo(new TodoName("Backup Database"),
-                "Create weekly database backup", null);
+                "Create weekly database backup");
         assertParseSuccess(parser,
                 " tn/Backup Database"
                         + " td/Create weekly database backup",
-                new AddTodoCommand(expected));
+                new AddTodoCommand(expected, null));
     }
 
     @Test
@@ -4,31 +4,48 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CompositeFindCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.EditEventCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindByTagCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindEventCommand;
+import seedu.address.logic.commands.FindFreeSlotsCommand;
+import seedu.address.logic.commands.FindTextCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListEventsBetweenCommand;
 import seedu.address.logic.commands.ListEventsCommand;
+import seedu.address.logic.commands.ListOverlappingEventsCommand;
 import seedu.address.logic.commands.ListTodosCommand;
+import seedu.address.logic.commands.ListUpcomingEventsCommand;
 import seedu.address.logic.commands.MarkTodoCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnmarkTodoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.AliasContainsKeywordsPredicate;
@@ -36,6 +53,9 @@ import seedu.address.model.event.Event;
 import seedu.address.model.event.EventAlias;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.testutil.EditEventDescriptorBuilder;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.EventBuilder;
@@ -76,6 +96,20 @@ public class AddressBookParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + "  ") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_undoRedoWithArguments_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(UndoCommand.COMMAND_WORD + " 3"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(RedoCommand.COMMAND_WORD + " all"));
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -90,6 +124,14 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_compositeFind() throws Exception {
+        CompositeFindCommand command = (CompositeFindCommand) parser.parseCommand(CompositeFindCommand.COMMAND_WORD
+                + " " + PREFIX_TAG + "vip " + PREFIX_EVENT_ALIAS + "TSC2025 " + PREFIX_NAME + "tan");
+        assertEquals(new CompositeFindCommand(new PersonQuery(List.of("tan"), TagExpression.of(new Tag("vip")),
+                new EventAlias("TSC2025"), null, null)), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -119,6 +161,60 @@ public class AddressBookParserTest {
                 ListEventsCommand.COMMAND_WORD + " whicbwbwivwbovwoqo"));
     }
 
+    @Test
+    public void parseCommand_listEventsBetween() throws Exception {
+        ListEventsBetweenCommand command = (ListEventsBetweenCommand) parser.parseCommand(
+                ListEventsBetweenCommand.COMMAND_WORD + " " + PREFIX_START + "2025-09-15 00:00 "
+                        + PREFIX_END + "2025-09-22 00:00");
+        assertEquals(new ListEventsBetweenCommand(LocalDateTime.of(2025, 9, 15, 0, 0),
+                LocalDateTime.of(2025, 9, 22, 0, 0)), command);
+    }
+
+    @Test
+    public void parseCommand_listUpcomingEvents() throws Exception {
+        ListUpcomingEventsCommand command = (ListUpcomingEventsCommand) parser.parseCommand(
+                ListUpcomingEventsCommand.COMMAND_WORD + " 3");
+        assertEquals(new ListUpcomingEventsCommand(3, Optional.empty()), command);
+    }
+
+    @Test
+    public void parseCommand_listOverlappingEvents() throws Exception {
+        ListOverlappingEventsCommand command = (ListOverlappingEventsCommand) parser.parseCommand(
+                ListOverlappingEventsCommand.COMMAND_WORD + " " + PREFIX_START + "2025-09-19 18:00 "
+                        + PREFIX_END + "2025-09-19 22:00");
+        assertEquals(new ListOverlappingEventsCommand(LocalDateTime.of(2025, 9, 19, 18, 0),
+                LocalDateTime.of(2025, 9, 19, 22, 0)), command);
+    }
+
+    @Test
+    public void parseCommand_findFreeSlots() throws Exception {
+        FindFreeSlotsCommand command = (FindFreeSlotsCommand) parser.parseCommand(
+                FindFreeSlotsCommand.COMMAND_WORD + " " + PREFIX_START + "2025-09-15 09:00 "
+                        + PREFIX_END + "2025-09-19 18:00 " + PREFIX_HOURS + "2");
+        assertEquals(new FindFreeSlotsCommand(LocalDateTime.of(2025, 9, 15, 9, 0),
+                LocalDateTime.of(2025, 9, 19, 18, 0), Duration.ofHours(2)), command);
+    }
+
+    @Test
+    public void parseCommand_findByTag() throws Exception {
+        FindByTagCommand command = (FindByTagCommand) parser.parseCommand(
+                FindByTagCommand.COMMAND_WORD + " " + PREFIX_TAG + "vip AND NOT blocked");
+        assertEquals(new FindByTagCommand(TagExpression.and(TagExpression.of(new Tag("vip")),
+                TagExpression.not(TagExpression.of(new Tag("blocked"))))), command);
+    }
+
+    @Test
+    public void parseCommand_findText() throws Exception {
+        FindTextCommand command = (FindTextCommand) parser.parseCommand(FindTextCommand.COMMAND_WORD + " west ave ");
+        assertEquals(new FindTextCommand("west ave"), command);
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " alice  meeting");
+        assertEquals(new SearchCommand(Arrays.asList("alice", "meeting")), command);
+    }
+
     @Test
     public void parseCommand_listTodos() throws Exception {
         assertTrue(parser.parseCommand(ListTodosCommand.COMMAND_WORD) instanceof ListTodosCommand);
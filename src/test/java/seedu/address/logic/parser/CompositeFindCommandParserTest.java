@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CompositeFindCommand;
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
+
+public class CompositeFindCommandParserTest {
+    private static final TagExpression VIP = TagExpression.of(new Tag("vip"));
+    private static final EventAlias TSC2025 = new EventAlias("TSC2025");
+
+    private CompositeFindCommandParser parser = new CompositeFindCommandParser();
+
+    @Test
+    public void parse_allPrefixes_returnsCompositeFindCommand() {
+        CompositeFindCommand expectedCommand = new CompositeFindCommand(new PersonQuery(List.of("tan", "lee"),
+                TagExpression.and(VIP, TagExpression.not(TagExpression.of(new Tag("blocked")))), TSC2025, "9435",
+                "example"));
+
+        // prefixes in any order, with extra whitespace
+        assertParseSuccess(parser, " " + PREFIX_NAME + " tan \t lee " + PREFIX_TAG + "vip AND NOT blocked "
+                + PREFIX_EVENT_ALIAS + "TSC2025 " + PREFIX_PHONE + " 9435 " + PREFIX_EMAIL + "example ",
+                expectedCommand);
+        assertParseSuccess(parser, " " + PREFIX_EMAIL + "example " + PREFIX_PHONE + "9435 " + PREFIX_EVENT_ALIAS
+                + "TSC2025 " + PREFIX_TAG + "vip NOT blocked " + PREFIX_NAME + "tan lee", expectedCommand);
+    }
+
+    @Test
+    public void parse_somePrefixes_leavesOthersOut() {
+        assertParseSuccess(parser, " " + PREFIX_TAG + "vip " + PREFIX_EVENT_ALIAS + "TSC2025",
+                new CompositeFindCommand(new PersonQuery(List.of(), VIP, TSC2025, null, null)));
+        assertParseSuccess(parser, " " + PREFIX_PHONE + "9435",
+                new CompositeFindCommand(new PersonQuery(List.of(), null, null, "9435", null)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, CompositeFindCommand.MESSAGE_USAGE);
+
+        // no criteria
+        assertParseFailure(parser, "     ", expectedMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, " tan " + PREFIX_TAG + "vip", expectedMessage);
+
+        // empty criteria
+        assertParseFailure(parser, " " + PREFIX_NAME + " " + PREFIX_TAG + "vip", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TAG + "vip " + PREFIX_PHONE, expectedMessage);
+
+        // invalid tag expression
+        assertParseFailure(parser, " " + PREFIX_TAG + "vip AND", expectedMessage);
+
+        // invalid event alias
+        assertParseFailure(parser, " " + PREFIX_EVENT_ALIAS + "TSC 2025", EventAlias.MESSAGE_CONSTRAINTS);
+
+        // duplicate prefixes
+        assertParseFailure(parser, " " + PREFIX_TAG + "vip " + PREFIX_TAG + "friends",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_TAG));
+    }
+}
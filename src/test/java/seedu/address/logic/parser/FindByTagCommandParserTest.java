@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindByTagCommand;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
+
+public class FindByTagCommandParserTest {
+    private static final TagExpression VIP = TagExpression.of(new Tag("vip"));
+    private static final TagExpression FRIENDS = TagExpression.of(new Tag("friends"));
+    private static final TagExpression COLLEAGUES = TagExpression.of(new Tag("colleagues"));
+    private static final TagExpression BLOCKED = TagExpression.of(new Tag("blocked"));
+
+    private FindByTagCommandParser parser = new FindByTagCommandParser();
+
+    @Test
+    public void parse_singleTag_returnsFindByTagCommand() {
+        assertParseSuccess(parser, " " + PREFIX_TAG + " vip ", new FindByTagCommand(VIP));
+    }
+
+    @Test
+    public void parse_operators_followPrecedence() {
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertParseSuccess(parser, " " + PREFIX_TAG + "vip OR friends AND NOT blocked",
+                new FindByTagCommand(TagExpression.or(VIP, TagExpression.and(FRIENDS, TagExpression.not(BLOCKED)))));
+
+        // parentheses group, and adjacent operands are combined with AND
+        assertParseSuccess(parser, " " + PREFIX_TAG + "vip (friends OR colleagues)NOT blocked",
+                new FindByTagCommand(TagExpression.and(TagExpression.and(VIP, TagExpression.or(FRIENDS, COLLEAGUES)),
+                        TagExpression.not(BLOCKED))));
+
+        // operators are only recognised in upper case
+        assertParseSuccess(parser, " " + PREFIX_TAG + "vip or",
+                new FindByTagCommand(TagExpression.and(VIP, TagExpression.of(new Tag("or")))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindByTagCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " vip", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TAG, expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TAG + "vip AND", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TAG + "OR vip", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TAG + "(vip OR friends", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TAG + "vip)", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TAG + "vip AND NOT", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_TAG + "vip*", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPOS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -34,6 +35,21 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_NAME + "Alice", expectedFindCommand);
     }
 
+    @Test
+    public void parse_typos_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new NameContainsKeywordsPredicate(List.of("Alcie"), 2));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Alcie " + PREFIX_TYPOS + "2", expectedFindCommand);
+        assertParseSuccess(parser, " " + PREFIX_TYPOS + " 2 " + PREFIX_NAME + "Alcie", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidTypos_throwsParseException() {
+        String expectedMessage = ParserUtil.MESSAGE_INVALID_TYPOS;
+        assertParseFailure(parser, " " + PREFIX_NAME + "Alice " + PREFIX_TYPOS + "4", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_NAME + "Alice " + PREFIX_TYPOS + "-1", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_NAME + "Alice " + PREFIX_TYPOS, expectedMessage);
+    }
+
     @Test
     public void parse_invalidFormat_throwsParseException() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
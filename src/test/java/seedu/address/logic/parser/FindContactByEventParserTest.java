@@ -8,7 +8,6 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindContactByEventCommand;
 import seedu.address.model.event.EventAlias;
-import seedu.address.model.person.EventAliasMatchesPredicate;
 
 public class FindContactByEventParserTest {
     private FindContactByEventParser parser = new FindContactByEventParser();
@@ -23,8 +22,7 @@ public class FindContactByEventParserTest {
     @Test
     public void parse_validArgs_returnsFindContactByEventCommand() {
         EventAlias alias = new EventAlias("bp2026");
-        FindContactByEventCommand expectedCommand =
-                new FindContactByEventCommand(new EventAliasMatchesPredicate(alias), alias);
+        FindContactByEventCommand expectedCommand = new FindContactByEventCommand(alias);
         assertParseSuccess(parser, " ea/bp2026", expectedCommand);
     }
 }
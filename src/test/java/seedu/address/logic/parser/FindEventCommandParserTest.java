@@ -2,10 +2,12 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_ALIAS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPOS;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +28,15 @@ public class FindEventCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_EVENT_ALIAS + " \n tsc2025 \n \t concert  \t", expectedCommand);
     }
 
+    @Test
+    public void parse_typos_returnsFuzzyFindEventCommand() {
+        FindEventCommand expectedCommand =
+                new FindEventCommand(new AliasContainsKeywordsPredicate(List.of("tcs2025"), 1));
+        assertParseSuccess(parser, " " + PREFIX_EVENT_ALIAS + "tcs2025 " + PREFIX_TYPOS + "1", expectedCommand);
+        assertParseFailure(parser, " " + PREFIX_EVENT_ALIAS + "tcs2025 " + PREFIX_TYPOS + "x",
+                ParserUtil.MESSAGE_INVALID_TYPOS);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindEventCommand.MESSAGE_USAGE);
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_TIME_WINDOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindFreeSlotsCommand;
+
+public class FindFreeSlotsCommandParserTest {
+    private static final String WINDOW = " " + PREFIX_START + "2025-09-15 09:00 " + PREFIX_END + "2025-09-19 18:00";
+
+    private FindFreeSlotsCommandParser parser = new FindFreeSlotsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFindFreeSlotsCommand() {
+        FindFreeSlotsCommand expectedCommand = new FindFreeSlotsCommand(LocalDateTime.of(2025, 9, 15, 9, 0),
+                LocalDateTime.of(2025, 9, 19, 18, 0), Duration.ofMinutes(90));
+        assertParseSuccess(parser, WINDOW + " " + PREFIX_HOURS + "1.5", expectedCommand);
+        assertParseSuccess(parser, " " + PREFIX_HOURS + "1.5" + WINDOW, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFreeSlotsCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, WINDOW, expectedMessage);
+        assertParseFailure(parser, " week" + WINDOW + " " + PREFIX_HOURS + "1", expectedMessage);
+        assertParseFailure(parser, WINDOW + " " + PREFIX_HOURS + "0", ParserUtil.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, " " + PREFIX_START + "2025-09-19 18:00 " + PREFIX_END + "2025-09-15 09:00 "
+                + PREFIX_HOURS + "1", MESSAGE_INVALID_TIME_WINDOW);
+    }
+}
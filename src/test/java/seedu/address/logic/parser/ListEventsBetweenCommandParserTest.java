@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_TIME_WINDOW;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListEventsBetweenCommand;
+
+public class ListEventsBetweenCommandParserTest {
+    private ListEventsBetweenCommandParser parser = new ListEventsBetweenCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsListEventsBetweenCommand() {
+        ListEventsBetweenCommand expectedCommand = new ListEventsBetweenCommand(
+                LocalDateTime.of(2025, 9, 15, 0, 0), LocalDateTime.of(2025, 9, 22, 0, 0));
+        assertParseSuccess(parser, " " + PREFIX_START + "2025-09-15 00:00 " + PREFIX_END + "2025-09-22 00:00",
+                expectedCommand);
+        assertParseSuccess(parser, " " + PREFIX_END + "2025-09-22 00:00 " + PREFIX_START + "2025-09-15 00:00",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListEventsBetweenCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_START + "2025-09-15 00:00", expectedMessage);
+        assertParseFailure(parser, " week " + PREFIX_START + "2025-09-15 00:00 " + PREFIX_END + "2025-09-22 00:00",
+                expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_START + "2025-09-15 00:00 " + PREFIX_END + "2025-09-15 00:00",
+                MESSAGE_INVALID_TIME_WINDOW);
+        assertParseFailure(parser, " " + PREFIX_START + "2025-09-15 " + PREFIX_END + "2025-09-22 00:00",
+                ParserUtil.MESSAGE_INVALID_DATETIME);
+    }
+}
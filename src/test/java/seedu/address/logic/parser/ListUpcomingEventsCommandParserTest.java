@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListUpcomingEventsCommand;
+
+public class ListUpcomingEventsCommandParserTest {
+    private ListUpcomingEventsCommandParser parser = new ListUpcomingEventsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsListUpcomingEventsCommand() {
+        assertParseSuccess(parser, " 5", new ListUpcomingEventsCommand(5, Optional.empty()));
+        assertParseSuccess(parser, " 5 " + PREFIX_START + "2025-09-15 00:00",
+                new ListUpcomingEventsCommand(5, Optional.of(LocalDateTime.of(2025, 9, 15, 0, 0))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage =
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListUpcomingEventsCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " 0", expectedMessage);
+        assertParseFailure(parser, " -1", expectedMessage);
+        assertParseFailure(parser, " five", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_START + "2025-09-15 00:00", expectedMessage);
+        assertParseFailure(parser, " 5 " + PREFIX_START + "tomorrow", ParserUtil.MESSAGE_INVALID_DATETIME);
+    }
+}
@@ -2,10 +2,14 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INTEGER_OVERFLOW;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_HOURS;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_ID;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -13,6 +17,7 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -56,6 +61,22 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndex_validId_returnsIdIndex() throws Exception {
+        assertEquals(Index.fromId(42), ParserUtil.parseIndex("#42"));
+        assertEquals(Index.fromId(3000000000L), ParserUtil.parseIndex(" #3000000000 "));
+    }
+
+    @Test
+    public void parseIndex_invalidId_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_ID, () -> ParserUtil.parseIndex("#"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_ID, () -> ParserUtil.parseIndex("#0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_ID, () -> ParserUtil.parseIndex("#-1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_ID, () -> ParserUtil.parseIndex("# 1"));
+        assertThrows(ParseException.class, MESSAGE_INTEGER_OVERFLOW, ()
+            -> ParserUtil.parseIndex("#99999999999999999999"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -193,4 +214,25 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseHours_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseHours(null));
+    }
+
+    @Test
+    public void parseHours_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_HOURS, () -> ParserUtil.parseHours("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_HOURS, () -> ParserUtil.parseHours("0.001"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_HOURS, () -> ParserUtil.parseHours("-1"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_HOURS, () -> ParserUtil.parseHours("1.5h"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_HOURS, () -> ParserUtil.parseHours("123456"));
+    }
+
+    @Test
+    public void parseHours_validValueWithWhitespace_returnsDuration() throws Exception {
+        assertEquals(Duration.ofHours(2), ParserUtil.parseHours(" 2 "));
+        assertEquals(Duration.ofMinutes(90), ParserUtil.parseHours("1.5"));
+        assertEquals(Duration.ofMinutes(1), ParserUtil.parseHours("0.01"));
+    }
 }
@@ -6,23 +6,30 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.CONFERENCE;
+import static seedu.address.testutil.TypicalEvents.MEETING;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.JOHN;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.list.ListenableList;
+import seedu.address.commons.core.list.ListenableTreeList;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.todo.Todo;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TodoBuilder;
 
 public class AddressBookTest {
 
@@ -80,6 +87,159 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getPersonsLinkedToEvent_afterAddSetRemove_tracksLinks() {
+        Person alice = new PersonBuilder(ALICE).withLinkedEvent(CONCERT.getId()).build();
+        addressBook.addPerson(alice);
+        assertEquals(List.of(alice), addressBook.getPersonsLinkedToEvent(CONCERT.getId()));
+
+        // relinked to another event
+        Person relinkedAlice = new PersonBuilder(alice).withLinkedEvent(MEETING.getId()).build();
+        addressBook.setPerson(alice, relinkedAlice);
+        assertTrue(addressBook.getPersonsLinkedToEvent(CONCERT.getId()).isEmpty());
+        assertEquals(List.of(relinkedAlice), addressBook.getPersonsLinkedToEvent(MEETING.getId()));
+
+        addressBook.removePerson(relinkedAlice);
+        assertTrue(addressBook.getPersonsLinkedToEvent(MEETING.getId()).isEmpty());
+    }
+
+    @Test
+    public void getPersonsLinkedToEvent_afterResetData_rebuildsIndex() {
+        addressBook.addPerson(new PersonBuilder(ALICE).withLinkedEvent(CONFERENCE.getId()).build());
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getPersonsLinkedToEvent(CONFERENCE.getId()).isEmpty());
+
+        List<Person> expected = getTypicalAddressBook().getPersonList().stream()
+                .filter(person -> person.getLinkedEventId() == MEETING.getId())
+                .toList();
+        assertEquals(expected, addressBook.getPersonsLinkedToEvent(MEETING.getId()));
+    }
+
+    @Test
+    public void findLinkedEvent_linkedPerson_returnsEvent() {
+        addressBook.addEvent(CONCERT);
+        addressBook.addPerson(JOHN);
+        assertEquals(Optional.of(CONCERT), addressBook.findLinkedEvent(JOHN));
+        assertTrue(addressBook.findLinkedEvent(ALICE).isEmpty());
+    }
+
+    @Test
+    public void search_afterAddSetRemove_tracksText() {
+        addressBook.addPerson(ALICE);
+        assertEquals(List.of(ALICE), recordsOf(addressBook.search(List.of("pauline"), 10)));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+        assertTrue(addressBook.search(List.of("pauline"), 10).isEmpty());
+        assertEquals(List.of(renamedAlice), recordsOf(addressBook.search(List.of("tan"), 10)));
+
+        addressBook.removePerson(renamedAlice);
+        assertTrue(addressBook.search(List.of("alice"), 10).isEmpty());
+    }
+
+    @Test
+    public void search_afterResetData_rebuildsIndex() {
+        addressBook.addPerson(new PersonBuilder().withName("Zed Quux").build());
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.search(List.of("quux"), 10).isEmpty());
+        assertEquals(List.of(ALICE), recordsOf(addressBook.search(List.of("pauline"), 10)));
+    }
+
+    @Test
+    public void getTodosLinkedToPerson_afterAddSetRemove_tracksLinks() {
+        Todo todo = new TodoBuilder().withContact(ALICE.getId()).build();
+        addressBook.addTodo(todo);
+        assertEquals(List.of(todo), addressBook.getTodosLinkedToPerson(ALICE.getId()));
+
+        Todo relinkedTodo = todo.withContact(BENSON.getId());
+        addressBook.setTodo(todo, relinkedTodo);
+        assertTrue(addressBook.getTodosLinkedToPerson(ALICE.getId()).isEmpty());
+        assertEquals(List.of(relinkedTodo), addressBook.getTodosLinkedToPerson(BENSON.getId()));
+
+        addressBook.removeTodo(relinkedTodo);
+        assertTrue(addressBook.getTodosLinkedToPerson(BENSON.getId()).isEmpty());
+    }
+
+    @Test
+    public void setPerson_renamedPerson_linkedTodosUnchanged() {
+        Todo linkedTodo = new TodoBuilder().withTodoName("Linked").withContact(ALICE.getId()).build();
+        Todo otherTodo = new TodoBuilder().withTodoName("Other").withContact(BENSON.getId()).build();
+        addressBook.addPerson(ALICE);
+        addressBook.addTodo(linkedTodo);
+        addressBook.addTodo(otherTodo);
+        long todosVersion = addressBook.getTodosVersion();
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+
+        // the todo links to the person by id, which the renamed person keeps
+        assertEquals(List.of(linkedTodo, otherTodo), addressBook.getTodoList());
+        assertEquals(todosVersion, addressBook.getTodosVersion());
+        assertEquals(List.of(linkedTodo), addressBook.getTodosLinkedToPerson(ALICE.getId()));
+        assertEquals(Optional.of(renamedAlice), addressBook.findContact(linkedTodo));
+        assertEquals(renamedAlice.getName(), addressBook.findContact(linkedTodo).get().getName());
+    }
+
+    @Test
+    public void versions_changeToOneList_onlyItsVersionGrows() {
+        long personsVersion = addressBook.getPersonsVersion();
+        long eventsVersion = addressBook.getEventsVersion();
+        long todosVersion = addressBook.getTodosVersion();
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getPersonsVersion() > personsVersion);
+        personsVersion = addressBook.getPersonsVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getPersonsVersion() > personsVersion);
+        assertEquals(eventsVersion, addressBook.getEventsVersion());
+        assertEquals(todosVersion, addressBook.getTodosVersion());
+
+        addressBook.addTodo(new TodoBuilder().build());
+        assertTrue(addressBook.getTodosVersion() > todosVersion);
+        assertEquals(eventsVersion, addressBook.getEventsVersion());
+    }
+
+    @Test
+    public void versions_commitBatch_onlyChangedListsGrow() {
+        long eventsVersion = addressBook.getEventsVersion();
+        long todosVersion = addressBook.getTodosVersion();
+
+        addressBook.beginBatch();
+        addressBook.addPerson(ALICE);
+        long personsVersionInBatch = addressBook.getPersonsVersion();
+        addressBook.commitBatch();
+
+        // the changes made during a batch are only published by its commit
+        assertTrue(addressBook.getPersonsVersion() > personsVersionInBatch);
+        assertEquals(eventsVersion, addressBook.getEventsVersion());
+        assertEquals(todosVersion, addressBook.getTodosVersion());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notReflected() {
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        List<Person> personsBefore = List.copyOf(addressBook.getPersonList());
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        addressBook.addTodo(new TodoBuilder().build());
+
+        assertEquals(personsBefore, snapshot.getPersonList());
+        assertEquals(Collections.emptyList(), snapshot.getTodoList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void snapshot_openBatch_excludesUncommittedChanges() {
+        addressBook.beginBatch();
+        addressBook.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        addressBook.commitBatch();
+
+        assertEquals(Collections.emptyList(), snapshot.getPersonList());
+        assertEquals(1, addressBook.snapshot().getPersonList().size());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -148,30 +308,62 @@ public class AddressBookTest {
         assertFalse(completeAddressBook1.equals(addressBookWithDifferentTodos));
     }
 
+    @Test
+    public void builder_typicalRecords_buildsEquivalentAddressBook() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        AddressBook.Builder builder = new AddressBook.Builder();
+        typicalAddressBook.getPersonList().forEach(builder::addPerson);
+        typicalAddressBook.getEventList().forEach(builder::addEvent);
+        typicalAddressBook.getTodoList().forEach(builder::addTodo);
+
+        AddressBook builtAddressBook = builder.build();
+        assertEquals(typicalAddressBook, builtAddressBook);
+        assertEquals(typicalAddressBook.getPersonsLinkedToEvent(CONCERT.getId()),
+                builtAddressBook.getPersonsLinkedToEvent(CONCERT.getId()));
+    }
+
+    @Test
+    public void builder_duplicatePersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        AddressBook.Builder builder = new AddressBook.Builder().addPerson(ALICE).addPerson(editedAlice);
+        assertThrows(DuplicatePersonException.class, builder::build);
+    }
+
+    @Test
+    public void builder_nullRecord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBook.Builder().addPerson(null));
+        assertThrows(NullPointerException.class, () -> new AddressBook.Builder().addEvent(null));
+        assertThrows(NullPointerException.class, () -> new AddressBook.Builder().addTodo(null));
+    }
+
+    private static List<Object> recordsOf(List<SearchResult> results) {
+        return results.stream().map(SearchResult::getRecord).toList();
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
     private static class AddressBookStub implements ReadOnlyAddressBook {
-        private final ObservableList<Person> persons = FXCollections.observableArrayList();
-        private final ObservableList<Event> events = FXCollections.observableArrayList();
-        private final ObservableList<Todo> todos = FXCollections.observableArrayList();
+        private final ListenableTreeList<Person> persons = new ListenableTreeList<>();
+        private final ListenableTreeList<Event> events = new ListenableTreeList<>();
+        private final ListenableTreeList<Todo> todos = new ListenableTreeList<>();
 
         AddressBookStub(Collection<Person> persons) {
             this.persons.setAll(persons);
         }
 
         @Override
-        public ObservableList<Person> getPersonList() {
+        public ListenableList<Person> getPersonList() {
             return persons;
         }
 
         @Override
-        public ObservableList<Event> getEventList() {
+        public ListenableList<Event> getEventList() {
             return events;
         }
 
         @Override
-        public ObservableList<Todo> getTodoList() {
+        public ListenableList<Todo> getTodoList() {
             return todos;
         }
     }
@@ -0,0 +1,119 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    // indexes each string by its words
+    private final BkTree<String> index = new BkTree<>(text -> List.of(text.split(" ")));
+
+    @Test
+    public void add_nullRecord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getRecordsWithWordWithin_emptyIndex_returnsEmptySet() {
+        assertTrue(index.getRecordsWithWordWithin("alice", 2).isEmpty());
+    }
+
+    @Test
+    public void getRecordsWithWordWithin_typos_returnsRecordsWithCloseWords() {
+        index.add("alice pauline");
+        index.add("alicia tan");
+        index.add("bob lee");
+
+        assertEquals(Set.of("alice pauline"), index.getRecordsWithWordWithin("alice", 0));
+        assertEquals(Set.of("alice pauline"), index.getRecordsWithWordWithin("alicr", 1));
+        assertEquals(Set.of("alice pauline", "alicia tan"), index.getRecordsWithWordWithin("alcie", 2));
+        assertEquals(Set.of("bob lee"), index.getRecordsWithWordWithin("le", 1));
+        assertTrue(index.getRecordsWithWordWithin("carol", 1).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedRecord_noLongerFound() {
+        index.add("alice pauline");
+        index.add("alicia tan");
+        index.remove("alicia tan");
+        assertEquals(Set.of("alice pauline"), index.getRecordsWithWordWithin("alice", 2));
+
+        // the word of a removed record is found again once another record holds it
+        index.add("tan ah kow");
+        assertEquals(Set.of("tan ah kow"), index.getRecordsWithWordWithin("tan", 0));
+
+        // removing a record that is not indexed does nothing
+        index.remove("bob lee");
+        assertEquals(Set.of("alice pauline"), index.getRecordsWithWordWithin("pauline", 0));
+    }
+
+    @Test
+    public void getRecordsWithWordWithin_afterManyChanges_agreesWithScan() {
+        Random random = new Random(7);
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String record = randomWord(random) + " " + randomWord(random) + " " + i;
+            records.add(record);
+            index.add(record);
+        }
+        // removing most records rebuilds the tree along the way
+        for (int i = 0; i < 250; i++) {
+            index.remove(records.remove(random.nextInt(records.size())));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String word = randomWord(random);
+            int maxDistance = random.nextInt(3);
+            Set<String> expected = new HashSet<>();
+            for (String record : records) {
+                for (String recordWord : record.split(" ")) {
+                    if (StringUtil.editDistance(word, recordWord) <= maxDistance) {
+                        expected.add(record);
+                    }
+                }
+            }
+            assertEquals(expected, index.getRecordsWithWordWithin(word, maxDistance));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    @Test
+    public void getRecordsWithWordWithin_indexOverRecords_builtFromRecordsOnFirstQuery() {
+        List<String> records = new ArrayList<>(List.of("alice pauline", "bob lee"));
+        BkTree<String> lazyIndex = new BkTree<>(text -> List.of(text.split(" ")), records);
+        // not built yet, so the index leaves changes to the records
+        records.add("alicia tan");
+        lazyIndex.add("alicia tan");
+
+        assertEquals(Set.of("alice pauline", "alicia tan"), lazyIndex.getRecordsWithWordWithin("alcie", 2));
+
+        // built, so the index follows changes
+        records.remove("alicia tan");
+        lazyIndex.remove("alicia tan");
+        assertEquals(Set.of("alice pauline"), lazyIndex.getRecordsWithWordWithin("alcie", 2));
+
+        // cleared, so the index is built again on its next query
+        records.set(0, "alicr tan");
+        lazyIndex.clear();
+        assertEquals(Set.of("alicr tan"), lazyIndex.getRecordsWithWordWithin("alice", 1));
+    }
+}
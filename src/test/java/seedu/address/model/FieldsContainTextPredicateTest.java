@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonContainsTextPredicate;
+import seedu.address.model.todo.Todo;
+import seedu.address.model.todo.TodoContainsTextPredicate;
+import seedu.address.testutil.TodoBuilder;
+
+public class FieldsContainTextPredicateTest {
+
+    @Test
+    public void test_personNameOrAddressContainsText_returnsTrue() {
+        // part of a word in the name, in mixed case
+        assertTrue(new PersonContainsTextPredicate("pAUL").test(ALICE));
+
+        // across words in the address
+        assertTrue(new PersonContainsTextPredicate("jurong west").test(ALICE));
+    }
+
+    @Test
+    public void test_noFieldContainsText_returnsFalse() {
+        assertFalse(new PersonContainsTextPredicate("jurong").test(BENSON));
+        // the email is not searched
+        assertFalse(new PersonContainsTextPredicate("alice@").test(ALICE));
+    }
+
+    @Test
+    public void test_todoCompletionChanged_stillMatches() {
+        Todo todo = new TodoBuilder().withDescription("Book the meeting room").build();
+        TodoContainsTextPredicate predicate = new TodoContainsTextPredicate("MEETING");
+        assertTrue(predicate.test(todo));
+        assertTrue(predicate.test(todo.withCompletionStatus(true)));
+    }
+
+    @Test
+    public void equals() {
+        PersonContainsTextPredicate predicate = new PersonContainsTextPredicate("street");
+
+        // same text -> returns true
+        assertTrue(predicate.equals(new PersonContainsTextPredicate("street")));
+        assertEquals(predicate.hashCode(), new PersonContainsTextPredicate("street").hashCode());
+
+        // different text -> returns false
+        assertFalse(predicate.equals(new PersonContainsTextPredicate("ave")));
+
+        // same text over other records -> returns false
+        assertFalse(predicate.equals(new TodoContainsTextPredicate("street")));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+public class FilterCacheTest {
+
+    private final FilterCache<Person> cache = new FilterCache<>(2);
+
+    @Test
+    public void get_equalPredicateSameVersion_returnsCachedPositions() {
+        cache.put(new NameContainsKeywordsPredicate(List.of("alice")), 1, () -> new int[] {0, 2});
+        assertEquals("[0, 2]", positionsOf(cache.get(new NameContainsKeywordsPredicate(List.of("alice")), 1)));
+    }
+
+    @Test
+    public void get_otherVersion_returnsNull() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("alice"));
+        cache.put(predicate, 1, () -> new int[] {0});
+        assertNull(cache.get(predicate, 2));
+
+        // the stale result is forgotten
+        assertNull(cache.get(predicate, 1));
+    }
+
+    @Test
+    public void put_predicateWithoutValueEquality_notCached() {
+        Predicate<Person> predicate = person -> true;
+        cache.put(predicate, 1, () -> {
+            throw new AssertionError("The positions should not be computed.");
+        });
+        assertNull(cache.get(predicate, 1));
+    }
+
+    @Test
+    public void put_overCapacity_forgetsLeastRecentlyUsed() {
+        NameContainsKeywordsPredicate alice = new NameContainsKeywordsPredicate(List.of("alice"));
+        NameContainsKeywordsPredicate bob = new NameContainsKeywordsPredicate(List.of("bob"));
+        NameContainsKeywordsPredicate carl = new NameContainsKeywordsPredicate(List.of("carl"));
+        cache.put(alice, 1, () -> new int[] {0});
+        cache.put(bob, 1, () -> new int[] {1});
+        cache.get(alice, 1);
+        cache.put(carl, 1, () -> new int[] {2});
+
+        assertEquals("[0]", positionsOf(cache.get(alice, 1)));
+        assertNull(cache.get(bob, 1));
+        assertEquals("[2]", positionsOf(cache.get(carl, 1)));
+    }
+
+    private static String positionsOf(int[] positions) {
+        return Arrays.toString(positions);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+public class IndexedMatchPredicateTest {
+
+    private final NameContainsKeywordsPredicate query = new NameContainsKeywordsPredicate(List.of("Alice"));
+
+    @Test
+    public void test_runsQueryWhateverTheCandidates() {
+        IndexedMatchPredicate<Person> predicate = new IndexedMatchPredicate<>(query, Set.of(BENSON));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+    }
+
+    @Test
+    public void getMatchPositions_onlyMatchingCandidatesInList() {
+        List<Person> list = List.of(CARL, BENSON, ALICE);
+        NameContainsKeywordsPredicate names = new NameContainsKeywordsPredicate(List.of("Alice", "Benson", "Daniel"));
+        IndexedMatchPredicate<Person> predicate = new IndexedMatchPredicate<>(names, List.of(ALICE, BENSON, DANIEL));
+
+        assertArrayEquals(new int[] {1, 2}, predicate.getMatchPositions(list::indexOf));
+    }
+
+    @Test
+    public void equals() {
+        IndexedMatchPredicate<Person> predicate = new IndexedMatchPredicate<>(query, Set.of(ALICE));
+
+        // same query -> returns true, whatever the candidates it was given
+        IndexedMatchPredicate<Person> sameQuery = new IndexedMatchPredicate<>(
+                new NameContainsKeywordsPredicate(List.of("Alice")), Set.of());
+        assertTrue(predicate.equals(sameQuery));
+        assertEquals(predicate.hashCode(), sameQuery.hashCode());
+
+        // different query -> returns false
+        assertFalse(predicate.equals(new IndexedMatchPredicate<>(
+                new NameContainsKeywordsPredicate(List.of("Benson")), Set.of(ALICE))));
+
+        // the query itself -> returns false
+        assertFalse(predicate.equals(query));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+    }
+}
@@ -2,24 +2,39 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.list.ListObserver;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventAlias;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.todo.Todo;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TodoBuilder;
 
 public class ModelManagerTest {
 
@@ -32,6 +47,19 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void takingOwnershipOf_loadedAddressBook_holdsItWithoutCopying() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        ModelManager owner = ModelManager.takingOwnershipOf(addressBook, new UserPrefs());
+        assertSame(addressBook, owner.getAddressBook());
+
+        // the model still records the changes made through it
+        owner.addPerson(BENSON);
+        owner.commitAddressBook();
+        owner.undoAddressBook();
+        assertEquals(List.of(ALICE), owner.getAddressBook().getPersonList());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -91,6 +119,229 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findEventByAlias_nullAlias_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findEventByAlias(null));
+    }
+
+    @Test
+    public void findEventByAlias_eventInAddressBook_returnsEventIgnoringCase() {
+        Event event = new EventBuilder().withAlias("MEET").build();
+        modelManager.addEvent(event);
+        assertEquals(Optional.of(event), modelManager.findEventByAlias(new EventAlias("meet")));
+        assertEquals(Optional.empty(), modelManager.findEventByAlias(new EventAlias("CONC")));
+    }
+
+    @Test
+    public void commitBatch_severalPersonsEdited_personListChangesOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        AtomicInteger changeCount = new AtomicInteger();
+        modelManager.getAddressBook().getPersonList().addListener((ListObserver<Person>) (from, removed, added) ->
+                changeCount.incrementAndGet());
+        Person linkedAlice = new PersonBuilder(ALICE).withLinkedEvent(CONCERT.getId()).build();
+        Person linkedBenson = new PersonBuilder(BENSON).withLinkedEvent(CONCERT.getId()).build();
+
+        modelManager.beginBatch();
+        modelManager.setPerson(ALICE, linkedAlice);
+        modelManager.setPerson(BENSON, linkedBenson);
+        assertEquals(Arrays.asList(linkedAlice, linkedBenson),
+                modelManager.getPersonsLinkedToEvent(CONCERT.getId()));
+        modelManager.commitBatch();
+
+        assertEquals(1, changeCount.get());
+        assertEquals(Arrays.asList(linkedAlice, linkedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_equalPredicateAfterBatch_onlyChangedPersonsUpdated() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice", "Carl")));
+        List<String> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListObserver<Person>) (from, removed, added) ->
+                changes.add(from + ":" + removed.size() + "->" + added.size()));
+        Person linkedCarl = new PersonBuilder(CARL).withLinkedEvent(CONCERT.getId()).build();
+
+        modelManager.beginBatch();
+        modelManager.setPerson(CARL, linkedCarl);
+        modelManager.commitBatch();
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice", "Carl")));
+
+        assertEquals(Arrays.asList(ALICE, linkedCarl), modelManager.getFilteredPersonList());
+        assertEquals(List.of("1:1->1"), changes);
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedOnUnchangedPersons_reusesCachedMatches() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs());
+        AtomicInteger testCount = new AtomicInteger();
+
+        modelManager.updateFilteredPersonList(new CountingNamePredicate("Alice", testCount));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new CountingNamePredicate("Alice", testCount));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(3, testCount.get());
+
+        // a change to the persons invalidates the cached matches
+        modelManager.addPerson(DANIEL);
+        assertEquals(4, testCount.get()); // the added person, while still filtered
+        modelManager.updateFilteredPersonList(new CountingNamePredicate("Alice", testCount));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(8, testCount.get());
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedMatchPredicate_onlyCandidatesTested() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs());
+        AtomicInteger testCount = new AtomicInteger();
+
+        modelManager.updateFilteredPersonList(new IndexedMatchPredicate<>(new CountingNamePredicate("Alice", testCount),
+                modelManager.getPersonsWithNameWordWithin("Alice", 0)));
+
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(1, testCount.get());
+    }
+
+    @Test
+    public void updateFilteredPersonList_equalIndexedMatchPredicateAfterChange_showsCurrentMatches() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .build(), new UserPrefs());
+        PersonQuery query = new PersonQuery(List.of(), null, CONCERT.getEventAlias(), null, null)
+                .withLinkedEvent(CONCERT);
+        Person linkedAlice = new PersonBuilder(ALICE).withLinkedEvent(CONCERT.getId()).build();
+        modelManager.setPerson(ALICE, linkedAlice);
+
+        modelManager.updateFilteredPersonList(new IndexedMatchPredicate<>(query,
+                modelManager.getPersonCandidates(query)));
+        assertEquals(List.of(linkedAlice), modelManager.getFilteredPersonList());
+
+        // the person no longer matches, so filtering by an equal predicate must not keep showing it
+        modelManager.setPerson(linkedAlice, ALICE);
+        modelManager.updateFilteredPersonList(new IndexedMatchPredicate<>(query,
+                modelManager.getPersonCandidates(query)));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // nor reuse a result cached for the contents before the change
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new IndexedMatchPredicate<>(query,
+                modelManager.getPersonCandidates(query)));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void undoAddressBook_deletedPerson_restoredWithPositionAndId() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withPerson(CARL).build(), new UserPrefs());
+        List<Person> persons = List.copyOf(modelManager.getFilteredPersonList());
+        long bensonId = persons.get(1).getId();
+
+        modelManager.deletePerson(BENSON);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        assertEquals(persons, modelManager.getFilteredPersonList());
+        assertEquals(bensonId, modelManager.getFilteredPersonList().get(1).getId());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(Arrays.asList(ALICE, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void undoAddressBook_renamedPerson_restoresOnlyPerson() {
+        Todo todo = new TodoBuilder().withContact(ALICE.getId()).build();
+        modelManager.addPerson(ALICE);
+        modelManager.addTodo(todo);
+        modelManager.commitAddressBook();
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+
+        modelManager.setPerson(ALICE, renamedAlice);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(List.of(todo), modelManager.getTodosLinkedToPerson(ALICE.getId()));
+        assertEquals(Optional.of(ALICE), modelManager.findContact(todo));
+
+        modelManager.redoAddressBook();
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredPersonList());
+        assertEquals(List.of(todo), modelManager.getTodosLinkedToPerson(ALICE.getId()));
+        assertEquals(renamedAlice.getName(), modelManager.findContact(todo).get().getName());
+    }
+
+    @Test
+    public void undoAddressBook_clearedAddressBook_restoresData() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.undoAddressBook();
+
+        assertEquals(addressBook, modelManager.getAddressBook());
+        assertTrue(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_changeAfterUndo_forgetsRedoableChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        assertFalse(modelManager.canRedoAddressBook());
+        modelManager.undoAddressBook();
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_noChanges_keepsRedoableChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        modelManager.commitAddressBook();
+
+        assertTrue(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_recordsReplacedWithThemselves_nothingToUndo() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        addressBook.addTodo(new TodoBuilder().withCompleted(false).build());
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        Person person = modelManager.getFilteredPersonList().get(0);
+        Todo todo = modelManager.getFilteredTodoList().get(0);
+
+        modelManager.setPerson(person, person.withoutLinkedEvent());
+        modelManager.setTodo(todo, todo.withCompletionStatus(false));
+        modelManager.setTodo(todo, todo.withoutContact());
+        modelManager.commitAddressBook();
+
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void setUserPrefs_smallUndoHistoryLimit_forgetsOldestChanges() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(1);
+        modelManager.setUserPrefs(userPrefs);
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -178,4 +429,22 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * A {@code NameContainsKeywordsPredicate} that counts the persons it tests.
+     */
+    private static class CountingNamePredicate extends NameContainsKeywordsPredicate {
+        private final AtomicInteger testCount;
+
+        CountingNamePredicate(String keyword, AtomicInteger testCount) {
+            super(List.of(keyword));
+            this.testCount = testCount;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            testCount.incrementAndGet();
+            return super.test(person);
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryPlannerTest {
+    private static final String[] NAME_WORDS = {"tan", "lee", "lim", "ong"};
+    private static final String[] TAGS = {"vip", "friends", "colleagues"};
+    private static final String[] ALIASES = {"TSC2025", "MEET24"};
+
+    @Test
+    public void getPersonCandidates_nullQuery_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBook().getPersonCandidates(null));
+    }
+
+    @Test
+    public void getPersonCandidates_typicalPersons_fromMostSelectiveIndex() {
+        AddressBook addressBook = AddressBookBuilder.getTypicalAddressBook();
+        TagExpression friends = TagExpression.of(new Tag("friends"));
+
+        // the name index gives fewer persons than the tag index
+        assertEquals(namesOf(BENSON, DANIEL), namesOf(addressBook.getPersonCandidates(
+                new PersonQuery(List.of("meier"), friends, null, null, null))));
+
+        // the tag index gives the candidates, and the phone is left to the query
+        assertEquals(namesOf(ALICE, BENSON, DANIEL), namesOf(addressBook.getPersonCandidates(
+                new PersonQuery(List.of(), friends, null, "9435", null))));
+
+        // without an indexed criterion, every person is a candidate
+        assertEquals(addressBook.getPersonList().size(), addressBook.getPersonCandidates(
+                new PersonQuery(List.of(), null, null, null, "JOHND")).size());
+    }
+
+    @Test
+    public void getPersonCandidates_randomQueries_includeEveryMatch() {
+        Random random = new Random(25);
+        AddressBook addressBook = new AddressBook();
+        for (String alias : ALIASES) {
+            addressBook.addEvent(new EventBuilder().withAlias(alias).build());
+        }
+        for (int i = 0; i < 200; i++) {
+            PersonBuilder person = new PersonBuilder()
+                    .withName(pick(random, NAME_WORDS) + " " + pick(random, NAME_WORDS) + " " + i)
+                    .withPhone(String.valueOf(90000000 + random.nextInt(10000)))
+                    .withEmail("user" + random.nextInt(20) + "@example.com")
+                    .withTags(pick(random, TAGS));
+            if (random.nextBoolean()) {
+                EventAlias alias = new EventAlias(pick(random, ALIASES));
+                person.withLinkedEvent(addressBook.findEventByAlias(alias).get().getId());
+            }
+            addressBook.addPerson(person.build());
+        }
+
+        for (int i = 0; i < 100; i++) {
+            PersonQuery unresolvedQuery = new PersonQuery(
+                    random.nextBoolean() ? List.of(pick(random, NAME_WORDS)) : List.of(),
+                    random.nextBoolean() ? TagExpression.of(new Tag(pick(random, TAGS))) : null,
+                    random.nextBoolean() ? new EventAlias(pick(random, ALIASES)) : null,
+                    random.nextBoolean() ? String.valueOf(random.nextInt(10)) : null,
+                    random.nextBoolean() ? "user" + random.nextInt(20) : null);
+            PersonQuery query = unresolvedQuery.getEventAlias().flatMap(addressBook::findEventByAlias)
+                    .map(unresolvedQuery::withLinkedEvent).orElse(unresolvedQuery);
+            Set<Person> expected = addressBook.getPersonList().stream().filter(query).collect(Collectors.toSet());
+            assertEquals(expected, addressBook.getPersonCandidates(query).stream().filter(query)
+                    .collect(Collectors.toSet()));
+        }
+    }
+
+    private static String pick(Random random, String[] choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+
+    private static Set<String> namesOf(Person... persons) {
+        return namesOf(Set.of(persons));
+    }
+
+    private static Set<String> namesOf(Collection<Person> persons) {
+        Set<String> names = new HashSet<>();
+        for (Person person : persons) {
+            names.add(person.getName().fullName);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ReverseIndexTest {
+
+    private final ReverseIndex<String> index = new ReverseIndex<>();
+
+    @Test
+    public void get_unknownId_returnsEmptyList() {
+        assertTrue(index.get(1).isEmpty());
+    }
+
+    @Test
+    public void add_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(1, null));
+    }
+
+    @Test
+    public void add_multipleValues_returnedInInsertionOrder() {
+        index.add(1, "x");
+        index.add(2, "y");
+        index.add(1, "z");
+        index.add(1, "x");
+        assertEquals(Arrays.asList("x", "z"), index.get(1));
+        assertEquals(Arrays.asList("y"), index.get(2));
+    }
+
+    @Test
+    public void remove_existingValue_removesOnlyThatLink() {
+        index.add(1, "x");
+        index.add(1, "z");
+        index.remove(1, "x");
+        index.remove(2, "z");
+        assertEquals(Arrays.asList("z"), index.get(1));
+
+        index.remove(1, "z");
+        assertTrue(index.get(1).isEmpty());
+    }
+
+    @Test
+    public void get_modifyReturnedList_doesNotAffectIndex() {
+        index.add(1, "x");
+        List<String> values = index.get(1);
+        values.clear();
+        assertEquals(Arrays.asList("x"), index.get(1));
+    }
+
+    @Test
+    public void clear_removesAllLinks() {
+        index.add(1, "x");
+        index.add(2, "y");
+        index.clear();
+        assertTrue(index.get(1).isEmpty());
+        assertTrue(index.get(2).isEmpty());
+    }
+}
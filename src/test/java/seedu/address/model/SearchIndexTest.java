@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalTodos.SEND_INVITES;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
+import seedu.address.testutil.PersonBuilder;
+
+public class SearchIndexTest {
+
+    private final SearchIndex index = new SearchIndex();
+
+    @Test
+    public void termsOf_mixedText_splitsAtNonAlphanumericsInLowerCase() {
+        assertEquals(List.of("123", "jurong", "west", "ave", "6", "08", "111"),
+                SearchIndex.termsOf("123, Jurong West Ave 6, #08-111"));
+        assertTrue(SearchIndex.termsOf(" ,. ").isEmpty());
+    }
+
+    @Test
+    public void search_emptyIndexOrQuery_returnsEmptyList() {
+        assertTrue(index.search(List.of("alice"), 10).isEmpty());
+        index.add(ALICE);
+        assertTrue(index.search(List.of(), 10).isEmpty());
+        assertTrue(index.search(List.of("#"), 10).isEmpty());
+        assertTrue(index.search(List.of("alice"), 0).isEmpty());
+    }
+
+    @Test
+    public void search_keywordInEveryRecordType_findsAllIgnoringCase() {
+        index.add(ALICE);
+        index.add(MEETING);
+        index.add(SEND_INVITES);
+        index.add(CARL);
+
+        assertEquals(List.of(ALICE), recordsOf(index.search(List.of("ALICE"), 10)));
+        assertEquals(List.of(MEETING, SEND_INVITES), recordsOf(index.search(List.of("meeting"), 10)));
+    }
+
+    @Test
+    public void search_rarerTerm_ranksHigher() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+
+        // "friends" is on two persons, "pauline" on one
+        List<SearchResult> results = index.search(List.of("friends", "pauline"), 10);
+        assertEquals(List.of(ALICE, BENSON), recordsOf(results));
+        assertTrue(results.get(0).getScore() > results.get(1).getScore());
+    }
+
+    @Test
+    public void search_shorterRecord_ranksHigher() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withTags("friends", "colleagues", "neighbours").build();
+        Person bob = new PersonBuilder().withName("Bob Choo").withTags("friends").build();
+        index.add(amy);
+        index.add(bob);
+
+        assertEquals(List.of(bob, amy), recordsOf(index.search(List.of("friends"), 10)));
+    }
+
+    @Test
+    public void search_limit_returnsMostRelevantOnly() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(CARL);
+
+        assertEquals(List.of(ALICE), recordsOf(index.search(List.of("friends", "pauline"), 1)));
+    }
+
+    @Test
+    public void remove_indexedRecord_noLongerFound() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.remove(ALICE);
+
+        assertEquals(List.of(BENSON), recordsOf(index.search(List.of("friends", "pauline"), 10)));
+
+        // removing a record that is not indexed does nothing
+        index.remove(ALICE);
+        index.remove(MEETING);
+        assertEquals(List.of(BENSON), recordsOf(index.search(List.of("friends"), 10)));
+    }
+
+    private static List<Object> recordsOf(List<SearchResult> results) {
+        return results.stream().map(SearchResult::getRecord).toList();
+    }
+
+    @Test
+    public void search_indexOverRecords_builtFromRecordsOnFirstSearch() {
+        List<Person> persons = new ArrayList<>(List.of(ALICE));
+        List<Event> events = new ArrayList<>(List.of(MEETING));
+        List<Todo> todos = new ArrayList<>();
+        SearchIndex lazyIndex = new SearchIndex(persons, events, todos);
+        // not built yet, so the index leaves changes to the records
+        todos.add(SEND_INVITES);
+        lazyIndex.add(SEND_INVITES);
+
+        assertEquals(List.of(MEETING, SEND_INVITES), recordsOf(lazyIndex.search(List.of("meeting"), 10)));
+
+        // built, so the index follows changes
+        persons.add(CARL);
+        lazyIndex.add(CARL);
+        assertEquals(List.of(CARL), recordsOf(lazyIndex.search(List.of("carl"), 10)));
+
+        // cleared, so the index is built again on its next search
+        events.clear();
+        lazyIndex.clear();
+        assertEquals(List.of(SEND_INVITES), recordsOf(lazyIndex.search(List.of("meeting"), 10)));
+    }
+}
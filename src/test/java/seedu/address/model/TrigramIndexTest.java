@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    // indexes each string by its words, so that a match must lie within one word
+    private final TrigramIndex<String> index = new TrigramIndex<>(text -> List.of(text.split(" ")));
+
+    @Test
+    public void add_nullRecord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void getRecordsContaining_substring_returnsRecordsContainingItIgnoringCase() {
+        index.add("Alice Pauline");
+        index.add("Paula Tan");
+        index.add("Bob Lee");
+
+        assertEquals(Set.of("Alice Pauline", "Paula Tan"), index.getRecordsContaining("PAUL"));
+        assertEquals(Set.of("Alice Pauline"), index.getRecordsContaining("uline"));
+        assertTrue(index.getRecordsContaining("xyz").isEmpty());
+    }
+
+    @Test
+    public void getRecordsContaining_allTrigramsButNotText_returnsEmptySet() {
+        // holds the trigrams "abc" and "bcd" but not "abcd"
+        index.add("abcx bcdx");
+        assertTrue(index.getRecordsContaining("abcd").isEmpty());
+
+        // the text spans two fields
+        assertTrue(index.getRecordsContaining("x bc").isEmpty());
+    }
+
+    @Test
+    public void getRecordsContaining_shortText_checksEveryRecord() {
+        index.add("Alice Pauline");
+        index.add("Bob Lee");
+
+        assertEquals(Set.of("Alice Pauline", "Bob Lee"), index.getRecordsContaining("e"));
+        assertEquals(Set.of("Bob Lee"), index.getRecordsContaining("EE"));
+        assertEquals(Set.of("Alice Pauline", "Bob Lee"), index.getRecordsContaining(""));
+    }
+
+    @Test
+    public void remove_indexedRecord_noLongerFound() {
+        index.add("Alice Pauline");
+        index.add("Paula Tan");
+        index.remove("Paula Tan");
+        assertEquals(Set.of("Alice Pauline"), index.getRecordsContaining("paul"));
+
+        // removing a record that is not indexed does nothing
+        index.remove("Paula Tan");
+        index.clear();
+        assertTrue(index.getRecordsContaining("paul").isEmpty());
+    }
+
+    @Test
+    public void getRecordsContaining_indexOverRecords_builtFromRecordsOnFirstQuery() {
+        List<String> records = new ArrayList<>(List.of("Alice Pauline", "Bob Lee"));
+        TrigramIndex<String> lazyIndex = new TrigramIndex<>(text -> List.of(text.split(" ")), records);
+        // not built yet, so the index leaves changes to the records
+        records.add("Paula Tan");
+        lazyIndex.add("Paula Tan");
+
+        assertEquals(Set.of("Alice Pauline", "Paula Tan"), lazyIndex.getRecordsContaining("paul"));
+
+        // built, so the index follows changes
+        records.remove("Paula Tan");
+        lazyIndex.remove("Paula Tan");
+        assertEquals(Set.of("Alice Pauline"), lazyIndex.getRecordsContaining("paul"));
+
+        // cleared, so the index is built again on its next query
+        records.set(0, "Paul Tan");
+        lazyIndex.clear();
+        assertEquals(Set.of("Paul Tan"), lazyIndex.getRecordsContaining("paul"));
+    }
+}
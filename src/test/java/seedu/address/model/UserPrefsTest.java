@@ -18,4 +18,11 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryLimit_negativeLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_INVALID_UNDO_HISTORY_LIMIT, () ->
+                userPrefs.setUndoHistoryLimit(-1));
+    }
+
 }
@@ -38,6 +38,9 @@ public class AliasContainsKeywordsPredicateTest {
 
         // different event -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different typos -> returns false
+        assertFalse(firstPredicate.equals(new AliasContainsKeywordsPredicate(firstPredicateKeywordList, 1)));
     }
 
     @Test
@@ -81,12 +84,23 @@ public class AliasContainsKeywordsPredicateTest {
                 .build()));
     }
 
+    @Test
+    public void test_aliasWithinTypos_returnsTrue() {
+        AliasContainsKeywordsPredicate predicate = new AliasContainsKeywordsPredicate(List.of("tcs2025"), 2);
+        assertTrue(predicate.test(new EventBuilder().withAlias("TSC2025").build()));
+
+        predicate = new AliasContainsKeywordsPredicate(List.of("tsc2024"), 1);
+        assertFalse(predicate.test(new EventBuilder().withAlias("TSC2025X").build()));
+        assertTrue(predicate.test(new EventBuilder().withAlias("TSC2025").build()));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
         AliasContainsKeywordsPredicate predicate = new AliasContainsKeywordsPredicate(keywords);
 
-        String expected = AliasContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        String expected = AliasContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords
+                + ", maxTypos=0}";
         assertEquals(expected, predicate.toString());
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -56,4 +57,9 @@ public class EventAliasTest {
         assertFalse(alias.equals(new EventAlias("Other-Valid-Alias")));
     }
 
+    @Test
+    public void hashCode_sameAliasDifferentCase_sameHashCode() {
+        assertEquals(new EventAlias("Valid-Alias").hashCode(), new EventAlias("VALID-alias").hashCode());
+    }
+
 }
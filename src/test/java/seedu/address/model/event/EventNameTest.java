@@ -1,5 +1,6 @@
 package seedu.address.model.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -55,4 +56,9 @@ public class EventNameTest {
         // different values -> returns false
         assertFalse(name.equals(new EventName("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertEquals(new EventName("Valid Name").hashCode(), new EventName("VALID name").hashCode());
+    }
 }
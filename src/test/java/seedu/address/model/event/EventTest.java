@@ -34,6 +34,17 @@ public class EventTest {
         assertTrue(MEETING.isSameEvent(editedMeeting));
     }
 
+    @Test
+    public void hashCodeMethod() {
+        // equal events -> same hash code
+        assertEquals(CONCERT.hashCode(), new EventBuilder(CONCERT).build().hashCode());
+
+        // name differs only in case -> equal, so same hash code
+        Event renamedConcert = new EventBuilder(CONCERT).withName(CONCERT.getName().toUpperCase()).build();
+        assertEquals(CONCERT, renamedConcert);
+        assertEquals(CONCERT.hashCode(), renamedConcert.hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = "Event{"
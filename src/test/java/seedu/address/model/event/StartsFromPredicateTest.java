@@ -0,0 +1,60 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.EventBuilder;
+
+public class StartsFromPredicateTest {
+    private static final LocalDateTime NINE = LocalDateTime.of(2025, 9, 19, 9, 0);
+    private static final LocalDateTime TEN = NINE.plusHours(1);
+
+    private final Event early = new EventBuilder().withAlias("EARLY").withStart(NINE).withEnd(TEN).build().withId(5);
+    private final Event tied = new EventBuilder().withAlias("TIED").withStart(TEN).withEnd(TEN.plusHours(1)).build()
+            .withId(3);
+    private final Event last = new EventBuilder().withAlias("LAST").withStart(TEN).withEnd(TEN.plusHours(1)).build()
+            .withId(4);
+    private final Event later = new EventBuilder().withAlias("LATER").withStart(TEN).withEnd(TEN.plusHours(2)).build()
+            .withId(6);
+
+    @Test
+    public void test_lastEventGiven_matchesUpToLastInStartAndIdOrder() {
+        StartsFromPredicate predicate = new StartsFromPredicate(NINE, last);
+        assertTrue(predicate.test(early));
+        assertTrue(predicate.test(tied));
+        assertTrue(predicate.test(last));
+        // starts at the same time as the last event, but comes after it
+        assertFalse(predicate.test(later));
+        // starts before the given time
+        assertFalse(new StartsFromPredicate(TEN, last).test(early));
+    }
+
+    @Test
+    public void test_noLastEvent_matchesEveryEventFromTime() {
+        StartsFromPredicate predicate = new StartsFromPredicate(TEN, null);
+        assertFalse(predicate.test(early));
+        assertTrue(predicate.test(later));
+    }
+
+    @Test
+    public void equals() {
+        StartsFromPredicate predicate = new StartsFromPredicate(NINE, last);
+
+        // same time and last event -> returns true
+        assertTrue(predicate.equals(new StartsFromPredicate(NINE, last)));
+
+        // different last event -> returns false
+        assertFalse(predicate.equals(new StartsFromPredicate(NINE, tied)));
+        assertFalse(predicate.equals(new StartsFromPredicate(NINE, null)));
+
+        // different time -> returns false
+        assertFalse(predicate.equals(new StartsFromPredicate(TEN, last)));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+    }
+}
@@ -6,15 +6,23 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.CONCERT;
 import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.WORKSHOP;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.testutil.EventBuilder;
 
 
 public class UniqueEventListTest {
@@ -37,6 +45,150 @@ public class UniqueEventListTest {
     }
 
 
+    @Test
+    public void contains_eventWithSameAliasDifferentCase_returnsTrue() {
+        uniqueEventList.add(CONCERT);
+        Event lowerCaseConcert = new EventBuilder(CONCERT).withAlias(CONCERT.getAlias().toLowerCase()).build();
+        assertTrue(uniqueEventList.contains(lowerCaseConcert));
+    }
+
+    @Test
+    public void getEventsStartingBetween_eventsAddedOutOfOrder_returnsEventsByStart() {
+        uniqueEventList.add(CONCERT);
+        uniqueEventList.add(WORKSHOP);
+        uniqueEventList.add(MEETING);
+        assertEquals(Arrays.asList(MEETING, WORKSHOP), uniqueEventList.getEventsStartingBetween(
+                LocalDateTime.of(2024, 12, 25, 10, 0), LocalDateTime.of(2025, 9, 19, 19, 30)));
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsStartingBetween(
+                LocalDateTime.of(2025, 9, 19, 19, 30), LocalDateTime.of(2024, 12, 25, 10, 0)));
+    }
+
+    @Test
+    public void getEventsStartingFrom_moreEventsThanCount_returnsFirstEventsByStart() {
+        uniqueEventList.add(CONCERT);
+        uniqueEventList.add(WORKSHOP);
+        uniqueEventList.add(MEETING);
+        assertEquals(Arrays.asList(MEETING, WORKSHOP),
+                uniqueEventList.getEventsStartingFrom(LocalDateTime.of(2024, 12, 25, 10, 0), 2));
+        assertEquals(Arrays.asList(WORKSHOP, CONCERT),
+                uniqueEventList.getEventsStartingFrom(LocalDateTime.of(2024, 12, 25, 10, 1), 5));
+    }
+
+    @Test
+    public void getEventsOverlapping_longEventStartingEarlier_returnsEvent() {
+        Event festival = new EventBuilder().withAlias("FEST").withStart(LocalDateTime.of(2025, 9, 1, 0, 0))
+                .withEnd(LocalDateTime.of(2025, 9, 30, 0, 0)).build();
+        uniqueEventList.add(CONCERT);
+        uniqueEventList.add(festival);
+        uniqueEventList.add(MEETING);
+        assertEquals(Arrays.asList(festival, CONCERT), uniqueEventList.getEventsOverlapping(
+                LocalDateTime.of(2025, 9, 19, 20, 0), LocalDateTime.of(2025, 9, 19, 21, 0)));
+
+        // events that only touch the window do not overlap it
+        assertEquals(Arrays.asList(festival), uniqueEventList.getEventsOverlapping(
+                LocalDateTime.of(2025, 9, 19, 23, 30), LocalDateTime.of(2025, 9, 20, 0, 0)));
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsOverlapping(
+                LocalDateTime.of(2024, 12, 25, 9, 0), LocalDateTime.of(2024, 12, 25, 10, 0)));
+    }
+
+    @Test
+    public void getEventsOverlapping_oneLongEventAmongShortOnes_agreesWithScan() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        Random random = new Random(15);
+        List<Event> events = new ArrayList<>();
+        // a year-long event, which used to make every overlap query scan back over the whole year
+        events.add(new EventBuilder().withAlias("YEAR").withStart(base).withEnd(base.plusYears(1)).build());
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = base.plusHours(random.nextInt(24 * 365));
+            events.add(new EventBuilder().withAlias("E" + i).withStart(start)
+                    .withEnd(start.plusMinutes(30 + random.nextInt(180))).build());
+        }
+        uniqueEventList.setEvents(events);
+        uniqueEventList.remove(events.get(250));
+        events.remove(250);
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime from = base.minusDays(10).plusHours(random.nextInt(24 * 400));
+            LocalDateTime to = from.plusHours(1 + random.nextInt(48));
+            List<Event> expected = events.stream()
+                    .filter(event -> event.getStart().isBefore(to) && event.getEnd().isAfter(from))
+                    .sorted(Comparator.comparing(Event::getStart))
+                    .toList();
+            assertEquals(expected, uniqueEventList.getEventsOverlapping(from, to));
+        }
+    }
+
+    @Test
+    public void getEventsOverlapping_afterSetAndRemove_reflectsChanges() {
+        uniqueEventList.add(CONCERT);
+        LocalDateTime from = CONCERT.getStart();
+        LocalDateTime to = CONCERT.getEnd();
+        Event movedConcert = new EventBuilder(CONCERT).withStart(from.plusDays(1)).withEnd(to.plusDays(1)).build();
+
+        uniqueEventList.setEvent(CONCERT, movedConcert);
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsOverlapping(from, to));
+        assertEquals(Arrays.asList(movedConcert), uniqueEventList.getEventsOverlapping(from, to.plusDays(1)));
+
+        uniqueEventList.remove(movedConcert);
+        assertEquals(Collections.emptyList(), uniqueEventList.getEventsOverlapping(from, to.plusDays(1)));
+
+        uniqueEventList.setEvents(Arrays.asList(CONCERT, MEETING));
+        assertEquals(Arrays.asList(CONCERT), uniqueEventList.getEventsOverlapping(from, to));
+    }
+
+    @Test
+    public void getFreeSlots_overlappingEvents_returnsLongEnoughGaps() {
+        LocalDateTime day = LocalDateTime.of(2025, 9, 19, 0, 0);
+        Event allNight = new EventBuilder().withAlias("NIGHT").withStart(day.minusHours(4))
+                .withEnd(day.plusHours(9)).build();
+        Event morning = new EventBuilder().withAlias("AM").withStart(day.plusHours(10))
+                .withEnd(day.plusHours(12)).build();
+        Event lunch = new EventBuilder().withAlias("LUNCH").withStart(day.plusHours(11))
+                .withEnd(day.plusHours(13)).build();
+        Event shortBreak = new EventBuilder().withAlias("PM").withStart(day.plusHours(13).plusMinutes(30))
+                .withEnd(day.plusHours(18)).build();
+        uniqueEventList.setEvents(Arrays.asList(shortBreak, lunch, allNight, morning));
+
+        assertEquals(Arrays.asList(new TimeSlot(day.plusHours(9), day.plusHours(10)),
+                new TimeSlot(day.plusHours(18), day.plusHours(24))),
+                uniqueEventList.getFreeSlots(day, day.plusHours(24), Duration.ofHours(1)));
+        assertEquals(Arrays.asList(new TimeSlot(day.plusHours(9), day.plusHours(10)),
+                new TimeSlot(day.plusHours(13), day.plusHours(13).plusMinutes(30)),
+                new TimeSlot(day.plusHours(18), day.plusHours(20))),
+                uniqueEventList.getFreeSlots(day, day.plusHours(20), Duration.ofMinutes(30)));
+    }
+
+    @Test
+    public void getFreeSlots_noEvents_returnsWholeWindow() {
+        LocalDateTime from = LocalDateTime.of(2025, 9, 19, 0, 0);
+        assertEquals(Arrays.asList(new TimeSlot(from, from.plusDays(1))),
+                uniqueEventList.getFreeSlots(from, from.plusDays(1), Duration.ofHours(1)));
+        assertEquals(Collections.emptyList(),
+                uniqueEventList.getFreeSlots(from, from.plusMinutes(30), Duration.ofHours(1)));
+    }
+
+    @Test
+    public void findByAlias_nullAlias_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueEventList.findByAlias(null));
+    }
+
+    @Test
+    public void findByAlias_aliasInList_returnsEvent() {
+        uniqueEventList.add(CONCERT);
+        assertEquals(Optional.of(CONCERT), uniqueEventList.findByAlias(new EventAlias("tsc2025")));
+    }
+
+    @Test
+    public void findByAlias_removedOrReplacedEvent_returnsEmpty() {
+        uniqueEventList.add(CONCERT);
+        uniqueEventList.setEvent(CONCERT, MEETING);
+        assertEquals(Optional.empty(), uniqueEventList.findByAlias(CONCERT.getEventAlias()));
+        assertEquals(Optional.of(MEETING), uniqueEventList.findByAlias(MEETING.getEventAlias()));
+
+        uniqueEventList.remove(MEETING);
+        assertEquals(Optional.empty(), uniqueEventList.findByAlias(MEETING.getEventAlias()));
+    }
+
     @Test
     public void add_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.add(null));
@@ -143,13 +295,43 @@ public class UniqueEventListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void setEvents_listWithDuplicateEvents_reportsCollidingEvents() {
+        List<Event> listWithDuplicateEvents = Arrays.asList(CONCERT, MEETING, CONCERT);
+        assertThrows(DuplicateEventException.class,
+                "Operation would result in duplicate event: " + CONCERT.getEventAlias(), () ->
+                uniqueEventList.setEvents(listWithDuplicateEvents));
+    }
+
+    @Test
+    public void getEventsWithAliasStartingWith_afterAddSetRemove_tracksAliases() {
+        Event tsc2024 = new EventBuilder(CONCERT).withAlias("tsc2024").build();
+        uniqueEventList.add(CONCERT);
+        uniqueEventList.add(MEETING);
+        uniqueEventList.add(tsc2024);
+        assertEquals(List.of(tsc2024, CONCERT), uniqueEventList.getEventsWithAliasStartingWith("TSC"));
+        assertEquals(List.of(MEETING), uniqueEventList.getEventsWithAliasStartingWith("meet24"));
+        assertTrue(uniqueEventList.getEventsWithAliasStartingWith("meet245").isEmpty());
+
+        Event renamedMeeting = new EventBuilder(MEETING).withAlias("TSM").build();
+        uniqueEventList.setEvent(MEETING, renamedMeeting);
+        assertTrue(uniqueEventList.getEventsWithAliasStartingWith("meet").isEmpty());
+        assertEquals(List.of(tsc2024, CONCERT, renamedMeeting), uniqueEventList.getEventsWithAliasStartingWith("ts"));
+
+        uniqueEventList.remove(CONCERT);
+        assertEquals(List.of(tsc2024, renamedMeeting), uniqueEventList.getEventsWithAliasStartingWith("ts"));
+
+        uniqueEventList.setEvents(List.of(WORKSHOP));
+        assertTrue(uniqueEventList.getEventsWithAliasStartingWith("ts").isEmpty());
+    }
+
+    @Test
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-                -> uniqueEventList.asUnmodifiableObservableList().remove(0));
+                -> uniqueEventList.asUnmodifiableList().remove(0));
     }
 
     @Test
     public void toStringMethod() {
-        assertEquals(uniqueEventList.asUnmodifiableObservableList().toString(), uniqueEventList.toString());
+        assertEquals(uniqueEventList.asUnmodifiableList().toString(), uniqueEventList.toString());
     }
 }
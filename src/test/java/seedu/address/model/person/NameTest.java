@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -58,4 +61,39 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_sameNameDifferentCase_sameHashCode() {
+        assertEquals(new Name("Valid Name").hashCode(), new Name("valid NAME").hashCode());
+    }
+
+    @Test
+    public void equals_turkishDefaultLocale_foldsCaseIndependentlyOfLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            Name name = new Name("Ivan ISKANDAR");
+            assertEquals(new Name("ivan iskandar"), name);
+            assertEquals(new Name("ivan iskandar").hashCode(), name.hashCode());
+            assertTrue(name.containsFoldedWord(Name.foldWord("IVAN")));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void containsFoldedWord() {
+        Name name = new Name("Alice  Tan/Lim Bob");
+
+        // whole words, folded -> returns true
+        assertTrue(name.containsFoldedWord("alice"));
+        assertTrue(name.containsFoldedWord(Name.foldWord("BOB")));
+        assertTrue(name.containsFoldedWord("tan/lim"));
+
+        // unfolded, partial or multiple words -> returns false
+        assertFalse(name.containsFoldedWord("Alice"));
+        assertFalse(name.containsFoldedWord("tan"));
+        assertFalse(name.containsFoldedWord("alice tan/lim"));
+        assertFalse(name.containsFoldedWord(""));
+    }
 }
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+    private static final TagExpression VIP = TagExpression.of(new Tag("vip"));
+    private static final EventAlias TSC2025 = new EventAlias("TSC2025");
+    private static final Event CONCERT = new EventBuilder().withAlias("TSC2025").build().withId(4);
+    private static final Event MEETING = new EventBuilder().withAlias("MEET24").build().withId(5);
+
+    private final Person person = new PersonBuilder().withName("Tan Ah Kow").withPhone("94351253")
+            .withEmail("ahkow@example.com").withTags("vip").withLinkedEvent(CONCERT.getId()).build();
+
+    @Test
+    public void equals() {
+        PersonQuery query = new PersonQuery(List.of("tan"), VIP, TSC2025, "9435", "example");
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // same values -> returns true
+        assertTrue(query.equals(new PersonQuery(List.of("tan"), VIP, TSC2025, "9435", "example")));
+
+        // different types -> returns false
+        assertFalse(query.equals(1));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different criteria -> returns false
+        assertFalse(query.equals(new PersonQuery(List.of("lee"), VIP, TSC2025, "9435", "example")));
+        assertFalse(query.equals(new PersonQuery(List.of("tan"), null, TSC2025, "9435", "example")));
+        assertFalse(query.equals(new PersonQuery(List.of("tan"), VIP, null, "9435", "example")));
+        assertFalse(query.equals(new PersonQuery(List.of("tan"), VIP, TSC2025, "9436", "example")));
+        assertFalse(query.equals(new PersonQuery(List.of("tan"), VIP, TSC2025, "9435", null)));
+
+        // same criteria, resolved to an event -> returns false
+        assertFalse(query.equals(query.withLinkedEvent(CONCERT)));
+    }
+
+    @Test
+    public void withLinkedEvent_keepsCriteriaAndGivesEventId() {
+        PersonQuery query = new PersonQuery(List.of("tan"), VIP, TSC2025, "9435", "example");
+        PersonQuery resolved = query.withLinkedEvent(CONCERT);
+        assertEquals(CONCERT.getId(), resolved.getLinkedEventId());
+        assertEquals(query.getEventAlias(), resolved.getEventAlias());
+        assertEquals(resolved, query.withLinkedEvent(CONCERT));
+    }
+
+    @Test
+    public void test_everyCriterionMet_returnsTrue() {
+        // no criteria
+        assertTrue(new PersonQuery(List.of(), null, null, null, null).test(person));
+
+        // every criterion, with mixed-case name and email
+        assertTrue(new PersonQuery(List.of("TAN"), VIP, TSC2025, "9435", "AhKow@").withLinkedEvent(CONCERT)
+                .test(person));
+    }
+
+    @Test
+    public void test_anyCriterionUnmet_returnsFalse() {
+        // name keyword only part of a word
+        assertFalse(new PersonQuery(List.of("ta"), null, null, null, null).test(person));
+
+        // tag, event alias, phone and email each unmet
+        assertFalse(new PersonQuery(List.of("tan"), TagExpression.not(VIP), TSC2025, null, null)
+                .withLinkedEvent(CONCERT).test(person));
+        assertFalse(new PersonQuery(List.of("tan"), VIP, new EventAlias("MEET24"), null, null)
+                .withLinkedEvent(MEETING).test(person));
+        assertFalse(new PersonQuery(List.of("tan"), VIP, TSC2025, "1234", null).withLinkedEvent(CONCERT).test(person));
+        assertFalse(new PersonQuery(List.of("tan"), VIP, TSC2025, null, "gmail").withLinkedEvent(CONCERT).test(person));
+
+        // event alias not resolved to an event, as when no event has it
+        assertFalse(new PersonQuery(List.of("tan"), VIP, TSC2025, null, null).test(person));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonQuery query = new PersonQuery(List.of("tan"), VIP, null, "9435", null);
+        String expected = PersonQuery.class.getCanonicalName() + "{nameKeywords=[tan], tagExpression=" + VIP
+                + ", eventAlias=null, phoneFragment=9435, emailFragment=null}";
+        assertEquals(expected, query.toString());
+    }
+}
@@ -2,21 +2,30 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.list.ListObserver;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +56,51 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        assertTrue(uniquePersonList.contains(lowerCaseAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getPersonsWithTags_afterChanges_reflectsCurrentTags() {
+        Person alice = uniquePersonList.add(ALICE);
+        Person benson = uniquePersonList.add(BENSON);
+        TagExpression owesMoney = TagExpression.of(new Tag("owesmoney"));
+        TagExpression friendsNotOwingMoney = TagExpression.and(TagExpression.of(new Tag("friends")),
+                TagExpression.not(owesMoney));
+        assertEquals(Set.of(alice), Set.copyOf(uniquePersonList.getPersonsWithTags(friendsNotOwingMoney)));
+
+        Person editedAlice = uniquePersonList.setPerson(alice, new PersonBuilder(ALICE).withTags("owesMoney").build());
+        assertEquals(Set.of(editedAlice, benson), Set.copyOf(uniquePersonList.getPersonsWithTags(owesMoney)));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithTags(friendsNotOwingMoney));
+
+        uniquePersonList.remove(benson);
+        assertEquals(List.of(editedAlice), uniquePersonList.getPersonsWithTags(owesMoney));
+
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(List.of(), uniquePersonList.getPersonsWithTags(owesMoney));
+    }
+
+    @Test
+    public void getPersonsWithTags_idsBeyondIntRange_found() {
+        Person alice = uniquePersonList.add(ALICE.withId(3_000_000_000L));
+        Person benson = uniquePersonList.add(BENSON.withId(Long.MAX_VALUE - 1));
+
+        assertEquals(List.of(alice), uniquePersonList.getPersonsWithTags(TagExpression.and(
+                TagExpression.of(new Tag("friends")), TagExpression.not(TagExpression.of(new Tag("owesMoney"))))));
+        uniquePersonList.remove(alice);
+        assertEquals(List.of(benson), uniquePersonList.getPersonsWithTags(TagExpression.of(new Tag("friends"))));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -100,6 +154,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -119,6 +175,27 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_samePersonWithDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void remove_personBeforeOthers_laterPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+
+        Person editedBob = new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        uniquePersonList.remove(BENSON);
+        assertEquals(List.of(editedBob), uniquePersonList.asUnmodifiableList());
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -154,6 +231,7 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -163,13 +241,126 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void setPersons_listWithDuplicatePersons_reportsCollidingPersons() {
+        Person aliceWithDifferentCase = new PersonBuilder(ALICE).withName("ALICE PAULINE").build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, aliceWithDifferentCase, BOB);
+        assertThrows(DuplicatePersonException.class,
+                "Operation would result in duplicate persons: ALICE PAULINE, " + BOB.getName(), () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertEquals(Collections.emptyList(), uniquePersonList.asUnmodifiableList());
+    }
+
+    @Test
+    public void add_personWithoutId_assignsFreshIds() {
+        Person storedAlice = uniquePersonList.add(ALICE);
+        Person storedBob = uniquePersonList.add(BOB);
+        assertTrue(storedAlice.hasId());
+        assertTrue(storedBob.hasId());
+        assertNotEquals(storedAlice.getId(), storedBob.getId());
+        assertEquals(Optional.of(storedBob), uniquePersonList.findById(storedBob.getId()));
+    }
+
+    @Test
+    public void add_personWithTakenId_assignsFreshId() {
+        Person storedAlice = uniquePersonList.add(ALICE.withId(5));
+        Person storedBob = uniquePersonList.add(BOB.withId(5));
+        assertEquals(5, storedAlice.getId());
+        assertEquals(6, storedBob.getId());
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsIdOfTarget() {
+        Person storedAlice = uniquePersonList.add(ALICE);
+        Person storedBob = uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(storedAlice.getId(), storedBob.getId());
+        assertEquals(Optional.of(storedBob), uniquePersonList.findById(storedAlice.getId()));
+    }
+
+    @Test
+    public void remove_person_idNoLongerFound() {
+        Person storedAlice = uniquePersonList.add(ALICE);
+        Person storedBob = uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.findById(storedAlice.getId()));
+        assertEquals(Optional.of(storedBob), uniquePersonList.findById(storedBob.getId()));
+    }
+
+    @Test
+    public void setPersons_list_keepsUniqueIdsAndAssignsTheRest() {
+        uniquePersonList.setPersons(Arrays.asList(new PersonBuilder(ALICE).build(), BENSON.withId(3), BOB.withId(3)));
+        List<Person> stored = toList(uniquePersonList);
+        assertEquals(3, stored.get(1).getId());
+        assertEquals(4, stored.get(0).getId());
+        assertEquals(5, stored.get(2).getId());
+    }
+
+    @Test
+    public void commitBatch_changesDuringBatch_publishedAsSingleChange() {
+        uniquePersonList.add(ALICE);
+        AtomicInteger changeCount = new AtomicInteger();
+        uniquePersonList.asUnmodifiableList().addListener((ListObserver<Person>) (from, removed, added) ->
+                changeCount.incrementAndGet());
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        uniquePersonList.add(BOB);
+
+        // listeners see nothing until commit, but identity checks and iteration are up to date
+        assertEquals(0, changeCount.get());
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableList());
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(List.of(editedAlice, BOB), toList(uniquePersonList));
+
+        uniquePersonList.commitBatch();
+        assertEquals(1, changeCount.get());
+        assertEquals(List.of(editedAlice, BOB), uniquePersonList.asUnmodifiableList());
+    }
+
+    @Test
+    public void commitBatch_nestedBatch_publishedByOutermostCommitOnly() {
+        AtomicInteger changeCount = new AtomicInteger();
+        uniquePersonList.asUnmodifiableList().addListener((ListObserver<Person>) (from, removed, added) ->
+                changeCount.incrementAndGet());
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.commitBatch();
+        assertEquals(0, changeCount.get());
+
+        uniquePersonList.add(BOB);
+        uniquePersonList.commitBatch();
+        assertEquals(1, changeCount.get());
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableList());
+    }
+
+    @Test
+    public void commitBatch_noChanges_publishesNothing() {
+        uniquePersonList.add(ALICE);
+        AtomicInteger changeCount = new AtomicInteger();
+        uniquePersonList.asUnmodifiableList().addListener((ListObserver<Person>) (from, removed, added) ->
+                changeCount.incrementAndGet());
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.commitBatch();
+        assertEquals(0, changeCount.get());
+    }
+
+    @Test
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniquePersonList.asUnmodifiableObservableList().remove(0));
+            -> uniquePersonList.asUnmodifiableList().remove(0));
     }
 
     @Test
     public void toStringMethod() {
-        assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
+        assertEquals(uniquePersonList.asUnmodifiableList().toString(), uniquePersonList.toString());
+    }
+
+    private static List<Person> toList(UniquePersonList list) {
+        List<Person> persons = new ArrayList<>();
+        list.forEach(persons::add);
+        return persons;
     }
 }
@@ -0,0 +1,93 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagExpressionTest {
+    private static final Tag VIP = new Tag("vip");
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag BLOCKED = new Tag("blocked");
+
+    // records 0 to 4: 0 [vip], 1 [vip, friends], 2 [friends], 3 [vip, blocked], 4 []
+    private static final Map<Tag, BitSet> RECORDS_WITH_TAG = Map.of(
+            VIP, bits(0, 1, 3), FRIENDS, bits(1, 2), BLOCKED, bits(3));
+    private static final BitSet ALL_RECORDS = bits(0, 1, 2, 3, 4);
+
+    @Test
+    public void of_nullTag_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagExpression.of(null));
+    }
+
+    @Test
+    public void test() {
+        TagExpression expression = TagExpression.and(TagExpression.or(TagExpression.of(VIP),
+                TagExpression.of(FRIENDS)), TagExpression.not(TagExpression.of(BLOCKED)));
+
+        assertTrue(expression.test(Set.of(new Tag("VIP"))));
+        assertTrue(expression.test(Set.of(FRIENDS)));
+        assertFalse(expression.test(Set.of(VIP, BLOCKED)));
+        assertFalse(expression.test(Set.of()));
+    }
+
+    @Test
+    public void evaluate_matchesTest() {
+        assertEquals(bits(1), evaluate(TagExpression.and(TagExpression.of(VIP), TagExpression.of(FRIENDS))));
+        assertEquals(bits(0, 1, 2, 3), evaluate(TagExpression.or(TagExpression.of(VIP), TagExpression.of(FRIENDS))));
+        assertEquals(bits(0, 1, 2, 4), evaluate(TagExpression.not(TagExpression.of(BLOCKED))));
+        assertEquals(bits(0, 1), evaluate(TagExpression.and(TagExpression.of(VIP),
+                TagExpression.not(TagExpression.of(BLOCKED)))));
+        assertEquals(bits(), evaluate(TagExpression.of(new Tag("unused"))));
+    }
+
+    @Test
+    public void evaluate_doesNotModifyBitmaps() {
+        evaluate(TagExpression.or(TagExpression.not(TagExpression.of(VIP)), TagExpression.of(FRIENDS)));
+        assertEquals(bits(0, 1, 3), RECORDS_WITH_TAG.get(VIP));
+        assertEquals(bits(1, 2), RECORDS_WITH_TAG.get(FRIENDS));
+        assertEquals(bits(0, 1, 2, 3, 4), ALL_RECORDS);
+    }
+
+    @Test
+    public void equals() {
+        TagExpression expression = TagExpression.and(TagExpression.of(VIP), TagExpression.of(FRIENDS));
+
+        // same values -> returns true
+        assertEquals(expression, TagExpression.and(TagExpression.of(new Tag("VIP")), TagExpression.of(FRIENDS)));
+        assertEquals(expression.hashCode(),
+                TagExpression.and(TagExpression.of(new Tag("VIP")), TagExpression.of(FRIENDS)).hashCode());
+
+        // different operator -> returns false
+        assertNotEquals(expression, TagExpression.or(TagExpression.of(VIP), TagExpression.of(FRIENDS)));
+
+        // different operands -> returns false
+        assertNotEquals(expression, TagExpression.and(TagExpression.of(FRIENDS), TagExpression.of(VIP)));
+        assertNotEquals(TagExpression.not(TagExpression.of(VIP)), TagExpression.of(VIP));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("(vip AND NOT blocked)",
+                TagExpression.and(TagExpression.of(VIP), TagExpression.not(TagExpression.of(BLOCKED))).toString());
+    }
+
+    private static BitSet evaluate(TagExpression expression) {
+        return expression.evaluate(tag -> RECORDS_WITH_TAG.getOrDefault(tag, new BitSet()), ALL_RECORDS);
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
@@ -51,6 +51,11 @@ public class TodoNameTest {
         assertFalse(a.equals(new TodoName("Call TSC2026")));
     }
 
+    @Test
+    public void hashCodeMethod() {
+        assertEquals(new TodoName("Call TSC2025").hashCode(), new TodoName("call tsc2025").hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         TodoName name = new TodoName("Call TSC2025");
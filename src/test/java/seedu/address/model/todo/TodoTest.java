@@ -3,6 +3,7 @@ package seedu.address.model.todo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -11,25 +12,21 @@ import seedu.address.testutil.TodoBuilder;
 public class TodoTest {
 
     @Test
-    public void getContactNameDisplay_noContact_returnsNoContactLinked() {
-        Todo todo = new TodoBuilder()
-                .withTodoName("Call TSC2025")
-                .withDescription("Call Taylor Swift's manager")
-                .withoutContactName()
-                .build();
-
-        assertEquals("No contact linked", todo.getContactNameDisplay());
+    public void withContact_nonPositiveId_throwsIllegalArgumentException() {
+        Todo todo = new TodoBuilder().build();
+        assertThrows(IllegalArgumentException.class, Todo.MESSAGE_INVALID_CONTACT_ID, () -> todo.withContact(0));
+        assertThrows(IllegalArgumentException.class, Todo.MESSAGE_INVALID_CONTACT_ID, () -> todo.withContact(-1));
     }
 
     @Test
-    public void getContactNameDisplay_withContact_returnsName() {
-        Todo todo = new TodoBuilder()
-                .withTodoName("Call TSC2025")
-                .withDescription("Call Taylor Swift's manager")
-                .withContactName("Alex Yeoh")
-                .build();
-
-        assertEquals("Alex Yeoh", todo.getContactNameDisplay());
+    public void withContact_positiveId_linksContact() {
+        Todo todo = new TodoBuilder().withoutContact().build();
+        assertFalse(todo.hasContact());
+
+        Todo linked = todo.withContact(7);
+        assertTrue(linked.hasContact());
+        assertEquals(7, linked.getContactId());
+        assertFalse(linked.withoutContact().hasContact());
     }
 
     @Test
@@ -37,10 +34,15 @@ public class TodoTest {
         Todo a = new TodoBuilder()
                 .withTodoName("Call TSC2025")
                 .withDescription("Call manager")
-                .withContactName("Alex Yeoh")
+                .withContact(3)
                 .build();
         Todo b = new TodoBuilder(a).build();
         assertEquals(a.hashCode(), b.hashCode());
+
+        // description differing only in case -> equal, so same hash
+        Todo c = new TodoBuilder(a).withDescription("CALL MANAGER").build();
+        assertTrue(a.equals(c));
+        assertEquals(a.hashCode(), c.hashCode());
     }
 
     @Test
@@ -48,7 +50,7 @@ public class TodoTest {
         Todo base = new TodoBuilder()
                 .withTodoName("Call TSC2025")
                 .withDescription("Call manager")
-                .withContactName("Alex Yeoh")
+                .withContact(3)
                 .build();
 
         // same values -> true
@@ -72,16 +74,15 @@ public class TodoTest {
         Todo diffDesc = new TodoBuilder(base).withDescription("Different description").build();
         assertFalse(base.equals(diffDesc));
 
-        // different contact -> false (null vs non-null)
-        Todo diffContact = new TodoBuilder(base).withoutContactName().build();
-        assertFalse(base.equals(diffContact));
+        // different contact -> false
+        assertFalse(base.equals(new TodoBuilder(base).withoutContact().build()));
+        assertFalse(base.equals(new TodoBuilder(base).withContact(4).build()));
 
         // different isCompleted -> false
         Todo completedVariant = new Todo(
                 new TodoName(base.getTodoName().toString()),
                 base.getTodoDescription(),
-                base.getContactName(),
-                true);
+                true).withContact(base.getContactId());
         assertFalse(base.equals(completedVariant));
     }
 
@@ -90,13 +91,13 @@ public class TodoTest {
         Todo todo = new TodoBuilder()
                 .withTodoName("Call TSC2025")
                 .withDescription("Call manager")
-                .withContactName("Alex Yeoh")
+                .withContact(3)
                 .build();
 
         String expected = "Todo{"
                 + "todoName='" + todo.getTodoName() + '\''
                 + ", todoDescription='" + todo.getTodoDescription() + '\''
-                + ", contactName='" + todo.getContactName() + '\''
+                + ", contactId=3"
                 + ", isCompleted=" + todo.getIsCompleted()
                 + '}';
 
@@ -108,13 +109,13 @@ public class TodoTest {
         Todo todo = new TodoBuilder()
                 .withTodoName("Draft email")
                 .withDescription("Write and send the draft")
-                .withoutContactName()
+                .withoutContact()
                 .build();
 
         String expected = "Todo{"
                 + "todoName='" + todo.getTodoName() + '\''
                 + ", todoDescription='" + todo.getTodoDescription() + '\''
-                + ", contactName='" + todo.getContactName() + '\''
+                + ", contactId=none"
                 + ", isCompleted=" + todo.getIsCompleted()
                 + '}';
 
@@ -38,6 +38,24 @@ public class UniqueTodoListTest {
         assertTrue(uniqueTodoList.contains(REVIEW_PROPOSAL));
     }
 
+    @Test
+    public void contains_todoWithSameIdentityDifferentCase_returnsTrue() {
+        uniqueTodoList.add(REVIEW_PROPOSAL);
+        Todo differentCase = new TodoBuilder(REVIEW_PROPOSAL)
+                .withTodoName(REVIEW_PROPOSAL.getTodoName().toString().toUpperCase())
+                .withDescription(REVIEW_PROPOSAL.getTodoDescription().toLowerCase())
+                .withCompleted(true)
+                .build();
+        assertTrue(uniqueTodoList.contains(differentCase));
+    }
+
+    @Test
+    public void contains_removedTodo_returnsFalse() {
+        uniqueTodoList.add(REVIEW_PROPOSAL);
+        uniqueTodoList.remove(REVIEW_PROPOSAL);
+        assertFalse(uniqueTodoList.contains(REVIEW_PROPOSAL));
+    }
+
     @Test
     public void add_nullTodo_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTodoList.add(null));
@@ -77,7 +95,7 @@ public class UniqueTodoListTest {
     public void setTodo_editedTodoHasSameIdentity_success() {
         uniqueTodoList.add(REVIEW_PROPOSAL);
         Todo editedReviewProposal = new TodoBuilder(REVIEW_PROPOSAL)
-                .withContactName("Different Contact")
+                .withContact(42)
                 .withCompleted(true)
                 .build();
         uniqueTodoList.setTodo(REVIEW_PROPOSAL, editedReviewProposal);
@@ -93,6 +111,15 @@ public class UniqueTodoListTest {
         UniqueTodoList expectedUniqueTodoList = new UniqueTodoList();
         expectedUniqueTodoList.add(SEND_INVITES);
         assertEquals(expectedUniqueTodoList, uniqueTodoList);
+        assertFalse(uniqueTodoList.contains(REVIEW_PROPOSAL));
+        assertTrue(uniqueTodoList.contains(SEND_INVITES));
+    }
+
+    @Test
+    public void setTodo_editedTodoHasNonUniqueIdentity_throwsDuplicateTodoException() {
+        uniqueTodoList.add(REVIEW_PROPOSAL);
+        uniqueTodoList.add(SEND_INVITES);
+        assertThrows(DuplicateTodoException.class, () -> uniqueTodoList.setTodo(REVIEW_PROPOSAL, SEND_INVITES));
     }
 
 
@@ -119,7 +146,7 @@ public class UniqueTodoListTest {
         uniqueTodoList.add(REVIEW_PROPOSAL);
         UniqueTodoList expectedUniqueTodoList = new UniqueTodoList();
         expectedUniqueTodoList.add(SEND_INVITES);
-        uniqueTodoList.setTodos(expectedUniqueTodoList.asUnmodifiableObservableList());
+        uniqueTodoList.setTodos(expectedUniqueTodoList.asUnmodifiableList());
         assertEquals(expectedUniqueTodoList, uniqueTodoList);
     }
 
@@ -145,9 +172,26 @@ public class UniqueTodoListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void setTodos_listWithDuplicateTodos_reportsCollidingTodos() {
+        List<Todo> listWithDuplicateTodos = Arrays.asList(REVIEW_PROPOSAL, UPDATE_DOCS, REVIEW_PROPOSAL);
+        assertThrows(DuplicateTodoException.class,
+                "Operation would result in duplicate todo: " + REVIEW_PROPOSAL.getTodoName(), () ->
+                uniqueTodoList.setTodos(listWithDuplicateTodos));
+    }
+
+    @Test
+    public void setTodos_listWithDescriptionsDifferingOnlyInCase_throwsDuplicateTodoException() {
+        Todo differentCase = new TodoBuilder(REVIEW_PROPOSAL)
+                .withDescription(REVIEW_PROPOSAL.getTodoDescription().toUpperCase())
+                .build();
+        List<Todo> listWithDuplicateTodos = Arrays.asList(REVIEW_PROPOSAL, UPDATE_DOCS, differentCase);
+        assertThrows(DuplicateTodoException.class, () -> uniqueTodoList.setTodos(listWithDuplicateTodos));
+    }
+
+    @Test
+    public void asUnmodifiableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueTodoList.asUnmodifiableObservableList().remove(0));
+            -> uniqueTodoList.asUnmodifiableList().remove(0));
     }
 
     @Test
@@ -30,6 +30,7 @@ public class JsonAdaptedEventTest {
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedEvent event = new JsonAdaptedEvent(
+                null,
                 INVALID_NAME, VALID_ALIAS, VALID_START, VALID_END, VALID_DESC);
         String expectedMessage = EventName.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
@@ -38,6 +39,7 @@ public class JsonAdaptedEventTest {
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
         JsonAdaptedEvent event = new JsonAdaptedEvent(
+                null,
                 null, VALID_ALIAS, VALID_START, VALID_END, VALID_DESC);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "name");
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
@@ -46,6 +48,7 @@ public class JsonAdaptedEventTest {
     @Test
     public void toModelType_invalidAlias_throwsIllegalValueException() {
         JsonAdaptedEvent event = new JsonAdaptedEvent(
+                null,
                 VALID_NAME, INVALID_ALIAS, VALID_START, VALID_END, VALID_DESC);
         String expectedMessage = EventAlias.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
@@ -54,6 +57,7 @@ public class JsonAdaptedEventTest {
     @Test
     public void toModelType_nullAlias_throwsIllegalValueException() {
         JsonAdaptedEvent event = new JsonAdaptedEvent(
+                null,
                 VALID_NAME, null, VALID_START, VALID_END, VALID_DESC);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "alias");
         assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
@@ -1,15 +1,20 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.storage.JsonAdaptedTodo.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalTodos.REVIEW_PROPOSAL;
 import static seedu.address.testutil.TypicalTodos.UPDATE_DOCS;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Name;
+import seedu.address.model.todo.Todo;
 import seedu.address.model.todo.TodoName;
 
 public class JsonAdaptedTodoTest {
@@ -32,9 +37,11 @@ public class JsonAdaptedTodoTest {
     @Test
     public void toModelType_invalidTodoName_throwsIllegalValueException() {
         JsonAdaptedTodo adapted = new JsonAdaptedTodo(
+                null,
                 INVALID_TODO_NAME,
                 "Some description",
-                "John Doe",
+                1L,
+                null,
                 false);
         String expectedMessage = TodoName.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, adapted::toModelType);
@@ -43,9 +50,11 @@ public class JsonAdaptedTodoTest {
     @Test
     public void toModelType_nullTodoName_throwsIllegalValueException() {
         JsonAdaptedTodo adapted = new JsonAdaptedTodo(
+                null,
                 null,
                 "Some description",
-                "John Doe",
+                1L,
+                null,
                 false);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, "todoName");
         assertThrows(IllegalValueException.class, expectedMessage, adapted::toModelType);
@@ -54,11 +63,34 @@ public class JsonAdaptedTodoTest {
     @Test
     public void toModelType_invalidContactName_throwsIllegalValueException() {
         JsonAdaptedTodo adapted = new JsonAdaptedTodo(
+                null,
                 "Valid Task",
                 "Some description",
+                null,
                 INVALID_CONTACT_NAME,
                 false);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, adapted::toModelType);
     }
+
+    @Test
+    public void toModelType_invalidContactId_throwsIllegalValueException() {
+        JsonAdaptedTodo adapted = new JsonAdaptedTodo(null, "Valid Task", "Some description", 0L, null, false);
+        assertThrows(IllegalValueException.class, Todo.MESSAGE_INVALID_CONTACT_ID, adapted::toModelType);
+    }
+
+    @Test
+    public void toModelType_legacyContactName_resolvedToContactId() throws Exception {
+        JsonAdaptedTodo adapted = new JsonAdaptedTodo(null, "Valid Task", "Some description", null,
+                "alice pauline", false);
+        Todo todo = adapted.toModelType(name -> name.equals(ALICE.getName()) ? Optional.of(ALICE) : Optional.empty());
+        assertEquals(ALICE.getId(), todo.getContactId());
+    }
+
+    @Test
+    public void toModelType_unknownLegacyContactName_loadedUnlinked() throws Exception {
+        JsonAdaptedTodo adapted = new JsonAdaptedTodo(null, "Valid Task", "Some description", null,
+                "John Doe", false);
+        assertFalse(adapted.toModelType(name -> Optional.empty()).hasContact());
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -11,6 +13,9 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.Todo;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +24,12 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path LEGACY_LINKS_FILE = TEST_DATA_FOLDER.resolve("legacyLinksAddressBook.json");
+    private static final Path UNKNOWN_LINKED_EVENT_FILE =
+            TEST_DATA_FOLDER.resolve("unknownLinkedEventAddressBook.json");
+    private static final Path UNKNOWN_CONTACT_FILE = TEST_DATA_FOLDER.resolve("unknownContactAddressBook.json");
+    private static final Path DANGLING_CONTACT_NAME_FILE =
+            TEST_DATA_FOLDER.resolve("danglingContactNameAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +55,56 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_legacyLinksFile_linksResolvedToIds() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(LEGACY_LINKS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        Event concert = addressBookFromFile.getEventList().get(0);
+        Person john = addressBookFromFile.getPersonList().get(1);
+        Todo todo = addressBookFromFile.getTodoList().get(0);
+        assertEquals(concert.getId(), john.getLinkedEventId());
+        assertEquals(john.getId(), todo.getContactId());
+        assertFalse(addressBookFromFile.getPersonList().get(0).hasLinkedEvent());
+
+        // saved again, the links are saved by id only
+        AddressBook reloaded = new JsonSerializableAddressBook(addressBookFromFile).toModelType();
+        assertEquals(john.getLinkedEventId(), reloaded.getPersonList().get(1).getLinkedEventId());
+        assertEquals(todo.getContactId(), reloaded.getTodoList().get(0).getContactId());
+    }
+
+    @Test
+    public void toModelType_unknownLinkedEvent_personLoadedUnlinked() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_LINKED_EVENT_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertEquals(1, addressBookFromFile.getPersonList().size());
+        assertFalse(addressBookFromFile.getPersonList().get(0).hasLinkedEvent());
+    }
+
+    @Test
+    public void toModelType_unknownContact_todoLoadedUnlinked() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_CONTACT_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertEquals(1, addressBookFromFile.getTodoList().size());
+        assertFalse(addressBookFromFile.getTodoList().get(0).hasContact());
+    }
+
+    @Test
+    public void toModelType_typicalPersonsWithDanglingContactName_loadedWithTodoUnlinked() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DANGLING_CONTACT_NAME_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        assertEquals(TypicalPersons.getTypicalAddressBook().getPersonList(), addressBookFromFile.getPersonList());
+        Person alice = addressBookFromFile.getPersonList().get(0);
+        Todo linkedTodo = addressBookFromFile.getTodoList().get(0);
+        Todo danglingTodo = addressBookFromFile.getTodoList().get(1);
+        assertEquals(alice.getId(), linkedTodo.getContactId());
+        assertFalse(danglingTodo.hasContact());
+        assertTrue(danglingTodo.getIsCompleted());
+    }
+
 }
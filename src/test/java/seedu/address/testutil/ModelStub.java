@@ -1,15 +1,27 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.list.ListenableList;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.SearchResult;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventAlias;
+import seedu.address.model.event.TimeSlot;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonQuery;
+import seedu.address.model.tag.TagExpression;
 import seedu.address.model.todo.Todo;
 
 /**
@@ -61,6 +73,51 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void beginBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<SearchResult> search(List<String> keywords, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -81,6 +138,86 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Optional<Event> findEventByAlias(EventAlias alias) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsWithAliasStartingWith(String prefix) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Event> getEventsWithAliasWithin(String alias, int maxTypos) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Event> getEventsContaining(String text) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsStartingBetween(LocalDateTime from, LocalDateTime to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsStartingFrom(LocalDateTime from, int count) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<TimeSlot> getFreeSlots(LocalDateTime from, LocalDateTime to, Duration minDuration) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getPersonsLinkedToEvent(long eventId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Event> findLinkedEvent(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Person> findPersonById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Person> findPersonByName(Name name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getPersonsWithTags(TagExpression expression) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Person> getPersonsContaining(String text) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Person> getPersonsWithNameWordWithin(String word, int maxTypos) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Collection<Person> getPersonCandidates(PersonQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addEvent(Event event) {
         throw new AssertionError("This method should not be called.");
@@ -97,12 +234,12 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ObservableList<Person> getPersonList() {
+    public ListenableList<Person> getPersonList() {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public ObservableList<Person> getFilteredPersonList() {
+    public ListenableList<Person> getFilteredPersonList() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -113,12 +250,12 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ObservableList<Event> getFilteredEventList() {
+    public ListenableList<Event> getFilteredEventList() {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public ObservableList<Event> getEventList() {
+    public ListenableList<Event> getEventList() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -148,7 +285,27 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ObservableList<Todo> getFilteredTodoList() {
+    public List<Todo> getTodosLinkedToPerson(long personId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Person> findContact(Todo todo) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Todo> findTodoById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Todo> getTodosContaining(String text) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ListenableList<Todo> getFilteredTodoList() {
         throw new AssertionError("This method should not be called.");
     }
 
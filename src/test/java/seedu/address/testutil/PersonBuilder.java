@@ -3,7 +3,6 @@ package seedu.address.testutil;
 import java.util.HashSet;
 import java.util.Set;
 
-import seedu.address.model.event.EventAlias;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -21,14 +20,13 @@ public class PersonBuilder {
     public static final String DEFAULT_PHONE = "85355255";
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
     public static final String DEFAULT_ADDRESS = "123, Jurong West Ave 6, #08-111";
-    public static final String DEFAULT_ALIAS = "BP2026";
 
     private Name name;
     private Phone phone;
     private Email email;
     private Address address;
     private Set<Tag> tags;
-    private EventAlias linkedEventAlias;
+    private long linkedEventId;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
@@ -39,7 +37,6 @@ public class PersonBuilder {
         email = new Email(DEFAULT_EMAIL);
         address = new Address(DEFAULT_ADDRESS);
         tags = new HashSet<>();
-        linkedEventAlias = new EventAlias(DEFAULT_ALIAS);
     }
 
     /**
@@ -51,8 +48,7 @@ public class PersonBuilder {
         email = personToCopy.getEmail();
         address = personToCopy.getAddress();
         tags = new HashSet<>(personToCopy.getTags());
-        linkedEventAlias = personToCopy.getEventAlias();
-
+        linkedEventId = personToCopy.getLinkedEventId();
     }
 
     /**
@@ -96,15 +92,19 @@ public class PersonBuilder {
     }
 
     /**
-     * Sets the {@code linkedEventAlias} of the {@code Person} that we are building.
+     * Links the {@code Person} that we are building to the event with the given {@code eventId}.
      */
-    public PersonBuilder withLinkedEventAlias(String alias) {
-        this.linkedEventAlias = new EventAlias(alias);
+    public PersonBuilder withLinkedEvent(long eventId) {
+        this.linkedEventId = eventId;
         return this;
     }
 
+    /**
+     * Builds the {@code Person}, linked to an event only if {@link #withLinkedEvent(long)} was given one.
+     */
     public Person build() {
-        return new Person(name, phone, email, address, tags, linkedEventAlias);
+        Person person = new Person(name, phone, email, address, tags);
+        return linkedEventId == 0 ? person : person.withLinkedEvent(linkedEventId);
     }
 
 }
@@ -1,6 +1,5 @@
 package seedu.address.testutil;
 
-import seedu.address.model.person.Name;
 import seedu.address.model.todo.Todo;
 import seedu.address.model.todo.TodoName;
 
@@ -11,11 +10,10 @@ public class TodoBuilder {
 
     public static final String DEFAULT_TODO_NAME = "Review Project Proposal";
     public static final String DEFAULT_DESCRIPTION = "Review the Q1 project proposal document";
-    public static final String DEFAULT_CONTACT_NAME = "Alice Pauline";
 
     private TodoName todoName;
     private String description;
-    private Name contactName;
+    private long contactId;
     private boolean isCompleted;
 
     /**
@@ -24,7 +22,6 @@ public class TodoBuilder {
     public TodoBuilder() {
         todoName = new TodoName(DEFAULT_TODO_NAME);
         description = DEFAULT_DESCRIPTION;
-        contactName = new Name(DEFAULT_CONTACT_NAME);
         isCompleted = false;
     }
 
@@ -34,7 +31,7 @@ public class TodoBuilder {
     public TodoBuilder(Todo todoToCopy) {
         todoName = todoToCopy.getTodoName();
         description = todoToCopy.getTodoDescription();
-        contactName = todoToCopy.getContactName();
+        contactId = todoToCopy.getContactId();
         isCompleted = todoToCopy.getIsCompleted();
     }
 
@@ -55,18 +52,18 @@ public class TodoBuilder {
     }
 
     /**
-     * Sets the {@code contactName} of the {@code Todo} that we are building.
+     * Links the {@code Todo} that we are building to the contact with the given {@code contactId}.
      */
-    public TodoBuilder withContactName(String contactName) {
-        this.contactName = new Name(contactName);
+    public TodoBuilder withContact(long contactId) {
+        this.contactId = contactId;
         return this;
     }
 
     /**
-     * Sets the {@code contactName} to null for the {@code Todo} that we are building.
+     * Unlinks the {@code Todo} that we are building from any contact.
      */
-    public TodoBuilder withoutContactName() {
-        this.contactName = null;
+    public TodoBuilder withoutContact() {
+        this.contactId = 0;
         return this;
     }
 
@@ -82,6 +79,7 @@ public class TodoBuilder {
      * Builds the {@code Todo} object.
      */
     public Todo build() {
-        return new Todo(todoName, description, contactName, isCompleted);
+        Todo todo = new Todo(todoName, description, isCompleted);
+        return contactId == 0 ? todo : todo.withContact(contactId);
     }
 }
@@ -19,7 +19,8 @@ public class TypicalEvents {
             .withStart(LocalDateTime.of(2025, 9, 19, 19, 30))
             .withEnd(LocalDateTime.of(2025, 9, 19, 23, 30))
             .withDescription("Taylor's Swift Eras tour")
-            .build();
+            .build()
+            .withId(1);
 
     public static final Event MEETING = new EventBuilder()
             .withName("Team Meeting")
@@ -27,7 +28,8 @@ public class TypicalEvents {
             .withStart(LocalDateTime.of(2024, 12, 25, 10, 0))
             .withEnd(LocalDateTime.of(2024, 12, 25, 11, 0))
             .withDescription("Weekly team standup meeting")
-            .build();
+            .build()
+            .withId(2);
 
     public static final Event CONFERENCE = new EventBuilder()
             .withName("Tech Conference")
@@ -35,7 +37,8 @@ public class TypicalEvents {
             .withStart(LocalDateTime.of(2024, 12, 30, 9, 0))
             .withEnd(LocalDateTime.of(2024, 12, 30, 17, 0))
             .withDescription("Annual technology conference")
-            .build();
+            .build()
+            .withId(3);
 
     public static final Event WORKSHOP = new EventBuilder()
             .withName("Java Workshop")
@@ -43,7 +46,8 @@ public class TypicalEvents {
             .withStart(LocalDateTime.of(2025, 1, 15, 14, 0))
             .withEnd(LocalDateTime.of(2025, 1, 15, 16, 0))
             .withDescription("Introduction to Java programming")
-            .build();
+            .build()
+            .withId(4);
 
     public static final Event PARTY = new EventBuilder()
             .withName("Birthday Party")
@@ -51,7 +55,8 @@ public class TypicalEvents {
             .withStart(LocalDateTime.of(2025, 2, 14, 18, 0))
             .withEnd(LocalDateTime.of(2025, 2, 14, 22, 0))
             .withDescription("John's 25th birthday celebration")
-            .build();
+            .build()
+            .withId(5);
 
     public static final Event SEMINAR = new EventBuilder()
             .withName("AI Seminar")
@@ -59,7 +64,8 @@ public class TypicalEvents {
             .withStart(LocalDateTime.of(2025, 3, 10, 13, 0))
             .withEnd(LocalDateTime.of(2025, 3, 10, 15, 0))
             .withDescription("Future of Artificial Intelligence")
-            .build();
+            .build()
+            .withId(6);
 
     public static final Event EXHIBITION = new EventBuilder()
             .withName("Art Exhibition")
@@ -67,7 +73,8 @@ public class TypicalEvents {
             .withStart(LocalDateTime.of(2025, 4, 5, 10, 0))
             .withEnd(LocalDateTime.of(2025, 4, 5, 18, 0))
             .withDescription("Modern art showcase")
-            .build();
+            .build()
+            .withId(7);
 
     private TypicalEvents() {} // prevents instantiation
 
@@ -10,6 +10,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.MEETING;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,23 +28,31 @@ public class TypicalPersons {
     public static final Person ALICE = new PersonBuilder().withName("Alice Pauline")
             .withAddress("123, Jurong West Ave 6, #08-111").withEmail("alice@example.com")
             .withPhone("94351253")
-            .withTags("friends").build();
+            .withTags("friends").build()
+            .withId(1);
     public static final Person BENSON = new PersonBuilder().withName("Benson Meier")
             .withAddress("311, Clementi Ave 2, #02-25")
             .withEmail("johnd@example.com").withPhone("98765432")
-            .withTags("owesMoney", "friends").build();
+            .withTags("owesMoney", "friends").build()
+            .withId(2);
     public static final Person CARL = new PersonBuilder().withName("Carl Kurz").withPhone("95352563")
-            .withEmail("heinz@example.com").withAddress("wall street").build();
+            .withEmail("heinz@example.com").withAddress("wall street").build()
+            .withId(3);
     public static final Person DANIEL = new PersonBuilder().withName("Daniel Meier").withPhone("87652533")
-            .withEmail("cornelia@example.com").withAddress("10th street").withTags("friends").build();
+            .withEmail("cornelia@example.com").withAddress("10th street").withTags("friends").build()
+            .withId(4);
     public static final Person ELLE = new PersonBuilder().withName("Elle Meyer").withPhone("9482224")
-            .withLinkedEventAlias("MEET24").withEmail("werner@example.com").withAddress("michegan ave").build();
+            .withLinkedEvent(MEETING.getId()).withEmail("werner@example.com").withAddress("michegan ave").build()
+            .withId(5);
     public static final Person FIONA = new PersonBuilder().withName("Fiona Kunz").withPhone("9482427")
-            .withLinkedEventAlias("MEET24").withEmail("lydia@example.com").withAddress("little tokyo").build();
+            .withLinkedEvent(MEETING.getId()).withEmail("lydia@example.com").withAddress("little tokyo").build()
+            .withId(6);
     public static final Person GEORGE = new PersonBuilder().withName("George Best").withPhone("9482442")
-            .withEmail("anna@example.com").withAddress("4th street").build();
-    public static final Person JOHN = new PersonBuilder().withName("John Smith").withLinkedEventAlias("TSC2025")
-            .withPhone("9472442").withEmail("john@example.com").withAddress("4th street").build();
+            .withEmail("anna@example.com").withAddress("4th street").build()
+            .withId(7);
+    public static final Person JOHN = new PersonBuilder().withName("John Smith").withLinkedEvent(CONCERT.getId())
+            .withPhone("9472442").withEmail("john@example.com").withAddress("4th street").build()
+            .withId(8);
 
     // Manually added
     public static final Person HOON = new PersonBuilder().withName("Hoon Meier").withPhone("8482424")
@@ -1,5 +1,11 @@
 package seedu.address.testutil;
 
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.JOHN;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -14,49 +20,49 @@ public class TypicalTodos {
     public static final Todo REVIEW_PROPOSAL = new TodoBuilder()
             .withTodoName("Review Project Proposal")
             .withDescription("Review the Q1 project proposal document")
-            .withContactName("John Doe")
+            .withContact(JOHN.getId())
             .withCompleted(false)
             .build();
 
     public static final Todo SEND_INVITES = new TodoBuilder()
             .withTodoName("Send Meeting Invites")
             .withDescription("Send calendar invites for team meeting")
-            .withContactName("Alice Smith")
+            .withContact(ALICE.getId())
             .withCompleted(true)
             .build();
 
     public static final Todo UPDATE_DOCS = new TodoBuilder()
             .withTodoName("Update Documentation")
             .withDescription("Update API documentation for new features")
-            .withoutContactName()
+            .withoutContact()
             .withCompleted(false)
             .build();
 
     public static final Todo BACKUP_DATABASE = new TodoBuilder()
             .withTodoName("Backup Database")
             .withDescription("Create weekly database backup")
-            .withoutContactName()
+            .withoutContact()
             .withCompleted(true)
             .build();
 
     public static final Todo CODE_REVIEW = new TodoBuilder()
             .withTodoName("Code Review")
             .withDescription("Review pull request #123")
-            .withContactName("Bob Wilson")
+            .withContact(BENSON.getId())
             .withCompleted(false)
             .build();
 
     public static final Todo TESTING = new TodoBuilder()
             .withTodoName("Write Unit Tests")
             .withDescription("Add unit tests for new feature")
-            .withContactName("Carol Brown")
+            .withContact(CARL.getId())
             .withCompleted(false)
             .build();
 
     public static final Todo DEPLOYMENT = new TodoBuilder()
             .withTodoName("Deploy to Production")
             .withDescription("Deploy version 2.1.0 to production")
-            .withContactName("David Lee")
+            .withContact(DANIEL.getId())
             .withCompleted(true)
             .build();
 